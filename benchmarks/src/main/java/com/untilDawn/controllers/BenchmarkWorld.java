@@ -0,0 +1,123 @@
+package com.untilDawn.controllers;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.untilDawn.headless.HeadlessGame;
+import com.untilDawn.headless.SessionOptions;
+import com.untilDawn.models.Bullet;
+import com.untilDawn.models.Enemy;
+import com.untilDawn.models.Player;
+import com.untilDawn.models.enums.EnemyType;
+import com.untilDawn.models.utils.EnemyStore;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * A headless session with a fixed crowd of enemies and bullets. Positions are drawn from a
+ * seeded generator so every fork measures the same layout, and can be put back between
+ * iterations once the benchmark has moved things around.
+ */
+class BenchmarkWorld {
+    // Far enough that nothing touches the player, so every enemy is checked on every pass
+    private static final float PLAYER_CLEARANCE = 150f;
+
+    final HeadlessGame game;
+    final GameController controller;
+    final EnemyController enemyController;
+    final WeaponController weaponController;
+    final EnemyStore store;
+    final Player player;
+
+    private final Random random = new Random(42);
+    private float[] enemyX = new float[0];
+    private float[] enemyY = new float[0];
+
+    BenchmarkWorld() {
+        HeadlessGame.initBackend(false);
+        game = new HeadlessGame(new SessionOptions());
+        controller = game.getController();
+        enemyController = controller.getEnemyController();
+        weaponController = controller.getWeaponController();
+        store = enemyController.getEnemyStore();
+        player = controller.getPlayerController().getPlayer();
+    }
+
+    void spawnEnemies(int count) {
+        enemyX = new float[count];
+        enemyY = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            float x, y;
+            do {
+                x = 50 + random.nextFloat() * (controller.getMapWidth() - 100);
+                y = 50 + random.nextFloat() * (controller.getMapHeight() - 100);
+            } while (Math.abs(x - player.getPosX()) < PLAYER_CLEARANCE && Math.abs(y - player.getPosY()) < PLAYER_CLEARANCE);
+
+            enemyX[i] = x;
+            enemyY[i] = y;
+            store.add(new Enemy(EnemyType.TENTACLE, x, y));
+        }
+        enemyController.rebuildEnemyGrid();
+    }
+
+    /**
+     * Packs the enemies into a disc of the given radius in a corner of the map, far from the
+     * player, as a swarm looks after it has caught up with itself.
+     */
+    void spawnCrowd(int count, float crowdRadius) {
+        enemyX = new float[count];
+        enemyY = new float[count];
+        float centerX = crowdRadius + 50;
+        float centerY = crowdRadius + 50;
+
+        for (int i = 0; i < count; i++) {
+            float angle = random.nextFloat() * MathUtils.PI2;
+            float distance = (float) Math.sqrt(random.nextFloat()) * crowdRadius;
+            enemyX[i] = centerX + MathUtils.cos(angle) * distance;
+            enemyY[i] = centerY + MathUtils.sin(angle) * distance;
+            store.add(new Enemy(EnemyType.TENTACLE, enemyX[i], enemyY[i]));
+        }
+        enemyController.rebuildEnemyGrid();
+    }
+
+    /**
+     * Puts every enemy back where {@link #spawnEnemies(int)} placed it.
+     */
+    void resetEnemies() {
+        for (int i = 0; i < enemyX.length; i++) {
+            store.posX[i] = enemyX[i];
+            store.posY[i] = enemyY[i];
+            store.prevX[i] = enemyX[i];
+            store.prevY[i] = enemyY[i];
+        }
+        enemyController.rebuildEnemyGrid();
+    }
+
+    /**
+     * Replaces the live bullets with a fresh volley scattered over the map. Bullets do no
+     * damage, so hits never kill and the crowd stays the same size.
+     */
+    void fireVolley(int count) {
+        ArrayList<Bullet> bullets = weaponController.getBullets();
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            weaponController.releaseBullet(i);
+        }
+
+        for (int i = 0; i < count; i++) {
+            Bullet bullet = weaponController.getBulletPool().obtain();
+            float x = random.nextFloat() * controller.getMapWidth();
+            float y = random.nextFloat() * controller.getMapHeight();
+            bullet.init(x, y);
+            float angle = random.nextFloat() * MathUtils.PI2;
+            bullet.getDirection().set(MathUtils.cos(angle), MathUtils.sin(angle));
+            bullet.getPreviousPosition().set(x - bullet.getDirection().x * bullet.getSpeed(),
+                y - bullet.getDirection().y * bullet.getSpeed());
+            bullet.setDamage(0);
+            bullets.add(bullet);
+        }
+    }
+
+    void dispose() {
+        game.dispose();
+    }
+}
@@ -0,0 +1,58 @@
+package com.untilDawn.controllers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player bullets against the enemy grid. Bullets that hit are released, so every invocation
+ * starts from a fresh volley.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulletCollisionBenchmark {
+    @Param({"100", "1000", "5000"})
+    public int enemyCount;
+
+    @Param({"0", "50", "500"})
+    public int bulletCount;
+
+    private BenchmarkWorld world;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new BenchmarkWorld();
+        world.spawnEnemies(enemyCount);
+    }
+
+    @Setup(Level.Invocation)
+    public void fireVolley() {
+        world.fireVolley(bulletCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public void checkBulletCollisions() {
+        world.enemyController.checkBulletCollisions(GameController.SIMULATION_STEP);
+    }
+}
@@ -0,0 +1,66 @@
+package com.untilDawn.controllers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-step enemy work that scales with the size of the crowd: movement, the spatial grid
+ * rebuild and the player contact scan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyUpdateBenchmark {
+    @Param({"100", "1000", "5000"})
+    public int enemyCount;
+
+    private BenchmarkWorld world;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new BenchmarkWorld();
+        world.spawnEnemies(enemyCount);
+    }
+
+    // Chasers close in on the player while the benchmark runs; start each iteration from the same crowd
+    @Setup(Level.Iteration)
+    public void resetEnemies() {
+        world.resetEnemies();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public void updateEnemies() {
+        world.enemyController.updateEnemies(GameController.SIMULATION_STEP);
+    }
+
+    @Benchmark
+    public void rebuildEnemyGrid() {
+        world.enemyController.rebuildEnemyGrid();
+    }
+
+    @Benchmark
+    public void checkPlayerCollisions() {
+        world.enemyController.checkPlayerCollisions();
+    }
+}
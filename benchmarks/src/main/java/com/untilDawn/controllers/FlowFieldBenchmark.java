@@ -0,0 +1,64 @@
+package com.untilDawn.controllers;
+
+import com.untilDawn.models.utils.FlowField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One flow field rebuild over the game's map and trees, the player having just walked into
+ * another cell. The player circles the map so the shadows differ from one rebuild to the next.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowFieldBenchmark {
+    private static final int POSITIONS = 64;
+
+    private BenchmarkWorld world;
+    private FlowField flowField;
+    private final float[] targetX = new float[POSITIONS];
+    private final float[] targetY = new float[POSITIONS];
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new BenchmarkWorld();
+        world.enemyController.placeTrees();
+
+        float width = world.controller.getMapWidth();
+        float height = world.controller.getMapHeight();
+        flowField = new FlowField(width, height);
+        for (int i = 0; i < POSITIONS; i++) {
+            float angle = (float) (2 * Math.PI * i / POSITIONS);
+            targetX[i] = width / 2 + (float) Math.cos(angle) * width / 3;
+            targetY[i] = height / 2 + (float) Math.sin(angle) * height / 3;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public int rebuild() {
+        int i = next++ % POSITIONS;
+        flowField.update(world.store, null, targetX[i], targetY[i], 1f);
+        return flowField.getRebuilds();
+    }
+}
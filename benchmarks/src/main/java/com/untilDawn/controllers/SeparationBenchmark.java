@@ -0,0 +1,66 @@
+package com.untilDawn.controllers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One crowd separation pass, for crowds spread over the map and for the same number packed
+ * into a 400px disc. Doubling the crowd should double the time in both layouts: the packed
+ * one is where a pairwise pass would blow up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeparationBenchmark {
+    private static final float CROWD_RADIUS = 400f;
+
+    @Param({"625", "1250", "2500", "5000"})
+    public int enemyCount;
+
+    @Param({"scattered", "packed"})
+    public String layout;
+
+    private BenchmarkWorld world;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new BenchmarkWorld();
+        if (layout.equals("packed")) {
+            world.spawnCrowd(enemyCount, CROWD_RADIUS);
+        } else {
+            world.spawnEnemies(enemyCount);
+        }
+    }
+
+    // Separation spreads the crowd out; start each iteration from the same one
+    @Setup(Level.Iteration)
+    public void resetEnemies() {
+        world.resetEnemies();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public void separateEnemies() {
+        world.enemyController.separateEnemies(GameController.SIMULATION_STEP);
+    }
+}
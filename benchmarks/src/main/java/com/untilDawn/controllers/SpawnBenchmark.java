@@ -0,0 +1,68 @@
+package com.untilDawn.controllers;
+
+import com.badlogic.gdx.math.Vector2;
+import com.untilDawn.models.Enemy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spawn placement. Neither call looks at the existing crowd, so there is nothing to
+ * parameterize; placing trees is measured with its rejection sampling and texture lookups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnBenchmark {
+    // Size of Images/map.png
+    private static final float MAP_WIDTH = 2704f;
+    private static final float MAP_HEIGHT = 2384f;
+
+    @State(Scope.Thread)
+    public static class Forest {
+        BenchmarkWorld world;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            world = new BenchmarkWorld();
+        }
+
+        // Trees are appended to the store, so the ones just placed are always at the end
+        @TearDown(Level.Invocation)
+        public void removeTrees() {
+            while (world.store.size > 0) {
+                Enemy tree = world.store.remove(world.store.size - 1);
+                tree.dispose();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            world.dispose();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Vector2 getRandomSpawnPosition() {
+        return Enemy.getRandomSpawnPosition(MAP_WIDTH, MAP_HEIGHT, 50);
+    }
+
+    @Benchmark
+    public void placeTrees(Forest forest) {
+        forest.world.enemyController.placeTrees();
+    }
+}
@@ -0,0 +1,65 @@
+package com.untilDawn.models;
+
+import com.untilDawn.headless.HeadlessGame;
+import com.untilDawn.models.enums.Characters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The XP to level loops. Both walk the level table from level 1 on every call, so their cost
+ * grows with the total XP rather than with anything on screen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelBenchmark {
+    // Roughly level 3, 30 and 300
+    @Param({"100", "10000", "1000000"})
+    public int xp;
+
+    private Player player;
+    private LevelBar levelBar;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessGame.initBackend(false);
+        player = new Player(Characters.Shana);
+        // Levels up once here, so the measured calls only repeat the loop
+        player.addXP(xp);
+        levelBar = new LevelBar(null, 200, 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        player.dispose();
+        levelBar.dispose();
+    }
+
+    @Benchmark
+    public int updateLevel() {
+        player.updateLevel();
+        return player.getLevel();
+    }
+
+    @Benchmark
+    public LevelBar levelBarUpdate() {
+        levelBar.update(xp);
+        return levelBar;
+    }
+}
@@ -0,0 +1,81 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.untilDawn.headless.HeadlessGame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One frame's worth of HUD numbers: the countdown, an ability timer and the ammo counter, with
+ * time moving on by a 60 fps frame per call. Run with {@code -prof gc}; the cached lines should
+ * allocate nothing per frame, the formatted ones a few hundred bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HudTextBenchmark {
+    private static final float FRAME = 1 / 60f;
+
+    private BitmapFont font;
+    private HudText clock;
+    private HudText ability;
+    private HudText ammo;
+    private GlyphLayout layout;
+    private float time;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessGame.initBackend(false);
+        font = new BitmapFont();
+        clock = new HudText(font);
+        ability = new HudText(font);
+        ammo = new HudText(font);
+        layout = new GlyphLayout();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        font.dispose();
+    }
+
+    @Benchmark
+    public float cached() {
+        time += FRAME;
+        int remaining = 1200 - (int) time % 1200;
+        clock.setClock(remaining, Color.WHITE);
+        ability.setTenths(10f - time % 10f, Color.ORANGE);
+        // One shot every ten frames
+        ammo.setRatio(30 - (int) (time * 6f) % 30, 30, 3, Color.WHITE);
+        return clock.getWidth() + ability.getWidth() + ammo.getWidth();
+    }
+
+    @Benchmark
+    public float formatted() {
+        time += FRAME;
+        int remaining = 1200 - (int) time % 1200;
+        float width = 0f;
+        layout.setText(font, String.format("%02d:%02d", remaining / 60, remaining % 60));
+        width += layout.width;
+        layout.setText(font, String.format("%.1f", 10f - time % 10f));
+        width += layout.width;
+        layout.setText(font, String.format("%03d/%03d", 30 - (int) (time * 6f) % 30, 30));
+        return width + layout.width;
+    }
+}
@@ -0,0 +1,91 @@
+package com.untilDawn.models.utils;
+
+import com.untilDawn.headless.HeadlessGame;
+import com.untilDawn.models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What the scoreboard asks for on every sort click, the top ten and the viewer's own rank, and
+ * what a finished game costs to fold back into the rankings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaderboardBenchmark {
+    @Param({"100", "10000", "100000"})
+    public int userCount;
+
+    private File directory;
+    private UserRepository repository;
+    private Leaderboard leaderboard;
+    private User viewer;
+    private int kills;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        HeadlessGame.initBackend(false);
+
+        directory = Files.createTempDirectory("leaderboard").toFile();
+        repository = new UserRepository(new File(directory, "users.db").getPath());
+        leaderboard = new Leaderboard(repository);
+        // Builds the (empty) rankings so the updates below go into them
+        leaderboard.size();
+
+        Random random = new Random(42);
+        for (int i = 0; i < userCount; i++) {
+            User user = new User("user" + i, "password", "avatar1.png");
+            user.setScore(random.nextInt(100_000));
+            user.setKills(random.nextInt(10_000));
+            user.setSurvivalTime(random.nextFloat() * 10_000);
+            leaderboard.update(user);
+            if (i == userCount / 2) viewer = user;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        repository.close();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public int topTenAndRank() {
+        List<String> top = leaderboard.top(Leaderboard.Stat.KILLS, false, 10);
+        return top.size() + leaderboard.rankOf(Leaderboard.Stat.KILLS, false, viewer.getUsername());
+    }
+
+    @Benchmark
+    public int gameOver() {
+        viewer.setKills(viewer.getKills() + (++kills % 50));
+        leaderboard.update(viewer);
+        return leaderboard.size();
+    }
+}
@@ -0,0 +1,97 @@
+package com.untilDawn.models.utils;
+
+import com.untilDawn.headless.HeadlessGame;
+import com.untilDawn.models.Enemy;
+import com.untilDawn.models.Game;
+import com.untilDawn.models.Player;
+import com.untilDawn.models.User;
+import com.untilDawn.models.enums.Characters;
+import com.untilDawn.models.enums.EnemyType;
+import com.untilDawn.models.enums.Weapons;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving and loading a game with a given number of live enemies. This goes through the real
+ * save directory in the working directory under its own user name, including the sync and
+ * rename of every save, and deletes that save again when the trial ends. {@link #createSnapshot()}
+ * is the part of an autosave that still runs on the render thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveSystemBenchmark {
+    private static final String USERNAME = "jmh-benchmark";
+
+    @Param({"100", "2000", "5000"})
+    public int enemyCount;
+
+    private User user;
+    private Game game;
+    private Player player;
+    private EnemyStore enemyStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessGame.initBackend(false);
+
+        user = new User(USERNAME, "", null);
+        player = new Player(Characters.Shana);
+        game = new Game(20);
+        game.setPlayer(player);
+        game.setSelectedWeapon(Weapons.Revolver);
+
+        enemyStore = new EnemyStore(enemyCount);
+        Random random = new Random(42);
+        for (int i = 0; i < enemyCount; i++) {
+            Enemy enemy = new Enemy(EnemyType.TENTACLE, random.nextFloat() * 2000, random.nextFloat() * 2000);
+            game.addEnemy(enemy);
+            enemyStore.add(enemy);
+        }
+
+        // loadGame needs something to read from the first invocation on
+        GameSaveSystem.saveGame(user, game, player, 60f);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        GameSaveSystem.deleteSavedGame(user);
+        enemyStore.clear();
+        for (Enemy enemy : game.getEnemies()) {
+            enemy.dispose();
+        }
+        player.dispose();
+    }
+
+    @Benchmark
+    public boolean saveGame() {
+        return GameSaveSystem.saveGame(user, game, player, 60f);
+    }
+
+    @Benchmark
+    public GameSaveSystem.GameSaveData createSnapshot() {
+        return GameSaveSystem.createSnapshot(user, game, player, 60f, enemyStore);
+    }
+
+    @Benchmark
+    public GameSaveSystem.GameSaveData loadGame() {
+        return GameSaveSystem.loadGame(user);
+    }
+}
@@ -0,0 +1,88 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The grid on its own, without any game objects: one full rebuild per step plus one swept
+ * query per bullet, the same pattern the enemy controller runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialHashGridBenchmark {
+    private static final float WORLD_WIDTH = 2704f;
+    private static final float WORLD_HEIGHT = 2384f;
+    private static final float CELL_SIZE = 128f;
+    private static final float ENEMY_RADIUS = 20f;
+    private static final float BULLET_SWEEP = 10f;
+
+    @Param({"100", "1000", "5000"})
+    public int enemyCount;
+
+    @Param({"0", "50", "500"})
+    public int bulletCount;
+
+    private SpatialHashGrid<Integer> grid;
+    private Integer[] items;
+    private float[] enemyX;
+    private float[] enemyY;
+    private float[] bulletX;
+    private float[] bulletY;
+    private final Array<Integer> nearby = new Array<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        grid = new SpatialHashGrid<>(WORLD_WIDTH, WORLD_HEIGHT, CELL_SIZE);
+
+        items = new Integer[enemyCount];
+        enemyX = new float[enemyCount];
+        enemyY = new float[enemyCount];
+        for (int i = 0; i < enemyCount; i++) {
+            items[i] = i;
+            enemyX[i] = random.nextFloat() * WORLD_WIDTH;
+            enemyY[i] = random.nextFloat() * WORLD_HEIGHT;
+        }
+
+        bulletX = new float[bulletCount];
+        bulletY = new float[bulletCount];
+        for (int i = 0; i < bulletCount; i++) {
+            bulletX[i] = random.nextFloat() * WORLD_WIDTH;
+            bulletY[i] = random.nextFloat() * WORLD_HEIGHT;
+        }
+    }
+
+    @Benchmark
+    public int rebuildAndQuery() {
+        grid.clear();
+        for (int i = 0; i < enemyCount; i++) {
+            grid.insert(items[i], enemyX[i], enemyY[i], ENEMY_RADIUS);
+        }
+
+        int candidates = 0;
+        for (int i = 0; i < bulletCount; i++) {
+            grid.query(bulletX[i] - BULLET_SWEEP, bulletY[i] - BULLET_SWEEP,
+                bulletX[i] + BULLET_SWEEP, bulletY[i] + BULLET_SWEEP, nearby);
+            candidates += nearby.size;
+        }
+        return candidates;
+    }
+}
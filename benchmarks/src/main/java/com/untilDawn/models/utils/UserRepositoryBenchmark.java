@@ -0,0 +1,74 @@
+package com.untilDawn.models.utils;
+
+import com.untilDawn.headless.HeadlessGame;
+import com.untilDawn.models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving the account list after a game, when only the player's own user changed, with a growing
+ * number of accounts. Runs against a throwaway database in the temp directory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserRepositoryBenchmark {
+    @Param({"100", "10000", "100000"})
+    public int userCount;
+
+    private File directory;
+    private UserRepository repository;
+    private User player;
+    private int kills;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        HeadlessGame.initBackend(false);
+
+        directory = Files.createTempDirectory("user-repository").toFile();
+        repository = new UserRepository(new File(directory, "users.db").getPath());
+
+        for (int i = 0; i < userCount; i++) {
+            repository.add(new User("user" + i, "password", "avatar1.png"));
+        }
+        repository.save();
+        player = repository.find("user" + userCount / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        repository.close();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public boolean saveAfterGame() {
+        player.setKills(++kills);
+        return repository.save();
+    }
+}
@@ -0,0 +1,86 @@
+package com.untilDawn.models.utils;
+
+import com.untilDawn.headless.HeadlessGame;
+import com.untilDawn.models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * From a cold repository to a logged-in user: opening the database and looking up one account,
+ * for databases of very different sizes. Should not depend on the number of accounts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class UserStartupBenchmark {
+    @Param({"1000", "1000000"})
+    public int userCount;
+
+    private File directory;
+    private String databaseFile;
+    private UserRepository repository;
+    private int lookup;
+
+    @Setup(Level.Trial)
+    public void createDatabase() throws IOException {
+        HeadlessGame.initBackend(false);
+
+        directory = Files.createTempDirectory("user-startup").toFile();
+        databaseFile = new File(directory, "users.db").getPath();
+
+        UserRepository setup = new UserRepository(databaseFile);
+        for (int i = 0; i < userCount; i++) {
+            setup.add(new User("user" + i, "password", "avatar1.png"));
+            // Keeps the set of pending users, and with it the heap, small while filling the database
+            if (i % 10_000 == 9_999) setup.save();
+        }
+        setup.save();
+        setup.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void open() {
+        repository = new UserRepository(databaseFile);
+    }
+
+    @TearDown(Level.Invocation)
+    public void close() {
+        repository.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDatabase() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public User startAndLogIn() {
+        lookup = (lookup + 7919) % userCount;
+        return repository.find("user" + lookup);
+    }
+}
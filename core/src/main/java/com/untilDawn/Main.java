@@ -8,32 +8,46 @@ import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.kotcrab.vis.ui.VisUI;
 import com.untilDawn.models.App;
+import com.untilDawn.models.utils.AutoSaver;
+import com.untilDawn.models.utils.FrameProfiler;
 import com.untilDawn.models.utils.GameAssetManager;
 import com.untilDawn.models.utils.GrayscaleShader;
 import com.untilDawn.models.utils.LightingManager;
 import com.untilDawn.models.utils.UIHelper;
-import com.untilDawn.views.StartMenu;
+import com.untilDawn.models.utils.UserRepository;
+import com.untilDawn.views.LoadingScreen;
 
 
 public class Main extends Game {
     private static Main main;
     private static SpriteBatch batch;
+    // Slice of each frame spent on assets queued in the background, such as the next screen's group
+    private static final int BACKGROUND_LOAD_MILLIS = 4;
+
     private Music menuMusic;
-    private Sound clickSound;
     private DragAndDrop dragAndDrop;
 
     public static SpriteBatch getBatch() {
         return batch;
     }
 
+    /**
+     * For drawing without {@link #create()}, like the headless GL checks do.
+     */
+    public static void setBatch(SpriteBatch batch) {
+        Main.batch = batch;
+    }
+
     public static Main getMain() {
         return main;
     }
 
     @Override
     public void create() {
+        long launchTime = TimeUtils.millis();
         VisUI.load();
         main = this;
         batch = new SpriteBatch();
@@ -44,13 +58,11 @@ public class Main extends Game {
         Gdx.graphics.setCursor(customCursor);
         cursorPixmap.dispose();
 
+        // Music streams from disk, so opening it here costs next to nothing
         loadMenuMusic();
 
-        clickSound = Gdx.audio.newSound(Gdx.files.internal("sounds/effects/click.wav"));
-
-        StartMenu startMenu = new StartMenu(GameAssetManager.getGameAssetManager().getSkin());
-        
-        setScreen(startMenu);
+        // The loading screen drives the asset queue and opens the start menu when it is done
+        setScreen(new LoadingScreen(launchTime));
     }
 
     private void loadMenuMusic() {
@@ -75,12 +87,19 @@ public class Main extends Game {
 
     @Override
     public void render() {
+        GameAssetManager gameAssetManager = GameAssetManager.getGameAssetManager();
+        if (gameAssetManager.isLoaded()) {
+            gameAssetManager.update(BACKGROUND_LOAD_MILLIS);
+        }
         super.render();
     }
 
     @Override
     public void dispose() {
         App.save();
+        UserRepository.getInstance().close();
+
+        AutoSaver.getInstance().dispose();
 
         if (batch != null) {
             batch.dispose();
@@ -93,17 +112,14 @@ public class Main extends Game {
             menuMusic = null;
         }
 
-        if (clickSound != null) {
-            clickSound.dispose();
-            clickSound = null;
-        }
-
         UIHelper.dispose();
 
         GameAssetManager.getGameAssetManager().dispose();
 
         LightingManager.getInstance().dispose();
 
+        FrameProfiler.getInstance().dispose();
+
         GrayscaleShader.getInstance().dispose();
 
         if (getScreen() != null) {
@@ -113,7 +129,7 @@ public class Main extends Game {
 
     public Sound getClickSound() {
         if (App.isSFX()) {
-            return clickSound;
+            return GameAssetManager.getGameAssetManager().getClickSound();
         } else {
             return null;
         }
@@ -2,23 +2,36 @@ package com.untilDawn.controllers;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.*;
+import com.badlogic.gdx.utils.Array;
 import com.untilDawn.Main;
 import com.untilDawn.models.*;
 import com.untilDawn.models.enums.EnemyType;
+import com.untilDawn.models.utils.CrowdSeparation;
+import com.untilDawn.models.utils.EnemyStore;
+import com.untilDawn.models.utils.FlowField;
+import com.untilDawn.models.utils.FrameProfiler;
 import com.untilDawn.models.utils.GameAssetManager;
+import com.untilDawn.models.utils.GameInput;
+import com.untilDawn.models.utils.GdxGameInput;
+import com.untilDawn.models.utils.SpatialHashGrid;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.RecursiveAction;
 
 public class EnemyController {
-    private ArrayList<Enemy> enemies = new ArrayList<>();
+    private final EnemyStore enemyStore = new EnemyStore();
+    private final float[] speedByType = new float[EnemyType.values().length];
     private PlayerController playerController;
     private WeaponController weaponController;
+    private GameInput input = GdxGameInput.getInstance();
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
     private float initialSpawnRate = 3.0f;
     private float currentSpawnRate;
     private float minimumSpawnRate = 0.5f;
@@ -32,9 +45,34 @@ public class EnemyController {
 
     private Circle bulletCircle = new Circle();
     private Circle enemyCircle = new Circle();
-    private Vector2 bulletVelocity = new Vector2();
     private Vector2 prevBulletPos = new Vector2();
     private Vector2 currentBulletPos = new Vector2();
+    private Vector2 enemyCenter = new Vector2();
+    private Vector3 autoAimTarget = new Vector3();
+    private Circle playerCircle = new Circle();
+
+    // The part of the world on screen this frame, and how many enemy sprites fell in and out of it
+    private final Rectangle viewBounds = new Rectangle();
+    private int drawnSprites;
+    private int culledSprites;
+
+    // Broadphase for bullet collisions, rebuilt after enemies move each frame
+    private static final float GRID_CELL_SIZE = 128f;
+    private SpatialHashGrid<Enemy> enemyGrid;
+    private final Array<Enemy> nearbyEnemies = new Array<>();
+    // Paths around trees and the Elder's barrier, shared by every enemy walking towards the player
+    private final FlowField flowField;
+
+    // Enemies per task when the think phase is split across threads; a smaller crowd stays on this one
+    private static final int THINK_CHUNK = 512;
+    private static final boolean PARALLEL_THINK = Runtime.getRuntime().availableProcessors() > 1;
+    private final Array<ThinkRange> thinkRanges = new Array<>();
+    private Player thinkPlayer;
+    private float thinkDelta;
+
+    // Keeps walking enemies from stacking up; the fastest an enemy is pushed aside, per 60Hz frame
+    private static final float MAX_SEPARATION_SPEED = 1.5f;
+    private final CrowdSeparation crowdSeparation;
 
     private float lastTentacleSpawnTime = 0;
     private float lastEyeBatSpawnTime = 0;
@@ -50,6 +88,14 @@ public class EnemyController {
         this.mapWidth = mapWidth;
         this.mapHeight = mapHeight;
         this.currentSpawnRate = initialSpawnRate;
+        this.enemyGrid = new SpatialHashGrid<>(mapWidth, mapHeight, GRID_CELL_SIZE);
+        this.flowField = new FlowField(mapWidth, mapHeight);
+        boolean[] separatedByType = new boolean[EnemyType.values().length];
+        for (EnemyType type : EnemyType.values()) {
+            speedByType[type.ordinal()] = type.getSpeed();
+            separatedByType[type.ordinal()] = type.canMove() && type != EnemyType.ELDER;
+        }
+        this.crowdSeparation = new CrowdSeparation(mapWidth, mapHeight, separatedByType);
 
         this.totalGameTimeLimit = App.getGame() != null ? App.getGame().getTimeLimit() * 60 : 300;
 
@@ -77,8 +123,8 @@ public class EnemyController {
 
             // Check if trees were restored from saved game
             boolean treesFound = false;
-            for (Enemy enemy : enemies) {
-                if (enemy.getType() == com.untilDawn.models.enums.EnemyType.TREE) {
+            for (int i = 0; i < enemyStore.size; i++) {
+                if (enemyStore.type[i] == EnemyType.TREE.ordinal()) {
                     treesFound = true;
                     break;
                 }
@@ -88,11 +134,11 @@ public class EnemyController {
             this.treesPlaced = treesFound;
 
             Gdx.app.log("EnemyController", "Restored game state - Time: " + gameTime +
-                ", Enemies: " + enemies.size() + ", Elder Boss: " + elderBossSpawned +
+                ", Enemies: " + enemyStore.size + ", Elder Boss: " + elderBossSpawned +
                 ", Trees found: " + treesFound);
         } else {
             // New game - start fresh
-            this.enemies = new ArrayList<>();
+            enemyStore.clear();
             this.gameTime = 0;
             this.elderBossSpawned = false;
             this.treesPlaced = false; // Trees will be placed in update()
@@ -102,132 +148,52 @@ public class EnemyController {
     }
 
     private void restoreSavedEnemies() {
+        enemyStore.clear();
         if (App.getGame() == null || App.getGame().getEnemies() == null) {
-            this.enemies = new ArrayList<>();
             return;
         }
 
-        this.enemies = new ArrayList<>();
         int treeCount = 0;
         int activeEnemyCount = 0;
 
-        for (Enemy savedEnemy : App.getGame().getEnemies()) {
-            if (savedEnemy != null) {
-                // Always restore trees, regardless of active state
-                boolean isTree = savedEnemy.getType() == com.untilDawn.models.enums.EnemyType.TREE;
-
-                // Create new enemy instance with proper state restoration
-                // For trees or active enemies
-                if (isTree || savedEnemy.isActive()) {
-                    Enemy restoredEnemy = restoreEnemyState(savedEnemy);
-                    if (restoredEnemy != null) {
-                        this.enemies.add(restoredEnemy);
-
-                        if (isTree) {
-                            treeCount++;
-                            Gdx.app.log("EnemyController", "Restored tree at position: (" +
-                                restoredEnemy.getPosX() + ", " + restoredEnemy.getPosY() + ")");
-                        }
-
-                        if (restoredEnemy.isActive()) {
-                            activeEnemyCount++;
-                        }
-
-                        // Check if this is an Elder Boss
-                        if (restoredEnemy instanceof ElderBoss) {
-                            this.elderBoss = (ElderBoss) restoredEnemy;
-                            this.elderBossSpawned = true;
-                            Gdx.app.log("EnemyController", "Restored Elder Boss");
-                        }
-                    }
-                }
+        // GameSaveSystem has already restored these, so the store takes them over as they are
+        ArrayList<Enemy> savedEnemies = App.getGame().getEnemies();
+        for (Enemy savedEnemy : savedEnemies) {
+            if (savedEnemy == null) {
+                continue;
             }
-        }
-
-        Gdx.app.log("EnemyController", "Restored " + enemies.size() + " enemies from save " +
-            "(Trees: " + treeCount + ", Active enemies: " + activeEnemyCount + ")");
-    }
-
-    // In EnemyController.java - Update the restoreEnemyState method
+            enemyStore.add(savedEnemy);
 
-    private Enemy restoreEnemyState(Enemy savedEnemy) {
-        try {
-            Enemy restoredEnemy;
-
-            // Create the appropriate enemy type
-            if (savedEnemy instanceof ElderBoss) {
-                restoredEnemy = new ElderBoss(savedEnemy.getPosX(), savedEnemy.getPosY(), mapWidth, mapHeight);
-                this.elderBoss = (ElderBoss) restoredEnemy;
-                this.elderBossSpawned = true;
-            } else {
-                restoredEnemy = new Enemy(savedEnemy.getType(), savedEnemy.getPosX(), savedEnemy.getPosY());
+            if (savedEnemy.getType() == EnemyType.TREE) {
+                treeCount++;
             }
 
-            // CRITICAL: Restore exact position BEFORE any other operations
-            restoredEnemy.setPosX(savedEnemy.getPosX());
-            restoredEnemy.setPosY(savedEnemy.getPosY());
-
-            // Update sprite position immediately to match the restored position
-            if (restoredEnemy.getSprite() != null) {
-                restoredEnemy.getSprite().setPosition(
-                    restoredEnemy.getPosX() - restoredEnemy.getSprite().getWidth() / 2,
-                    restoredEnemy.getPosY() - restoredEnemy.getSprite().getHeight() / 2
-                );
+            if (savedEnemy.isActive()) {
+                activeEnemyCount++;
             }
 
-            // Update bounding box to match position
-            if (restoredEnemy.getBoundingBox() != null) {
-                restoredEnemy.getBoundingBox().setPosition(
-                    restoredEnemy.getPosX() - restoredEnemy.getSprite().getWidth() / 2,
-                    restoredEnemy.getPosY() - restoredEnemy.getSprite().getHeight() / 2
-                );
+            if (savedEnemy instanceof ElderBoss boss) {
+                this.elderBoss = boss;
+                this.elderBossSpawned = true;
+                Gdx.app.log("EnemyController", "Restored Elder Boss");
             }
-
-            // Restore health state AFTER position is set
-            restoreCommonEnemyState(restoredEnemy, savedEnemy);
-
-            // Log position restoration for debugging
-            Gdx.app.log("EnemyController", String.format("Restored %s at exact position: (%.2f, %.2f)",
-                savedEnemy.getType().getName(), restoredEnemy.getPosX(), restoredEnemy.getPosY()));
-
-            return restoredEnemy;
-
-        } catch (Exception e) {
-            Gdx.app.error("EnemyController", "Failed to restore enemy: " + e.getMessage());
-            return null;
         }
-    }
+        // The store owns them from here on
+        savedEnemies.clear();
 
-    // Update the restoreCommonEnemyState method to ensure position integrity
-    private void restoreCommonEnemyState(Enemy newEnemy, Enemy savedEnemy) {
-        // Apply damage to match saved health (but don't kill the enemy yet)
-        int healthDiff = savedEnemy.getType().getHealth() - savedEnemy.getHealth();
-        for (int i = 0; i < healthDiff && newEnemy.isActive(); i++) {
-            newEnemy.hit(1); // Apply damage without killing
-        }
-
-        // Ensure position remains exactly as saved (in case hit() method affects position)
-        newEnemy.setPosX(savedEnemy.getPosX());
-        newEnemy.setPosY(savedEnemy.getPosY());
-
-        if (newEnemy.getSprite() != null) {
-            newEnemy.getSprite().setPosition(
-                newEnemy.getPosX() - newEnemy.getSprite().getWidth() / 2,
-                newEnemy.getPosY() - newEnemy.getSprite().getHeight() / 2
-            );
-        }
-
-        if (newEnemy.getBoundingBox() != null) {
-            newEnemy.getBoundingBox().setPosition(
-                newEnemy.getPosX() - newEnemy.getSprite().getWidth() / 2,
-                newEnemy.getPosY() - newEnemy.getSprite().getHeight() / 2
-            );
-        }
+        Gdx.app.log("EnemyController", "Restored " + enemyStore.size + " enemies from save " +
+            "(Trees: " + treeCount + ", Active enemies: " + activeEnemyCount + ")");
     }
 
-    public void update(float delta) {
+    /**
+     * One fixed simulation step: spawning, movement and collisions. Drawing happens in
+     * {@link #render(float)}.
+     */
+    public void simulate(float delta) {
+        enemyStore.storePreviousPositions();
+
         Map<String, String> keyBindings = App.getKeybinds();
-        if (autoAimCooldown <= 0 && Gdx.input.isKeyPressed(Input.Keys.valueOf(keyBindings.get("Auto Aim")))) {
+        if (autoAimCooldown <= 0 && input.isKeyPressed(Input.Keys.valueOf(keyBindings.get("Auto Aim")))) {
             autoAim = !autoAim;
             autoAimCooldown = 0.2f;
         } else {
@@ -241,6 +207,8 @@ public class EnemyController {
             App.getGame().setGameTime(gameTime);
         }
 
+        profiler.begin(FrameProfiler.Section.ENEMY_SPAWN);
+
         // Place trees if they haven't been placed yet
         // This handles both new games and loaded games where trees weren't saved
         if (!treesPlaced) {
@@ -251,8 +219,8 @@ public class EnemyController {
             if (App.getGame() != null && App.getGame().getGameTime() > 0.1f) {
                 // Count existing trees
                 int treeCount = 0;
-                for (Enemy enemy : enemies) {
-                    if (enemy.getType() == com.untilDawn.models.enums.EnemyType.TREE) {
+                for (int i = 0; i < enemyStore.size; i++) {
+                    if (enemyStore.type[i] == EnemyType.TREE.ordinal()) {
                         treeCount++;
                     }
                 }
@@ -278,14 +246,35 @@ public class EnemyController {
             spawnTentacleMonsters();
             spawnEyeBats();
         }
+        profiler.end(FrameProfiler.Section.ENEMY_SPAWN);
 
+        profiler.begin(FrameProfiler.Section.ENEMY_UPDATE);
         updateEnemies(delta);
+        separateEnemies(delta);
+        rebuildEnemyGrid();
+        profiler.end(FrameProfiler.Section.ENEMY_UPDATE);
+
+        profiler.begin(FrameProfiler.Section.ENEMY_COLLISIONS);
         checkBulletCollisions(delta);
         checkEnemyBulletCollisions(delta);
         checkPlayerCollisions();
-        drawEnemies();
+        profiler.end(FrameProfiler.Section.ENEMY_COLLISIONS);
+    }
+
+    public void render(float alpha) {
+        profiler.begin(FrameProfiler.Section.ENEMY_DRAW);
+        // Only what the camera can see is submitted to the batch
+        updateViewBounds();
+        drawnSprites = 0;
+        culledSprites = 0;
+        drawEnemies(alpha);
         drawEnemyBullets();
+        profiler.setSpriteCounts(drawnSprites, culledSprites);
+        profiler.end(FrameProfiler.Section.ENEMY_DRAW);
+
+        profiler.begin(FrameProfiler.Section.AUTO_AIM);
         checkAutoAim();
+        profiler.end(FrameProfiler.Section.AUTO_AIM);
     }
 
     private void checkElderBossSpawn() {
@@ -301,7 +290,7 @@ public class EnemyController {
     private void spawnElderBoss() {
         Vector2 spawnPos = getElderBossSpawnPosition();
         elderBoss = new ElderBoss(spawnPos.x, spawnPos.y, mapWidth, mapHeight);
-        enemies.add(elderBoss);
+        enemyStore.add(elderBoss);
 
         Gdx.app.log("EnemyController", "Elder Boss spawned at halfway point! Position: (" +
             spawnPos.x + ", " + spawnPos.y + ")");
@@ -323,9 +312,10 @@ public class EnemyController {
         float minDistance = 300f;
         float maxAttempts = 10;
 
+        Random random = App.getRandom();
         for (int i = 0; i < maxAttempts; i++) {
-            float angle = MathUtils.random(0, MathUtils.PI2);
-            float distance = minDistance + MathUtils.random(0, 200f);
+            float angle = random.nextFloat(0, MathUtils.PI2);
+            float distance = minDistance + random.nextFloat(0, 200f);
 
             float spawnX = playerX + MathUtils.cos(angle) * distance;
             float spawnY = playerY + MathUtils.sin(angle) * distance;
@@ -350,7 +340,7 @@ public class EnemyController {
             for (int i = 0; i < tentaclesToSpawn; i++) {
                 Vector2 spawnPos = Enemy.getRandomSpawnPosition(mapWidth, mapHeight, 50);
                 Enemy enemy = new Enemy(EnemyType.TENTACLE, spawnPos.x, spawnPos.y);
-                enemies.add(enemy);
+                enemyStore.add(enemy);
             }
 
             lastTentacleSpawnTime = gameTime;
@@ -374,7 +364,7 @@ public class EnemyController {
                 for (int i = 0; i < eyeBatsToSpawn; i++) {
                     Vector2 spawnPos = Enemy.getRandomSpawnPosition(mapWidth, mapHeight, 50);
                     Enemy enemy = new Enemy(EnemyType.EYEBAT, spawnPos.x, spawnPos.y);
-                    enemies.add(enemy);
+                    enemyStore.add(enemy);
                 }
 
                 Gdx.app.log("EnemyController", "Spawned " + eyeBatsToSpawn + " eye bats at time " + gameTime);
@@ -384,13 +374,14 @@ public class EnemyController {
         }
     }
 
-    private void placeTrees() {
+    void placeTrees() {
         ArrayList<Circle> treePositions = new ArrayList<>();
 
+        Random random = App.getRandom();
         int numberOfTrees = 30;
         for (int i = 0; i < numberOfTrees; i++) {
-            float x = MathUtils.random(100, mapWidth - 100);
-            float y = MathUtils.random(100, mapHeight - 100);
+            float x = random.nextFloat(100, mapWidth - 100);
+            float y = random.nextFloat(100, mapHeight - 100);
 
             float playerX = playerController.getPlayer().getPosX();
             float playerY = playerController.getPlayer().getPosY();
@@ -409,7 +400,7 @@ public class EnemyController {
 
             if (distanceToPlayer > 300 && !tooCloseToOtherTree) {
                 Enemy tree = new Enemy(EnemyType.TREE, x, y);
-                enemies.add(tree);
+                enemyStore.add(tree);
                 treePositions.add(new Circle(x, y, treeRadius));
             } else {
                 i--;
@@ -428,81 +419,159 @@ public class EnemyController {
         }
     }
 
-    private void updateEnemies(float delta) {
-        Iterator<Enemy> iterator = enemies.iterator();
-        while (iterator.hasNext()) {
-            Enemy enemy = iterator.next();
+    void updateEnemies(float delta) {
+        Player player = playerController.getPlayer();
+
+        ElderBoss.ElectricBarrier barrier = elderBoss != null && elderBoss.isActive() && elderBoss.isBarrierActive()
+            ? elderBoss.getBarrier() : null;
+        flowField.update(enemyStore, barrier, player.getPosX(), player.getPosY(), delta);
+
+        think(player, delta);
 
-            enemy.update(delta, playerController.getPlayer());
+        // Walk backwards: removal swaps the last enemy into the freed slot
+        int elder = EnemyType.ELDER.ordinal();
+        for (int i = enemyStore.size - 1; i >= 0; i--) {
+            if (enemyStore.isActive(i) && enemyStore.isChaser(i)) continue;
+
+            Enemy enemy = enemyStore.get(i);
+            if (enemyStore.type[i] == elder) {
+                // The Elder hurts the player with its barrier, so all of its step runs here
+                enemy.update(delta, player, flowField);
+            } else {
+                enemy.act(delta, player);
+            }
 
             // Remove enemy only after death animation is complete
             if (!enemy.isActive() && !enemy.isDropActive() && !enemy.isDeathAnimationPlaying()) {
                 if (enemy.isDeathAnimationComplete()) {
+                    enemyStore.remove(i);
                     enemy.dispose();
-                    iterator.remove();
                 }
             }
         }
     }
 
-    // ... Rest of the methods remain the same as in the original code ...
-    // (checkBulletCollisions, checkEnemyBulletCollisions, drawEnemyBullets, etc.)
+    /**
+     * Moves every enemy and runs its timers. Each enemy only touches its own state here, so a
+     * large crowd is cut into ranges that run on the common fork-join pool, this thread taking
+     * the first one. The side effects wait for the serial pass in {@link #updateEnemies}.
+     */
+    private void think(Player player, float delta) {
+        int size = enemyStore.size;
+        int ranges = (size + THINK_CHUNK - 1) / THINK_CHUNK;
+        if (ranges <= 1 || !PARALLEL_THINK) {
+            think(0, size, player, delta);
+            return;
+        }
+
+        thinkPlayer = player;
+        thinkDelta = delta;
+        while (thinkRanges.size < ranges) {
+            thinkRanges.add(new ThinkRange());
+        }
+        for (int r = 1; r < ranges; r++) {
+            ThinkRange range = thinkRanges.get(r);
+            range.reinitialize();
+            range.from = r * THINK_CHUNK;
+            range.to = Math.min(size, range.from + THINK_CHUNK);
+            range.fork();
+        }
+        think(0, THINK_CHUNK, player, delta);
+        for (int r = 1; r < ranges; r++) {
+            thinkRanges.get(r).join();
+        }
+        thinkPlayer = null;
+    }
+
+    private void think(int from, int to, Player player, float delta) {
+        // Idle chasers are moved in one pass over the arrays; everything else needs its object update
+        enemyStore.integrateChasers(flowField, from, to, player.getPosX(), player.getPosY(), speedByType, delta);
+
+        int elder = EnemyType.ELDER.ordinal();
+        for (int i = from; i < to; i++) {
+            if (enemyStore.isActive(i) && enemyStore.isChaser(i)) continue;
+            if (enemyStore.type[i] == elder) continue;
+            enemyStore.get(i).think(delta, player, flowField);
+        }
+    }
+
+    private class ThinkRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        int from;
+        int to;
+
+        @Override
+        protected void compute() {
+            think(from, to, thinkPlayer, thinkDelta);
+        }
+    }
+
+    void separateEnemies(float delta) {
+        crowdSeparation.separate(enemyStore, MAX_SEPARATION_SPEED * delta * 60);
+    }
 
-    private void checkBulletCollisions(float delta) {
+    void rebuildEnemyGrid() {
+        enemyGrid.clear();
+        for (int i = 0; i < enemyStore.size; i++) {
+            if (enemyStore.isActive(i)) {
+                enemyGrid.insert(enemyStore.enemies[i], enemyStore.posX[i], enemyStore.posY[i], enemyStore.radius[i]);
+            }
+        }
+    }
+
+    void checkBulletCollisions(float delta) {
         ArrayList<Bullet> bullets = weaponController.getBullets();
         if (bullets == null) return;
 
-        for (Bullet bullet : bullets) {
+        // Walk backwards: releasing a bullet moves the last one into its slot
+        for (int b = bullets.size() - 1; b >= 0; b--) {
+            Bullet bullet = bullets.get(b);
             if (bullet == null || !bullet.isActive()) continue;
 
+            // Sprites are placed at interpolated positions, so collide against the simulated one
             Sprite bulletSprite = bullet.getSprite();
-            float bulletX = bulletSprite.getX() + bulletSprite.getWidth() / 2;
-            float bulletY = bulletSprite.getY() + bulletSprite.getHeight() / 2;
+            float bulletX = bullet.getPosition().x;
+            float bulletY = bullet.getPosition().y;
             float bulletRadius = Math.min(bulletSprite.getWidth(), bulletSprite.getHeight()) / 3.0f;
 
-            prevBulletPos.set(currentBulletPos);
+            // Sweep from where this bullet was last frame so fast bullets can't tunnel through
+            prevBulletPos.set(bullet.getPreviousPosition());
             currentBulletPos.set(bulletX, bulletY);
-
-            if (prevBulletPos.x == 0 && prevBulletPos.y == 0) {
-                prevBulletPos.set(currentBulletPos);
-            }
-
-            bulletVelocity.set(bullet.getDirection()).scl(15f);
             bulletCircle.set(bulletX, bulletY, bulletRadius);
 
-            for (Enemy enemy : enemies) {
-                if (!enemy.isActive()) continue;
-
-                float enemyX = enemy.getPosX();
-                float enemyY = enemy.getPosY();
-                Rectangle boundingBox = enemy.getBoundingBox();
+            enemyGrid.query(
+                Math.min(prevBulletPos.x, bulletX) - bulletRadius,
+                Math.min(prevBulletPos.y, bulletY) - bulletRadius,
+                Math.max(prevBulletPos.x, bulletX) + bulletRadius,
+                Math.max(prevBulletPos.y, bulletY) + bulletRadius,
+                nearbyEnemies
+            );
 
-                float enemyRadius;
-                if (enemy.getType() == EnemyType.TREE) {
-                    enemyRadius = Math.max(boundingBox.width, boundingBox.height) / 3.0f;
-                } else if (enemy.getType() == EnemyType.ELDER) {
-                    enemyRadius = Math.max(boundingBox.width, boundingBox.height) / 2.0f;
-                } else {
-                    enemyRadius = Math.max(boundingBox.width, boundingBox.height) / 2.5f;
-                }
+            for (int i = 0; i < nearbyEnemies.size; i++) {
+                Enemy enemy = nearbyEnemies.get(i);
+                if (!enemy.isActive()) continue;
 
-                enemyCircle.set(enemyX, enemyY, enemyRadius);
+                float enemyRadius = enemy.getCollisionRadius();
+                enemyCenter.set(enemy.getPosX(), enemy.getPosY());
+                enemyCircle.set(enemyCenter.x, enemyCenter.y, enemyRadius);
 
                 boolean collision = false;
                 if (Intersector.overlaps(bulletCircle, enemyCircle)) {
                     collision = true;
                 } else if (Intersector.intersectSegmentCircle(prevBulletPos, currentBulletPos,
-                    new Vector2(enemyX, enemyY), enemyRadius * enemyRadius)) {
+                    enemyCenter, enemyRadius * enemyRadius)) {
                     collision = true;
                 }
 
                 if (collision) {
-                    boolean killed = enemy.hit(bullet.getDamage());
-                    bullet.setActive(false);
+                    enemy.hit(bullet.getDamage());
+                    weaponController.releaseBullet(b);
                     break;
                 }
             }
         }
+        nearbyEnemies.clear();
     }
 
     private void checkEnemyBulletCollisions(float delta) {
@@ -512,20 +581,21 @@ public class EnemyController {
         float playerX = player.getPosX();
         float playerY = player.getPosY();
         float playerRadius = Math.min(player.getPlayerSprite().getWidth(), player.getPlayerSprite().getHeight()) / 3.0f;
-        Circle playerCircle = new Circle(playerX, playerY, playerRadius);
+        playerCircle.set(playerX, playerY, playerRadius);
 
-        for (Enemy enemy : enemies) {
-            if (!enemy.isActive()) continue;
+        for (int i = 0; i < enemyStore.size; i++) {
+            if (!enemyStore.isActive(i)) continue;
 
+            Enemy enemy = enemyStore.get(i);
             ArrayList<Enemy.EnemyBullet> enemyBullets = enemy.getBullets();
-            Iterator<Enemy.EnemyBullet> bulletIterator = enemyBullets.iterator();
 
-            while (bulletIterator.hasNext()) {
-                Enemy.EnemyBullet bullet = bulletIterator.next();
+            // Indexed, and backwards so removals don't skip anything; an iterator per enemy per step adds up
+            for (int b = enemyBullets.size() - 1; b >= 0; b--) {
+                Enemy.EnemyBullet bullet = enemyBullets.get(b);
 
                 if (!bullet.isActive()) {
                     bullet.dispose();
-                    bulletIterator.remove();
+                    enemyBullets.remove(b);
                     continue;
                 }
 
@@ -538,25 +608,30 @@ public class EnemyController {
 
                     bullet.setActive(false);
                     bullet.dispose();
-                    bulletIterator.remove();
+                    enemyBullets.remove(b);
                 }
             }
         }
     }
 
     private void drawEnemyBullets() {
-        for (Enemy enemy : enemies) {
-            if (!enemy.isActive()) continue;
+        for (int i = 0; i < enemyStore.size; i++) {
+            if (!enemyStore.isActive(i)) continue;
+
+            ArrayList<Enemy.EnemyBullet> bullets = enemyStore.get(i).getBullets();
+            for (int b = 0; b < bullets.size(); b++) {
+                Enemy.EnemyBullet bullet = bullets.get(b);
+                if (!bullet.isActive()) continue;
 
-            for (Enemy.EnemyBullet bullet : enemy.getBullets()) {
-                if (bullet.isActive()) {
-                    bullet.getSprite().draw(Main.getBatch());
+                Sprite sprite = bullet.getSprite();
+                if (inView(sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight())) {
+                    sprite.draw(Main.getBatch());
                 }
             }
         }
     }
 
-    private void checkPlayerCollisions() {
+    void checkPlayerCollisions() {
         if (playerController == null || playerController.getPlayer() == null) return;
 
         Player player = playerController.getPlayer();
@@ -566,56 +641,54 @@ public class EnemyController {
         float playerX = player.getPosX();
         float playerY = player.getPosY();
         float playerRadius = Math.min(playerRect.width, playerRect.height) / 3.0f;
-        Circle playerCircle = new Circle(playerX, playerY, playerRadius);
-
-        for (Enemy enemy : enemies) {
-            Rectangle enemyRect = enemy.getBoundingBox();
-            float enemyX = enemy.getPosX();
-            float enemyY = enemy.getPosY();
-
-            float enemyRadius;
-            if (enemy.getType() == EnemyType.TREE) {
-                enemyRadius = Math.max(enemyRect.width, enemyRect.height) / 3.0f;
-            } else if (enemy.getType() == EnemyType.ELDER) {
-                enemyRadius = Math.max(enemyRect.width, enemyRect.height) / 2.0f;
-            } else {
-                enemyRadius = Math.max(enemyRect.width, enemyRect.height) / 2.5f;
-            }
 
-            Circle enemyCircle = new Circle(enemyX, enemyY, enemyRadius);
+        float[] posX = enemyStore.posX;
+        float[] posY = enemyStore.posY;
+        float[] radius = enemyStore.radius;
+        for (int i = 0; i < enemyStore.size; i++) {
+            float dx = posX[i] - playerX;
+            float dy = posY[i] - playerY;
+            float reach = playerRadius + radius[i];
+            boolean overlaps = dx * dx + dy * dy < reach * reach;
+
+            if (!overlaps) continue;
 
-            if (enemy.isActive() && Intersector.overlaps(playerCircle, enemyCircle)) {
+            if (enemyStore.isActive(i)) {
                 if (!player.isInvincible()) {
                     player.setPlayerHealth(player.getPlayerHealth() - 1);
                     player.setInvincible(true, 1.0f);
                     player.startCurseAnimation();
                 }
                 return;
-            } else if (!enemy.isActive() && enemy.isDropActive()) {
-                if (Intersector.overlaps(playerCircle, enemyCircle)) {
-                    enemy.collectDrop(player);
-                }
+            }
+
+            Enemy enemy = enemyStore.get(i);
+            if (enemy.isDropActive()) {
+                enemy.collectDrop(player);
             }
         }
     }
 
-    private void drawEnemies() {
+    private void drawEnemies(float alpha) {
         GameAssetManager assetManager = GameAssetManager.getGameAssetManager();
 
-        for (Enemy enemy : enemies) {
+        for (int i = 0; i < enemyStore.size; i++) {
+            Enemy enemy = enemyStore.get(i);
             // Draw death animation if playing
             if (enemy.isDeathAnimationPlaying()) {
-                Texture deathFrame = enemy.getDeathAnimationFrame();
+                TextureRegion deathFrame = enemy.getDeathAnimationFrame();
                 if (deathFrame != null) {
                     float deathScale = 2.0f;
-                    float deathX = enemy.getDeathPosX() - (deathFrame.getWidth() * deathScale) / 2;
-                    float deathY = enemy.getDeathPosY() - (deathFrame.getHeight() * deathScale) / 2;
+                    float deathWidth = deathFrame.getRegionWidth() * deathScale;
+                    float deathHeight = deathFrame.getRegionHeight() * deathScale;
+                    float deathX = enemy.getDeathPosX() - deathWidth / 2;
+                    float deathY = enemy.getDeathPosY() - deathHeight / 2;
+                    if (!inView(deathX, deathY, deathWidth, deathHeight)) continue;
 
-                    float alpha = 1.0f - (enemy.getDeathAnimTimer() / enemy.getDeathAnimation().getAnimationDuration()) * 0.3f;
-                    Main.getBatch().setColor(1f, 1f, 1f, alpha);
+                    float fade = 1.0f - (enemy.getDeathAnimTimer() / enemy.getDeathAnimation().getAnimationDuration()) * 0.3f;
+                    Main.getBatch().setColor(1f, 1f, 1f, fade);
 
-                    Main.getBatch().draw(deathFrame, deathX, deathY,
-                        deathFrame.getWidth() * deathScale, deathFrame.getHeight() * deathScale);
+                    Main.getBatch().draw(deathFrame, deathX, deathY, deathWidth, deathHeight);
 
                     Main.getBatch().setColor(1f, 1f, 1f, 1f);
                 }
@@ -624,27 +697,31 @@ public class EnemyController {
 
             // Draw living enemies
             if (enemy.isActive()) {
+                float renderX = enemyStore.getRenderX(i, alpha);
+                float renderY = enemyStore.getRenderY(i, alpha);
+
                 if (enemy instanceof ElderBoss boss) {
                     Sprite sprite = boss.getSprite();
                     float scale = 3.0f;
-                    sprite.setSize(sprite.getTexture().getWidth() * scale, sprite.getTexture().getHeight() * scale);
-                    sprite.setPosition(boss.getPosX() - sprite.getWidth() / 2, boss.getPosY() - sprite.getHeight() / 2);
+                    float width = sprite.getRegionWidth() * scale;
+                    float height = sprite.getRegionHeight() * scale;
+                    if (!inView(renderX - width / 2, renderY - height / 2, width, height)) continue;
+
+                    sprite.setSize(width, height);
+                    sprite.setPosition(renderX - sprite.getWidth() / 2, renderY - sprite.getHeight() / 2);
 
-                    float playerX = playerController.getPlayer().getPosX();
-                    float bossX = boss.getPosX();
+                    float playerX = playerController.getRenderX();
+                    float bossX = renderX;
 
                     sprite.setFlip(bossX > playerX, false);
                     sprite.setColor(1.0f, 0.9f, 0.8f, 1.0f);
                     sprite.draw(Main.getBatch());
 
                 } else {
-                    Animation<Texture> animation = assetManager.getEnemyAnimation(enemy.getType().getName());
+                    Animation<TextureRegion> animation = assetManager.getEnemyAnimation(enemy.getType().getName());
                     if (animation != null) {
                         animation.setPlayMode(Animation.PlayMode.LOOP);
-                        Texture currentFrame = animation.getKeyFrame(gameTime, true);
-
-                        Sprite sprite = enemy.getSprite();
-                        sprite.setTexture(currentFrame);
+                        TextureRegion currentFrame = animation.getKeyFrame(gameTime, true);
 
                         float scale = 1.0f;
                         if (enemy.getType() == EnemyType.TREE) {
@@ -653,12 +730,18 @@ public class EnemyController {
                             scale = 1.5f;
                         }
 
-                        sprite.setSize(currentFrame.getWidth() * scale, currentFrame.getHeight() * scale);
-                        sprite.setPosition(enemy.getPosX() - sprite.getWidth() / 2, enemy.getPosY() - sprite.getHeight() / 2);
+                        float width = currentFrame.getRegionWidth() * scale;
+                        float height = currentFrame.getRegionHeight() * scale;
+                        if (!inView(renderX - width / 2, renderY - height / 2, width, height)) continue;
+
+                        Sprite sprite = enemy.getSprite();
+                        GameAssetManager.setFrame(sprite, currentFrame);
+                        sprite.setSize(width, height);
+                        sprite.setPosition(renderX - sprite.getWidth() / 2, renderY - sprite.getHeight() / 2);
 
                         if (enemy.getType() != EnemyType.TREE) {
-                            float playerX = playerController.getPlayer().getPosX();
-                            float enemyX = enemy.getPosX();
+                            float playerX = playerController.getRenderX();
+                            float enemyX = renderX;
                             sprite.setFlip(enemyX > playerX, false);
                         }
 
@@ -666,35 +749,61 @@ public class EnemyController {
                     }
                 }
             } else if (enemy.isDropActive() && enemy.getDropSprite() != null) {
-                enemy.getDropSprite().draw(Main.getBatch());
+                Sprite dropSprite = enemy.getDropSprite();
+                if (inView(dropSprite.getX(), dropSprite.getY(), dropSprite.getWidth(), dropSprite.getHeight())) {
+                    dropSprite.draw(Main.getBatch());
+                }
             }
         }
     }
 
+    /**
+     * Fits {@link #viewBounds} to what the camera shows this frame.
+     */
+    private void updateViewBounds() {
+        OrthographicCamera camera = weaponController.getCamera();
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        viewBounds.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+    }
+
+    /**
+     * Whether a sprite drawn at the given rectangle would show up on screen; counts it as drawn
+     * or culled for the profiler.
+     */
+    private boolean inView(float x, float y, float width, float height) {
+        if (x < viewBounds.x + viewBounds.width && x + width > viewBounds.x &&
+            y < viewBounds.y + viewBounds.height && y + height > viewBounds.y) {
+            drawnSprites++;
+            return true;
+        }
+        culledSprites++;
+        return false;
+    }
+
     private void checkAutoAim() {
-        if (autoAim && !enemies.isEmpty()) {
-            Enemy closestEnemy = null;
+        if (autoAim && enemyStore.size > 0) {
+            float playerX = playerController.getPlayer().getPosX();
+            float playerY = playerController.getPlayer().getPosY();
+            int closestIndex = -1;
             float minDistance = Float.MAX_VALUE;
 
-            for (Enemy enemy : enemies) {
-                if (!enemy.isActive()) continue;
+            for (int i = 0; i < enemyStore.size; i++) {
+                if (!enemyStore.isActive(i)) continue;
 
-                float distance = Vector2.dst(
-                    playerController.getPlayer().getPosX(),
-                    playerController.getPlayer().getPosY(),
-                    enemy.getPosX(),
-                    enemy.getPosY()
-                );
+                float dx = enemyStore.posX[i] - playerX;
+                float dy = enemyStore.posY[i] - playerY;
+                float distance = dx * dx + dy * dy;
 
                 if (distance < minDistance) {
                     minDistance = distance;
-                    closestEnemy = enemy;
+                    closestIndex = i;
                 }
             }
 
-            if (closestEnemy != null) {
-                Vector3 enemyWorldPos = new Vector3(closestEnemy.getPosX(), closestEnemy.getPosY(), 0);
-                Vector3 screenCoords = weaponController.getCamera().project(enemyWorldPos);
+            if (closestIndex != -1) {
+                autoAimTarget.set(enemyStore.posX[closestIndex], enemyStore.posY[closestIndex], 0);
+                Vector3 screenCoords = weaponController.getCamera().project(autoAimTarget);
 
                 int cursorX = (int) screenCoords.x;
                 int cursorY = Gdx.graphics.getHeight() - (int) screenCoords.y;
@@ -705,10 +814,13 @@ public class EnemyController {
     }
 
     public void dispose() {
-        for (Enemy enemy : enemies) {
-            enemy.dispose();
+        for (int i = 0; i < enemyStore.size; i++) {
+            Enemy enemy = enemyStore.get(i);
+            if (enemy != elderBoss) {
+                enemy.dispose();
+            }
         }
-        enemies.clear();
+        enemyStore.clear();
 
         if (elderBoss != null) {
             elderBoss.dispose();
@@ -717,8 +829,29 @@ public class EnemyController {
     }
 
     // Getters
+
+    /**
+     * Snapshot of the live enemies, e.g. for saving. Per-frame code should read the
+     * {@link EnemyStore} instead.
+     */
     public ArrayList<Enemy> getEnemies() {
-        return enemies;
+        ArrayList<Enemy> snapshot = new ArrayList<>(enemyStore.size);
+        for (int i = 0; i < enemyStore.size; i++) {
+            snapshot.add(enemyStore.get(i));
+        }
+        return snapshot;
+    }
+
+    public EnemyStore getEnemyStore() {
+        return enemyStore;
+    }
+
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    public void setInput(GameInput input) {
+        this.input = input;
     }
 
     public boolean isElderBossSpawned() {
@@ -739,8 +872,8 @@ public class EnemyController {
 
     public int getActiveEnemyCount() {
         int count = 0;
-        for (Enemy enemy : enemies) {
-            if (enemy.isActive()) {
+        for (int i = 0; i < enemyStore.size; i++) {
+            if (enemyStore.isActive(i)) {
                 count++;
             }
         }
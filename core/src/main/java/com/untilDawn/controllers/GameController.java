@@ -1,18 +1,34 @@
 package com.untilDawn.controllers;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector3;
 import com.untilDawn.Main;
 import com.untilDawn.models.App;
 import com.untilDawn.models.Enemy;
 import com.untilDawn.models.Game;
 import com.untilDawn.models.User;
+import com.untilDawn.models.enums.Abilities;
+import com.untilDawn.models.utils.AutoSaver;
+import com.untilDawn.models.utils.FrameProfiler;
 import com.untilDawn.models.utils.GameAssetManager;
+import com.untilDawn.models.utils.GameInput;
+import com.untilDawn.models.utils.GameSaveSystem;
+import com.untilDawn.models.utils.GdxGameInput;
+import com.untilDawn.models.utils.Leaderboard;
+import com.untilDawn.models.utils.SessionRecorder;
 import com.untilDawn.views.main.EndGameScreen;
 import com.untilDawn.views.main.GameView;
 
 public class GameController {
+    // Simulation always advances in 60 Hz steps regardless of the display's refresh rate
+    public static final float SIMULATION_STEP = 1f / 60f;
+    // Longest frame we try to catch up on, so a stall doesn't turn into a burst of steps
+    private static final float MAX_FRAME_TIME = 0.25f;
+    // Seconds of play between autosaves; only the windowed game autosaves, headless sessions never do
+    private static final float AUTOSAVE_INTERVAL = 30f;
+
     private GameView view;
     private PlayerController playerController;
     private WeaponController weaponController;
@@ -26,13 +42,28 @@ public class GameController {
     private boolean gameOver = false;
     private int timeLimit;
 
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+
+    private float accumulator = 0f;
+    private float alpha = 0f;
+    private float timeSinceAutosave = 0f;
+
+    private GameInput input = GdxGameInput.getInstance();
+    private SessionRecorder recorder;
+    private final Vector3 mouseWorld = new Vector3();
+
+    /**
+     * Headless session: no view, camera or rendering, only {@link #simulate(float)}.
+     */
+    public GameController() {
+        this(null);
+    }
+
     public GameController(GameView view) {
         this.view = view;
 
-        Texture mapTexture = new Texture("Images/map.png");
-        this.mapWidth = mapTexture.getWidth();
-        this.mapHeight = mapTexture.getHeight();
-        mapTexture.dispose();
+        this.mapWidth = GameAssetManager.getGameAssetManager().getMapWidth();
+        this.mapHeight = GameAssetManager.getGameAssetManager().getMapHeight();
 
         this.timeLimit = App.getGame() != null ? App.getGame().getTimeLimit() : 5;
 
@@ -40,7 +71,9 @@ public class GameController {
         this.playerController = new PlayerController(App.getGame().getPlayer());
         this.weaponController = new WeaponController(App.getGame().getSelectedWeapon());
         this.weaponController.setPlayerController(playerController);
-        this.weaponController.setCamera(view.getCamera());
+        if (view != null) {
+            this.weaponController.setCamera(view.getCamera());
+        }
 
         this.worldController = new WorldController(playerController);
         playerController.setWeaponController(weaponController);
@@ -50,6 +83,7 @@ public class GameController {
 
         // Set up initial game state
         initializeGameState();
+        playerController.snapToCurrentPosition();
     }
 
     private void initializeGameState() {
@@ -66,30 +100,91 @@ public class GameController {
             // New game - set player to center
             this.playerController.getPlayer().setPosX(mapWidth / 2);
             this.playerController.getPlayer().setPosY(mapHeight / 2);
+            // Ability timers live on the enum and would otherwise carry over from the last game
+            for (Abilities ability : Abilities.values()) {
+                ability.reset();
+            }
             Gdx.app.log("GameController", "Starting new game");
         }
     }
 
-    public void updateGame() {
-        if (view != null && !gameOver) {
-            float deltaTime = Gdx.graphics.getDeltaTime();
-            gameTime += deltaTime;
-
-            // Update game time in the current game object for saving
-            if (App.getGame() != null) {
-                App.getGame().setGameTime(gameTime);
+    /**
+     * Advances the simulation by however many fixed steps fit into the frame time. Leftover
+     * time is carried to the next frame and exposed as the interpolation factor for rendering.
+     */
+    public void update(float frameTime) {
+        if (gameOver) return;
+
+        if (recorder != null) {
+            if (view != null) {
+                view.getCamera().unproject(mouseWorld.set(Gdx.input.getX(), Gdx.input.getY(), 0));
+                recorder.mouse(mouseWorld.x, mouseWorld.y);
             }
+            recorder.frameInput(input);
+        }
+        playerController.handleFrameInput();
+
+        accumulator += Math.min(frameTime, MAX_FRAME_TIME);
+        while (accumulator >= SIMULATION_STEP && !gameOver) {
+            simulate(SIMULATION_STEP);
+            accumulator -= SIMULATION_STEP;
+        }
 
-            OrthographicCamera camera = view.getCamera();
-            Main.getBatch().setProjectionMatrix(camera.combined);
+        alpha = accumulator / SIMULATION_STEP;
+        playerController.interpolate(alpha);
 
-            worldController.update();
-            enemyController.update(deltaTime);
-            playerController.update();
-            weaponController.update();
+        timeSinceAutosave += frameTime;
+        if (timeSinceAutosave >= AUTOSAVE_INTERVAL) {
+            timeSinceAutosave = 0f;
+            saveGame();
+        }
+    }
 
-            checkGameOver();
+    public void simulate(float delta) {
+        if (recorder != null) {
+            recorder.tick(input);
         }
+
+        gameTime += delta;
+
+        // Update game time in the current game object for saving
+        if (App.getGame() != null) {
+            App.getGame().setGameTime(gameTime);
+        }
+
+        profiler.begin(FrameProfiler.Section.PLAYER);
+        playerController.simulate(delta);
+        profiler.end(FrameProfiler.Section.PLAYER);
+
+        enemyController.simulate(delta);
+
+        profiler.begin(FrameProfiler.Section.WEAPONS);
+        weaponController.simulate(delta);
+        profiler.end(FrameProfiler.Section.WEAPONS);
+
+        checkGameOver();
+    }
+
+    /**
+     * Draws the world between the last two simulation steps. Must run inside the batch.
+     */
+    public void render() {
+        if (view == null || gameOver) return;
+
+        OrthographicCamera camera = view.getCamera();
+        Main.getBatch().setProjectionMatrix(camera.combined);
+
+        profiler.begin(FrameProfiler.Section.WORLD_DRAW);
+        worldController.render(camera);
+        profiler.end(FrameProfiler.Section.WORLD_DRAW);
+
+        enemyController.render(alpha);
+        playerController.render();
+        weaponController.render(alpha);
+    }
+
+    public float getAlpha() {
+        return alpha;
     }
 
     private void checkGameOver() {
@@ -100,8 +195,12 @@ public class GameController {
             if (!user.isGuest()) {
                 user.setKills(user.getKills() + App.getGame().getPlayer().getKills());
                 user.setSurvivalTime(user.getSurvivalTime() + gameTime);
+                Leaderboard.getInstance().update(user);
             }
             Gdx.app.log("GameController", "Player died - Health: " + playerController.getPlayer().getPlayerHealth());
+            if (Main.getMain() == null) return;
+            // The run is over and its stats are counted; continuing it would count them again
+            deleteSavedGame();
             Main.getMain().setScreen(new EndGameScreen(GameAssetManager.getGameAssetManager().getSkin(), user, gameTime, App.getGame().getPlayer().getKills(), EndGameScreen.EndGameStatus.DEFEAT));
         }
 
@@ -111,7 +210,10 @@ public class GameController {
             if (!user.isGuest()) {
                 user.setKills(user.getKills() + App.getGame().getPlayer().getKills());
                 user.setSurvivalTime(user.getSurvivalTime() + gameTime);
+                Leaderboard.getInstance().update(user);
             }
+            if (Main.getMain() == null) return;
+            deleteSavedGame();
             Main.getMain().setScreen(new EndGameScreen(GameAssetManager.getGameAssetManager().getSkin(), user, gameTime, App.getGame().getPlayer().getKills(), EndGameScreen.EndGameStatus.VICTORY));
         }
     }
@@ -155,6 +257,54 @@ public class GameController {
         return getRemainingTime() <= 10;
     }
 
+    /**
+     * Fires the weapon at a point in the world.
+     */
+    public void shoot(int x, int y) {
+        if (recorder != null) {
+            recorder.shot(x, y);
+        }
+        weaponController.handleWeaponShoot(x, y);
+    }
+
+    public void applyUpgrade(Abilities ability) {
+        if (recorder != null) {
+            recorder.upgrade(ability);
+        }
+        playerController.applyUpgrade(ability);
+    }
+
+    /**
+     * Starts recording the session for {@link com.untilDawn.models.utils.SessionReplay}. Only a
+     * game that hasn't run a step yet can be recorded.
+     */
+    public void startRecording() {
+        if (gameTime > 0) {
+            Gdx.app.error("GameController", "Only a new game can be recorded");
+            return;
+        }
+        recorder = new SessionRecorder(App.getGame());
+    }
+
+    /**
+     * Writes the recording, if there is one, and stops recording.
+     */
+    public void finishRecording(FileHandle file) {
+        if (recorder == null) return;
+        recorder.save(file);
+        recorder = null;
+    }
+
+    public SessionRecorder getRecorder() {
+        return recorder;
+    }
+
+    public void setInput(GameInput input) {
+        this.input = input;
+        playerController.setInput(input);
+        enemyController.setInput(input);
+    }
+
     public WeaponController getWeaponController() {
         return weaponController;
     }
@@ -172,6 +322,7 @@ public class GameController {
             enemyController.dispose();
         }
         playerController.getPlayer().dispose();
+        GameAssetManager.getGameAssetManager().releaseUnusedTextures();
     }
 
     public float getMapWidth() {
@@ -196,123 +347,37 @@ public class GameController {
         }
     }
 
+    /**
+     * Hands a snapshot of the running game to the background writer. Returns as soon as the
+     * snapshot is taken; use {@link AutoSaver#flush()} to wait for it to reach the disk.
+     */
     public void saveGame() {
         if (gameOver) {
             return;
         }
 
+        User user = App.getLoggedInUser();
         Game currentGame = App.getGame();
-        if (currentGame != null) {
-            currentGame.setGameTime(gameTime);
-
-            if (playerController != null && playerController.getPlayer() != null) {
-                currentGame.getPlayer().setPosX(playerController.getPlayer().getPosX());
-                currentGame.getPlayer().setPosY(playerController.getPlayer().getPosY());
-                currentGame.getPlayer().setPlayerHealth(playerController.getPlayer().getPlayerHealth());
-                currentGame.getPlayer().setMaxHealth(playerController.getPlayer().getMaxHealth());
-
-                currentGame.getPlayer().addXP(0);
-            }
-
-            if (weaponController != null && weaponController.getWeapon() != null) {
-                currentGame.getSelectedWeapon().setAmmo(weaponController.getWeapon().getAmmo());
-            }
-
-            // Clear and save current enemies
-            currentGame.getEnemies().clear();
-            if (enemyController != null && enemyController.getEnemies() != null) {
-                for (Enemy enemy : enemyController.getEnemies()) {
-                    Enemy enemyCopy = createEnemyCopy(enemy);
-                    if (enemyCopy != null) {
-                        currentGame.addEnemy(enemyCopy);
-                    }
-                }
-            }
-
-            boolean success = com.untilDawn.models.utils.GameSaveSystem.saveGame(
-                App.getLoggedInUser(),
-                currentGame,
-                currentGame.getPlayer(),
-                gameTime
-            );
-
-            if (success) {
-                Gdx.app.log("GameController", "Game saved successfully - Enemies: " +
-                    currentGame.getEnemies().size() + ", Time: " + gameTime);
-            } else {
-                Gdx.app.error("GameController", "Failed to save game");
-            }
+        if (user == null || user.isGuest() || currentGame == null) {
+            return;
         }
-    }
-
-    private Enemy createEnemyCopy(Enemy original) {
-        try {
-            Enemy copy;
-
-            // Create appropriate enemy type with EXACT position
-            if (original instanceof com.untilDawn.models.ElderBoss) {
-                copy = new com.untilDawn.models.ElderBoss(
-                    original.getPosX(),
-                    original.getPosY(),
-                    mapWidth,
-                    mapHeight
-                );
-            } else {
-                copy = new Enemy(original.getType(), original.getPosX(), original.getPosY());
-            }
-
-            copy.setPosX(original.getPosX());
-            copy.setPosY(original.getPosY());
-
-            if (!original.isActive()) {
-                int healthDiff = original.getType().getHealth();
-                for (int i = 0; i < healthDiff; i++) {
-                    copy.hit(1);
-                }
-            } else {
-                int healthDiff = original.getType().getHealth() - original.getHealth();
-                for (int i = 0; i < healthDiff && copy.isActive(); i++) {
-                    copy.hit(1);
-                }
-            }
-
-            copy.setPosX(original.getPosX());
-            copy.setPosY(original.getPosY());
-
-            if (copy.getSprite() != null) {
-                copy.getSprite().setPosition(
-                    copy.getPosX() - copy.getSprite().getWidth() / 2,
-                    copy.getPosY() - copy.getSprite().getHeight() / 2
-                );
-            }
 
-            if (original.getType() == com.untilDawn.models.enums.EnemyType.TREE) {
-                Gdx.app.log("GameController", String.format("Saving tree at position: (%.2f, %.2f)",
-                    original.getPosX(), original.getPosY()));
-            }
-
-            Gdx.app.log("GameController", String.format("Saved %s: pos(%.2f, %.2f), health(%d/%d), active(%b)",
-                original.getType().getName(), copy.getPosX(), copy.getPosY(),
-                copy.getHealth(), copy.getType().getHealth(), copy.isActive()));
-
-            return copy;
-
-        } catch (Exception e) {
-            Gdx.app.error("GameController", "Failed to create enemy copy: " + e.getMessage());
-            return null;
-        }
+        currentGame.setGameTime(gameTime);
+        GameSaveSystem.GameSaveData snapshot = GameSaveSystem.createSnapshot(user, currentGame,
+            playerController.getPlayer(), gameTime, enemyController.getEnemyStore());
+        AutoSaver.getInstance().submit(snapshot);
     }
 
     public boolean loadGame() {
-        com.untilDawn.models.utils.GameSaveSystem.GameSaveData saveData =
-            com.untilDawn.models.utils.GameSaveSystem.loadGame(App.getLoggedInUser());
+        GameSaveSystem.GameSaveData saveData =
+            GameSaveSystem.loadGame(App.getLoggedInUser());
 
         if (saveData == null) {
             Gdx.app.log("GameController", "No saved game found");
             return false;
         }
 
-        Game loadedGame = com.untilDawn.models.utils.GameSaveSystem.restoreGameFromSave(saveData);
+        Game loadedGame = GameSaveSystem.restoreGameFromSave(saveData);
         if (loadedGame == null) {
             Gdx.app.error("GameController", "Failed to restore game from save data");
             return false;
@@ -330,6 +395,7 @@ public class GameController {
             playerController.getPlayer().setPosY(loadedGame.getPlayer().getPosY());
             playerController.getPlayer().setPlayerHealth(loadedGame.getPlayer().getPlayerHealth());
             playerController.getPlayer().setMaxHealth(loadedGame.getPlayer().getMaxHealth());
+            playerController.snapToCurrentPosition();
         }
 
         // Note: Enemy restoration is handled in EnemyController constructor
@@ -338,8 +404,17 @@ public class GameController {
         return true;
     }
 
+    /**
+     * Removes the user's save once the run has ended. Waits for any autosave still being written
+     * first, so it can't put the file back afterwards.
+     */
     public void deleteSavedGame() {
-        boolean success = com.untilDawn.models.utils.GameSaveSystem.deleteSavedGame(App.getLoggedInUser());
+        AutoSaver.getInstance().flush();
+
+        User user = App.getLoggedInUser();
+        if (user == null || user.isGuest()) return;
+
+        boolean success = GameSaveSystem.deleteSavedGame(user);
         if (success) {
             Gdx.app.log("GameController", "Saved game deleted");
         } else {
@@ -2,53 +2,90 @@ package com.untilDawn.controllers;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.untilDawn.Main;
 import com.untilDawn.models.App;
 import com.untilDawn.models.Player;
 import com.untilDawn.models.enums.Abilities;
 import com.untilDawn.models.utils.GameAssetManager;
+import com.untilDawn.models.utils.GameInput;
+import com.untilDawn.models.utils.GdxGameInput;
 
 import java.util.Map;
 
 public class PlayerController {
+    private static final Abilities[] ABILITIES = Abilities.values();
     private final float ABILITY_COOLDOWN = 0.5f;
     private Player player;
     private boolean recentlyFlipped = false;
-    private Animation<Texture> currentAnimation;
+    private Animation<TextureRegion> currentAnimation;
     private float stateTime = 0;
     private boolean isMoving = false;
     private WeaponController weaponController;
-    private Texture mapTexture;
+    private GameInput input = GdxGameInput.getInstance();
     private float mapWidth;
     private float mapHeight;
 
     private float lastAbilityActivation = 0f;
 
+    // Last two simulated positions and the interpolated one used for drawing
+    private float previousX;
+    private float previousY;
+    private float renderX;
+    private float renderY;
+
     public PlayerController(Player player) {
         this.player = player;
 
-        this.mapTexture = new Texture("Images/map.png");
-        this.mapWidth = mapTexture.getWidth();
-        this.mapHeight = mapTexture.getHeight();
+        this.mapWidth = GameAssetManager.getGameAssetManager().getMapWidth();
+        this.mapHeight = GameAssetManager.getGameAssetManager().getMapHeight();
+        snapToCurrentPosition();
     }
 
-    public void update() {
-        float deltaTime = Gdx.graphics.getDeltaTime();
+    /**
+     * One fixed simulation step: timers, abilities and movement.
+     */
+    public void simulate(float deltaTime) {
+        previousX = player.getPosX();
+        previousY = player.getPosY();
+
         stateTime += deltaTime;
         lastAbilityActivation += deltaTime;
 
         player.update(deltaTime);
+        player.updateLevelUpAnimation(deltaTime);
+
+        handlePlayerInput(deltaTime);
+
+        updateAbilities(deltaTime);
+    }
 
+    /**
+     * Polls edge-triggered keys once per rendered frame; a frame can run zero simulation
+     * steps on high refresh displays, and a just-pressed key would otherwise be missed.
+     */
+    public void handleFrameInput() {
+        handleAbilityInput();
+    }
+
+    /**
+     * Places the player between the last two simulated positions, {@code alpha} being how far
+     * the accumulator has advanced into the next step.
+     */
+    public void interpolate(float alpha) {
+        renderX = MathUtils.lerp(previousX, player.getPosX(), alpha);
+        renderY = MathUtils.lerp(previousY, player.getPosY(), alpha);
+    }
+
+    public void render() {
         player.getPlayerSprite().setPosition(
-            player.getPosX() - player.getPlayerSprite().getWidth() / 2,
-            player.getPosY() - player.getPlayerSprite().getHeight() / 2
+            renderX - player.getPlayerSprite().getWidth() / 2,
+            renderY - player.getPlayerSprite().getHeight() / 2
         );
 
         updateAnimation();
-        player.updateLevelUpAnimation(deltaTime);
         player.getPlayerSprite().draw(Main.getBatch());
 
         if (player.isLevelingUp()) {
@@ -58,15 +95,15 @@ public class PlayerController {
         if (player.isCurseAnimationPlaying()) {
             drawCurseAnimation();
         }
+    }
 
-        handlePlayerInput();
-        handleAbilityInput();
-
-        updateAbilities(deltaTime);
+    public void snapToCurrentPosition() {
+        previousX = renderX = player.getPosX();
+        previousY = renderY = player.getPosY();
     }
 
     private void updateAbilities(float deltaTime) {
-        for (Abilities ability : Abilities.values()) {
+        for (Abilities ability : ABILITIES) {
             ability.update(deltaTime);
         }
 
@@ -119,18 +156,18 @@ public class PlayerController {
     }
 
     private void drawCurseAnimation() {
-        Texture curseFrame = player.getCurseAnimationFrame();
+        TextureRegion curseFrame = player.getCurseAnimationFrame();
         if (curseFrame != null) {
             float animationProgress = player.getCurseAnimationProgress();
 
             // Scale and position the curse animation above player's head
             float scale = 2.0f + (animationProgress * 0.5f); // Grows slightly during animation
-            float curseWidth = curseFrame.getWidth() * scale;
-            float curseHeight = curseFrame.getHeight() * scale;
+            float curseWidth = curseFrame.getRegionWidth() * scale;
+            float curseHeight = curseFrame.getRegionHeight() * scale;
 
             // Position above player's head
-            float centerX = player.getPosX();
-            float centerY = player.getPosY() + 60f; // Position above player
+            float centerX = renderX;
+            float centerY = renderY + 60f; // Position above player
             float curseX = centerX - curseWidth / 2;
             float curseY = centerY - curseHeight / 2;
 
@@ -162,7 +199,7 @@ public class PlayerController {
     }
 
     private void drawLevelUpAnimation() {
-        Texture levelUpFrame = player.getLevelUpFrame();
+        TextureRegion levelUpFrame = player.getLevelUpFrame();
         if (levelUpFrame != null) {
             float animationProgress = player.getLevelUpAnimationProgress();
 
@@ -174,8 +211,8 @@ public class PlayerController {
                 float strikeProgress = animationProgress / 0.2f;
                 scale = 0.8f + strikeProgress * 0.4f;
                 animationWidth = 32f * scale;
-                float screenTop = player.getPosY() + 600f;
-                animationHeight = screenTop - player.getPosY();
+                float screenTop = renderY + 600f;
+                animationHeight = screenTop - renderY;
             } else if (animationProgress < 0.3f) {
                 scale = 1.2f + ((animationProgress - 0.2f) / 0.1f) * 0.3f;
                 animationWidth = 48f * scale;
@@ -186,8 +223,8 @@ public class PlayerController {
                 animationHeight = 55f * scale;
             }
 
-            float centerX = player.getPosX();
-            float centerY = player.getPosY();
+            float centerX = renderX;
+            float centerY = renderY;
             float animationX, animationY;
 
             if (animationProgress < 0.2f) {
@@ -222,7 +259,7 @@ public class PlayerController {
     }
 
     private void updateAnimation() {
-        Animation<Texture> animation = null;
+        Animation<TextureRegion> animation = null;
 
         if (isMoving) {
             animation = GameAssetManager.getGameAssetManager().getPlayerRunAnimation();
@@ -239,43 +276,45 @@ public class PlayerController {
         }
 
         if (currentAnimation != null) {
-            Texture currentFrame = currentAnimation.getKeyFrame(stateTime, true);
-            player.getPlayerSprite().setTexture(currentFrame);
+            TextureRegion currentFrame = currentAnimation.getKeyFrame(stateTime, true);
+            GameAssetManager.setFrame(player.getPlayerSprite(), currentFrame);
         }
     }
 
-    public void handlePlayerInput() {
+    public void handlePlayerInput(float deltaTime) {
         isMoving = false;
 
         float newX = player.getPosX();
         float newY = player.getPosY();
+        // Speed is tuned in pixels per 60 Hz tick
+        float step = player.getSpeed() * deltaTime * 60;
         Map<String, String> keyBinds = App.getKeybinds();
 
-        if (Gdx.input.isKeyPressed(Input.Keys.valueOf(keyBinds.get("Move Up")))) {
-            newY += player.getSpeed();
+        if (input.isKeyPressed(Input.Keys.valueOf(keyBinds.get("Move Up")))) {
+            newY += step;
             isMoving = true;
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.valueOf(keyBinds.get("Move Right")))) {
-            newX += player.getSpeed();
+        if (input.isKeyPressed(Input.Keys.valueOf(keyBinds.get("Move Right")))) {
+            newX += step;
             isMoving = true;
             if (recentlyFlipped) {
                 player.getPlayerSprite().flip(true, false);
                 recentlyFlipped = false;
             }
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.valueOf(keyBinds.get("Move Down")))) {
-            newY -= player.getSpeed();
+        if (input.isKeyPressed(Input.Keys.valueOf(keyBinds.get("Move Down")))) {
+            newY -= step;
             isMoving = true;
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.valueOf(keyBinds.get("Move Left")))) {
-            newX -= player.getSpeed();
+        if (input.isKeyPressed(Input.Keys.valueOf(keyBinds.get("Move Left")))) {
+            newX -= step;
             isMoving = true;
             if (!recentlyFlipped) {
                 player.getPlayerSprite().flip(true, false);
                 recentlyFlipped = true;
             }
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.valueOf(keyBinds.get("Reload")))) {
+        if (input.isKeyPressed(Input.Keys.valueOf(keyBinds.get("Reload")))) {
             handleReload();
         }
 
@@ -294,16 +333,16 @@ public class PlayerController {
             return;
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) {
+        if (input.isKeyJustPressed(Input.Keys.NUM_1)) {
             activateAbility(Abilities.DAMAGER);
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
+        if (input.isKeyJustPressed(Input.Keys.NUM_2)) {
             activateAbility(Abilities.SPEEDY);
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
+        if (input.isKeyJustPressed(Input.Keys.NUM_3)) {
             activateAbility(Abilities.SHIELD);
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_4)) {
+        if (input.isKeyJustPressed(Input.Keys.NUM_4)) {
             activateAbility(Abilities.MULTISHOT);
         }
     }
@@ -337,7 +376,7 @@ public class PlayerController {
 
             lastAbilityActivation = 0f;
 
-            if (App.isSFX()) {
+            if (App.isSFX() && Main.getMain() != null) {
                 Main.getMain().getClickSound().play();
             }
         } else {
@@ -379,6 +418,59 @@ public class PlayerController {
         this.player = player;
     }
 
+    public float getRenderX() {
+        return renderX;
+    }
+
+    public float getRenderY() {
+        return renderY;
+    }
+
+    /**
+     * Applies the upgrade picked on level up.
+     */
+    public void applyUpgrade(Abilities ability) {
+        Gdx.app.log("PlayerController", "Applying ability: " + ability.getName());
+
+        switch (ability) {
+            case VITALITY:
+                player.applyVitality();
+                break;
+
+            case DAMAGER:
+                ability.activate();
+                player.activateDamager();
+                break;
+
+            case PROCREASE:
+                player.applyProcrease();
+                break;
+
+            case AMOCREASE:
+                player.applyAmocrease();
+                break;
+
+            case SPEEDY:
+                ability.activate();
+                player.activateSpeedy();
+                break;
+
+            case REGENERATION:
+                player.enableRegeneration();
+                break;
+
+            case SHIELD:
+                ability.activate();
+                player.activateShield();
+                break;
+
+            case MULTISHOT:
+                ability.activate();
+                player.activateMultishot();
+                break;
+        }
+    }
+
     public void handleReload() {
         weaponController.startReload();
     }
@@ -386,4 +478,8 @@ public class PlayerController {
     public void setWeaponController(WeaponController weaponController) {
         this.weaponController = weaponController;
     }
+
+    public void setInput(GameInput input) {
+        this.input = input;
+    }
 }
@@ -2,10 +2,9 @@ package com.untilDawn.controllers;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.untilDawn.Main;
@@ -15,15 +14,17 @@ import com.untilDawn.models.Player;
 import com.untilDawn.models.Weapon;
 import com.untilDawn.models.enums.Abilities;
 import com.untilDawn.models.enums.Weapons;
+import com.untilDawn.models.utils.BulletPool;
 import com.untilDawn.models.utils.GameAssetManager;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 
 public class WeaponController {
     private final float MUZZLE_FLASH_DURATION = 0.05f;
     private Weapon weapon;
     private ArrayList<Bullet> bullets = new ArrayList<>();
+    private final BulletPool bulletPool = new BulletPool(64, 512);
+    private final Vector2 shotDirection = new Vector2();
     private float screenCenterX;
     private float screenCenterY;
     private PlayerController playerController;
@@ -34,20 +35,22 @@ public class WeaponController {
     // Camera for proper coordinate conversion
     private OrthographicCamera camera;
     private Vector3 worldCoords = new Vector3();
+    private Vector2 worldMouse = new Vector2();
 
     // Reload bar progress
-    private Texture reloadBarBg;
-    private Texture reloadBarFill;
+    private TextureRegion reloadBarBg;
+    private TextureRegion reloadBarFill;
     private float reloadBarWidth = 80f;
     private float reloadBarHeight = 8f;
     private float reloadBarOffsetY = 37f;
-    private Animation<Texture> reloadAnimation;
+    private Animation<TextureRegion> reloadAnimation;
     private float reloadAnimationTime = 0;
     private boolean usingReloadAnimation = false;
-    private Texture stillTexture;
+    private TextureRegion stillRegion;
+    private String stillPath;
 
     // Muzzle flash properties
-    private Texture muzzleFlashTexture;
+    private TextureRegion muzzleFlashRegion;
     private boolean showMuzzleFlash = false;
     private float muzzleFlashTimer = 0;
     private float muzzleFlashOffsetX = 0;
@@ -60,25 +63,40 @@ public class WeaponController {
 
         if (weapon.getWeapon() != null) {
             this.reloadDuration = weapon.getWeapon().getReloadTime();
-            loadStillTexture();
+            loadStillRegion();
         }
 
-        muzzleFlashTexture = GameAssetManager.getGameAssetManager().getMuzzleFlash();
+        muzzleFlashRegion = GameAssetManager.getGameAssetManager().getMuzzleFlash();
         updateMuzzleFlashProperties();
+
+        // Warm the pool so the first bursts don't allocate either
+        bulletPool.fill(32);
     }
 
-    private void loadStillTexture() {
+    private void loadStillRegion() {
+        releaseStillRegion();
+
         if (weapon.getWeapon() != null) {
             String weaponName = weapon.getWeapon().getName().replaceAll("\\s+", "").toLowerCase();
-            String stillPath = "Images/weapons/" + weaponName + "/still.png";
-            if (Gdx.files.internal(stillPath).exists()) {
-                stillTexture = new Texture(Gdx.files.internal(stillPath));
-                weapon.getSprite().setTexture(stillTexture);
+            String path = "Images/weapons/" + weaponName + "/still.png";
+            GameAssetManager assetManager = GameAssetManager.getGameAssetManager();
+            if (assetManager.hasRegion(path)) {
+                stillRegion = assetManager.acquireRegion(path);
+                stillPath = path;
+                GameAssetManager.setFrame(weapon.getSprite(), stillRegion);
                 weapon.getSprite().setScale(0.7f);
             }
         }
     }
 
+    private void releaseStillRegion() {
+        if (stillRegion != null) {
+            GameAssetManager.getGameAssetManager().releaseRegion(stillPath);
+            stillRegion = null;
+            stillPath = null;
+        }
+    }
+
     private void updateMuzzleFlashProperties() {
         if (weapon.getWeapon() == null) {
             muzzleFlashOffsetX = 15f;
@@ -110,28 +128,37 @@ public class WeaponController {
         this.playerController = playerController;
     }
 
+    // Returns the same vector on every call
     private Vector2 screenToWorldCoordinates(int screenX, int screenY) {
         if (camera != null) {
             worldCoords.set(screenX, screenY, 0);
             camera.unproject(worldCoords);
-            return new Vector2(worldCoords.x, worldCoords.y);
+            return worldMouse.set(worldCoords.x, worldCoords.y);
         } else {
             float playerX = playerController != null ? playerController.getPlayer().getPosX() : 0;
             float playerY = playerController != null ? playerController.getPlayer().getPosY() : 0;
 
             float worldX = screenX - (float) Gdx.graphics.getWidth() / 2 + playerX;
             float worldY = Gdx.graphics.getHeight() - screenY - (float) Gdx.graphics.getHeight() / 2 + playerY;
-            return new Vector2(worldX, worldY);
+            return worldMouse.set(worldX, worldY);
         }
     }
 
-    public void update() {
-        float deltaTime = Gdx.graphics.getDeltaTime();
+    /**
+     * One fixed simulation step: reload and muzzle flash timers plus bullet movement.
+     */
+    public void simulate(float deltaTime) {
+        updateMuzzleFlashTimer(deltaTime);
+        updateReloading(deltaTime);
+        updateBullets(deltaTime);
+    }
+
+    public void render(float alpha) {
         updateScreenCenter();
 
         if (playerController != null) {
-            float playerX = playerController.getPlayer().getPosX();
-            float playerY = playerController.getPlayer().getPosY();
+            float playerX = playerController.getRenderX();
+            float playerY = playerController.getRenderY();
 
             int mouseX = Gdx.input.getX();
             int mouseY = Gdx.input.getY();
@@ -168,21 +195,17 @@ public class WeaponController {
             weapon.getSprite().setFlip(false, angle > 90 || angle < -90);
 
             if (showMuzzleFlash) {
-                updateMuzzleFlashTimer(deltaTime);
-                if (showMuzzleFlash) {
-                    drawMuzzleFlash(playerX, playerY, dirX, dirY, angle);
-                }
+                drawMuzzleFlash(playerX, playerY, dirX, dirY, angle);
             }
         }
 
-        updateReloading(deltaTime);
         weapon.getSprite().draw(Main.getBatch());
 
         if (isReloading) {
             drawReloadBar();
         }
 
-        updateBullets(deltaTime);
+        drawBullets(alpha);
     }
 
     public void handleWeaponRotation(int x, int y) {
@@ -266,37 +289,29 @@ public class WeaponController {
             showEnhancedMuzzleFlash();
         }
 
-        Gdx.app.log("WeaponController", String.format("Shooting: %d projectiles, %d damage each",
-            finalProjectileCount, finalBulletDamage));
-
         for (int i = 0; i < finalProjectileCount; i++) {
-            Bullet newBullet = new Bullet((int) playerX, (int) playerY);
+            Bullet newBullet = bulletPool.obtain();
+            newBullet.init(playerX, playerY);
             newBullet.setDamage(finalBulletDamage);
-            System.out.println(newBullet.getDamage());
 
-            Vector2 direction = new Vector2(x - playerX, y - playerY).nor();
+            shotDirection.set(x - playerX, y - playerY).nor();
 
             if (finalProjectileCount > 1) {
                 float spreadAngle = calculateSpreadAngle(finalProjectileCount);
-                float angle = (float) Math.toDegrees(Math.atan2(direction.y, direction.x));
+                float angle = (float) Math.toDegrees(Math.atan2(shotDirection.y, shotDirection.x));
 
                 float bulletAngle = angle + (i - (finalProjectileCount - 1) / 2f) * (spreadAngle / (finalProjectileCount - 1));
 
                 float radians = (float) Math.toRadians(bulletAngle);
-                direction = new Vector2((float) Math.cos(radians), (float) Math.sin(radians));
+                shotDirection.set((float) Math.cos(radians), (float) Math.sin(radians));
 
-                float speedVariation = MathUtils.random(-0.5f, 0.5f);
+                float speedVariation = App.getRandom().nextFloat(-0.5f, 0.5f);
                 newBullet.setSpeed(bulletSpeed + speedVariation);
             } else {
                 newBullet.setSpeed(bulletSpeed);
             }
 
-            newBullet.setDirection(direction);
-
-            newBullet.getSprite().setPosition(
-                playerX - newBullet.getSprite().getWidth() / 2,
-                playerY - newBullet.getSprite().getHeight() / 2
-            );
+            newBullet.setDirection(shotDirection);
 
             bullets.add(newBullet);
         }
@@ -336,33 +351,33 @@ public class WeaponController {
     }
 
     private void drawMuzzleFlash(float playerX, float playerY, float dirX, float dirY, float angle) {
-        if (muzzleFlashTexture == null) return;
+        if (muzzleFlashRegion == null) return;
 
         float weaponCenterX = weapon.getSprite().getX() + weapon.getSprite().getWidth() / 2;
         float weaponCenterY = weapon.getSprite().getY() + weapon.getSprite().getHeight() / 2;
 
         float radians = (float) Math.toRadians(angle);
-        float flashX = weaponCenterX + (float) (Math.cos(radians) * muzzleFlashOffsetX) - muzzleFlashTexture.getWidth() * muzzleFlashScale / 2;
-        float flashY = weaponCenterY + (float) (Math.sin(radians) * muzzleFlashOffsetX) - muzzleFlashTexture.getHeight() * muzzleFlashScale / 2;
+        float flashWidth = muzzleFlashRegion.getRegionWidth() * muzzleFlashScale;
+        float flashHeight = muzzleFlashRegion.getRegionHeight() * muzzleFlashScale;
+        float flashX = weaponCenterX + (float) (Math.cos(radians) * muzzleFlashOffsetX) - flashWidth / 2;
+        float flashY = weaponCenterY + (float) (Math.sin(radians) * muzzleFlashOffsetX) - flashHeight / 2;
 
         // Apply enhanced color if damage boost is active
         if (Abilities.DAMAGER.isActive()) {
             Main.getBatch().setColor(1.2f, 0.8f, 0.6f, 1.0f); // Orange-red tint for damage boost
         }
 
+        // Regions can't be drawn flipped, so mirror around the centre with a negative scale instead
         Main.getBatch().draw(
-            muzzleFlashTexture,
+            muzzleFlashRegion,
             flashX,
             flashY,
-            muzzleFlashTexture.getWidth() * muzzleFlashScale / 2,
-            muzzleFlashTexture.getHeight() * muzzleFlashScale / 2,
-            muzzleFlashTexture.getWidth() * muzzleFlashScale,
-            muzzleFlashTexture.getHeight() * muzzleFlashScale,
-            1.0f, 1.0f,
-            angle,
-            0, 0,
-            muzzleFlashTexture.getWidth(), muzzleFlashTexture.getHeight(),
-            false, weapon.getSprite().isFlipY()
+            flashWidth / 2,
+            flashHeight / 2,
+            flashWidth,
+            flashHeight,
+            1.0f, weapon.getSprite().isFlipY() ? -1.0f : 1.0f,
+            angle
         );
 
         // Reset color
@@ -382,8 +397,8 @@ public class WeaponController {
                 reloadAnimationTime += deltaTime;
 
                 if (reloadAnimation != null) {
-                    Texture currentFrame = reloadAnimation.getKeyFrame(reloadAnimationTime, false);
-                    weapon.getSprite().setTexture(currentFrame);
+                    TextureRegion currentFrame = reloadAnimation.getKeyFrame(reloadAnimationTime, false);
+                    GameAssetManager.setFrame(weapon.getSprite(), currentFrame);
                 }
             }
 
@@ -398,8 +413,8 @@ public class WeaponController {
         reloadTimer = 0;
         usingReloadAnimation = false;
 
-        if (stillTexture != null) {
-            weapon.getSprite().setTexture(stillTexture);
+        if (stillRegion != null) {
+            GameAssetManager.setFrame(weapon.getSprite(), stillRegion);
         }
 
         // Apply ammo capacity bonuses from abilities
@@ -425,8 +440,8 @@ public class WeaponController {
             reloadBarFill = GameAssetManager.getGameAssetManager().getReloadBarFill();
         }
 
-        float playerX = playerController.getPlayer().getPosX();
-        float playerY = playerController.getPlayer().getPosY();
+        float playerX = playerController.getRenderX();
+        float playerY = playerController.getRenderY();
 
         float barX = playerX - reloadBarWidth / 2;
         float barY = playerY + reloadBarOffsetY;
@@ -434,7 +449,7 @@ public class WeaponController {
         Main.getBatch().draw(reloadBarBg, barX, barY, reloadBarWidth, reloadBarHeight);
 
         float progress = reloadTimer / reloadDuration;
-        float indicatorWidth = reloadBarFill.getWidth();
+        float indicatorWidth = reloadBarFill.getRegionWidth();
         float indicatorHeight = reloadBarHeight;
 
         float indicatorX = barX + (reloadBarWidth - indicatorWidth) * progress;
@@ -455,14 +470,14 @@ public class WeaponController {
                     if (reloadAnimation != null) {
                         usingReloadAnimation = true;
 
-                        Texture firstFrame = reloadAnimation.getKeyFrame(0);
+                        TextureRegion firstFrame = reloadAnimation.getKeyFrame(0);
                         if (firstFrame != null) {
-                            weapon.getSprite().setTexture(firstFrame);
+                            GameAssetManager.setFrame(weapon.getSprite(), firstFrame);
                         }
                     } else {
                         usingReloadAnimation = false;
-                        if (stillTexture != null) {
-                            weapon.getSprite().setTexture(stillTexture);
+                        if (stillRegion != null) {
+                            GameAssetManager.setFrame(weapon.getSprite(), stillRegion);
                         }
                     }
                 } catch (Exception e) {
@@ -494,44 +509,63 @@ public class WeaponController {
             reloadTimer = 0;
             usingReloadAnimation = false;
 
-            if (stillTexture != null) {
-                weapon.getSprite().setTexture(stillTexture);
+            if (stillRegion != null) {
+                GameAssetManager.setFrame(weapon.getSprite(), stillRegion);
             }
         }
     }
 
     public void updateBullets(float deltaTime) {
-        Iterator<Bullet> iterator = bullets.iterator();
-        while (iterator.hasNext()) {
-            Bullet bullet = iterator.next();
+        float playerX = playerController != null ? playerController.getPlayer().getPosX() : 0;
+        float playerY = playerController != null ? playerController.getPlayer().getPosY() : 0;
+
+        // Backwards, so the bullet swapped into a released slot has already been updated
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            Bullet bullet = bullets.get(i);
 
             if (!bullet.isActive()) {
-                iterator.remove();
+                releaseBullet(i);
                 continue;
             }
 
             bullet.update(deltaTime);
 
-            // Apply visual effects for enhanced bullets
-            if (Abilities.DAMAGER.isActive()) {
-                // Draw enhanced bullet with damage boost visual
-                Main.getBatch().setColor(1.2f, 0.8f, 0.6f, 1.0f);
-                bullet.getSprite().draw(Main.getBatch());
-                Main.getBatch().setColor(1f, 1f, 1f, 1f);
-            } else {
-                bullet.getSprite().draw(Main.getBatch());
+            if (isBulletTooFar(bullet, playerX, playerY)) {
+                releaseBullet(i);
             }
+        }
+    }
 
-            float playerX = playerController != null ? playerController.getPlayer().getPosX() : 0;
-            float playerY = playerController != null ? playerController.getPlayer().getPosY() : 0;
+    private void drawBullets(float alpha) {
+        // Apply visual effects for enhanced bullets
+        boolean damageBoost = Abilities.DAMAGER.isActive();
+        if (damageBoost) {
+            Main.getBatch().setColor(1.2f, 0.8f, 0.6f, 1.0f);
+        }
 
-            if (isBulletTooFar(bullet, playerX, playerY)) {
-                bullet.setActive(false);
-                iterator.remove();
-            }
+        for (int i = 0; i < bullets.size(); i++) {
+            Bullet bullet = bullets.get(i);
+            bullet.interpolate(alpha);
+            bullet.getSprite().draw(Main.getBatch());
+        }
+
+        if (damageBoost) {
+            Main.getBatch().setColor(1f, 1f, 1f, 1f);
         }
     }
 
+    /**
+     * Removes the bullet at the given index and hands it back to the pool. The last bullet
+     * takes its slot, so callers walking the list should iterate from the end.
+     */
+    public void releaseBullet(int index) {
+        int lastIndex = bullets.size() - 1;
+        Bullet bullet = bullets.get(index);
+        bullets.set(index, bullets.get(lastIndex));
+        bullets.remove(lastIndex);
+        bulletPool.free(bullet);
+    }
+
     public void checkAutoReload() {
         if (weapon.getAmmo() <= 0 && App.isAutoReloadEnabled() && !isReloading) {
             startReload();
@@ -539,8 +573,8 @@ public class WeaponController {
     }
 
     private boolean isBulletTooFar(Bullet bullet, float playerX, float playerY) {
-        float bulletX = bullet.getSprite().getX() + bullet.getSprite().getWidth() / 2;
-        float bulletY = bullet.getSprite().getY() + bullet.getSprite().getHeight() / 2;
+        float bulletX = bullet.getPosition().x;
+        float bulletY = bullet.getPosition().y;
 
         float distanceSquared = (bulletX - playerX) * (bulletX - playerX) +
             (bulletY - playerY) * (bulletY - playerY);
@@ -561,7 +595,7 @@ public class WeaponController {
             this.reloadDuration = weapon.getWeapon().getReloadTime();
         }
 
-        loadStillTexture();
+        loadStillRegion();
         updateMuzzleFlashProperties();
     }
 
@@ -573,6 +607,10 @@ public class WeaponController {
         return bullets;
     }
 
+    public BulletPool getBulletPool() {
+        return bulletPool;
+    }
+
     public boolean isReloading() {
         return isReloading;
     }
@@ -583,23 +621,16 @@ public class WeaponController {
     }
 
     public void dispose() {
-        for (Bullet bullet : bullets) {
-            bullet.dispose();
-        }
+        Gdx.app.log("WeaponController", "Bullet pool: " + bulletPool.getCreatedCount() + " created, " +
+            bulletPool.getObtainedCount() + " fired, " + bulletPool.getReusedCount() + " reused");
+
         bullets.clear();
+        bulletPool.clear();
 
-        if (reloadBarBg != null) {
-            reloadBarBg.dispose();
-            reloadBarBg = null;
-        }
-        if (reloadBarFill != null) {
-            reloadBarFill.dispose();
-            reloadBarFill = null;
-        }
-        if (stillTexture != null) {
-            stillTexture.dispose();
-            stillTexture = null;
-        }
+        // The reload bar belongs to the asset manager
+        reloadBarBg = null;
+        reloadBarFill = null;
+        releaseStillRegion();
     }
 
     public OrthographicCamera getCamera() {
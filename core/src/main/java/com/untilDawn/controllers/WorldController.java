@@ -1,41 +1,88 @@
 package com.untilDawn.controllers;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.untilDawn.Main;
+import com.untilDawn.models.utils.FrameProfiler;
+import com.untilDawn.models.utils.GameAssetManager;
 
+/**
+ * Draws the map as a grid of fixed-size chunks, submitting only the part of each chunk the
+ * camera can see. Every chunk is a region of the one shared map texture, so the batch draws the
+ * whole background in a single call and a bigger map costs more chunks, not more textures.
+ */
 public class WorldController {
+    public static final int CHUNK_SIZE = 1024;
+
     private PlayerController playerController;
     private Texture backgroundTexture;
+    private final int mapWidth;
+    private final int mapHeight;
+
+    private int chunksDrawn;
+    private long pixelsDrawn;
 
 
     public WorldController(PlayerController playerController) {
-        this.backgroundTexture = new Texture("Images/map.png");
+        // Owned by the GAME asset group, which the screen running the session holds
+        this.backgroundTexture = GameAssetManager.getGameAssetManager().getTexture(GameAssetManager.MAP_PATH);
+        this.mapWidth = GameAssetManager.getGameAssetManager().getMapWidth();
+        this.mapHeight = GameAssetManager.getGameAssetManager().getMapHeight();
         this.playerController = playerController;
+
+        Gdx.app.log("WorldController", String.format("Map %dx%d in %d chunks, texture %.1f MB",
+            mapWidth, mapHeight, chunkColumns() * chunkRows(),
+            backgroundTexture.getWidth() * backgroundTexture.getHeight() * 4 / (1024f * 1024f)));
     }
 
-    public void update() {
-        float bgWidth = backgroundTexture.getWidth();
-        float bgHeight = backgroundTexture.getHeight();
+    public void render(OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        float viewLeft = Math.max(0f, camera.position.x - halfWidth);
+        float viewBottom = Math.max(0f, camera.position.y - halfHeight);
+        float viewRight = Math.min(mapWidth, camera.position.x + halfWidth);
+        float viewTop = Math.min(mapHeight, camera.position.y + halfHeight);
+
+        chunksDrawn = 0;
+        pixelsDrawn = 0;
+        if (viewLeft < viewRight && viewBottom < viewTop) {
+            int firstColumn = (int) (viewLeft / CHUNK_SIZE);
+            int lastColumn = Math.min(chunkColumns() - 1, (int) ((viewRight - 1) / CHUNK_SIZE));
+            int firstRow = (int) (viewBottom / CHUNK_SIZE);
+            int lastRow = Math.min(chunkRows() - 1, (int) ((viewTop - 1) / CHUNK_SIZE));
+
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    drawChunk(column, row, viewLeft, viewBottom, viewRight, viewTop);
+                }
+            }
+        }
 
-        int tilesX = (int) Math.ceil(Gdx.graphics.getWidth() / bgWidth) + 2;
-        int tilesY = (int) Math.ceil(Gdx.graphics.getHeight() / bgHeight) + 2;
+        FrameProfiler.getInstance().setMapCounts(chunksDrawn, pixelsDrawn);
+    }
 
-        float cameraX = 0;
-        float cameraY = 0;
+    // Draws the visible part of one chunk, snapped out to whole texels
+    private void drawChunk(int column, int row, float viewLeft, float viewBottom, float viewRight, float viewTop) {
+        int left = Math.max(column * CHUNK_SIZE, (int) viewLeft);
+        int bottom = Math.max(row * CHUNK_SIZE, (int) viewBottom);
+        int right = Math.min(Math.min((column + 1) * CHUNK_SIZE, mapWidth), (int) Math.ceil(viewRight));
+        int top = Math.min(Math.min((row + 1) * CHUNK_SIZE, mapHeight), (int) Math.ceil(viewTop));
+        int width = right - left;
+        int height = top - bottom;
+        if (width <= 0 || height <= 0) return;
 
-        float offsetX = (cameraX % bgWidth);
-        float offsetY = (cameraY % bgHeight);
+        // Texture rows run top to bottom, world rows bottom to top
+        Main.getBatch().draw(backgroundTexture, left, bottom, left, mapHeight - top, width, height);
+        chunksDrawn++;
+        pixelsDrawn += (long) width * height;
+    }
 
-        float startX = cameraX - offsetX - bgWidth;
-        float startY = cameraY - offsetY - bgHeight;
+    private int chunkColumns() {
+        return (mapWidth + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
 
-        for (int x = 0; x < tilesX; x++) {
-            for (int y = 0; y < tilesY; y++) {
-                float tileX = startX + (x * bgWidth);
-                float tileY = startY + (y * bgHeight);
-                Main.getBatch().draw(backgroundTexture, tileX, tileY);
-            }
-        }
+    private int chunkRows() {
+        return (mapHeight + CHUNK_SIZE - 1) / CHUNK_SIZE;
     }
 }
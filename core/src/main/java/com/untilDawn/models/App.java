@@ -1,6 +1,9 @@
 package com.untilDawn.models;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.untilDawn.models.utils.FileStorage;
+import com.untilDawn.models.utils.Leaderboard;
+import com.untilDawn.models.utils.UserRepository;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -8,9 +11,9 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 public class App {
-    private static Map<String, User> users = new HashMap<>();
     private static User loggedInUser;
     private static boolean isSFX = true;
     private static Map<User, Game> games = new HashMap<>();
@@ -35,16 +38,16 @@ public class App {
     }
 
     public static void addUser(User user) {
-        users.put(user.getUsername(), user);
+        UserRepository.getInstance().add(user);
+        Leaderboard.getInstance().update(user);
     }
 
+    // Accounts are read on demand, so loading doesn't touch them
     public static User getUser(String username) {
-        return users.get(username);
+        return UserRepository.getInstance().find(username);
     }
 
     public static void load() {
-        users = FileStorage.loadUsers();
-
         Map<String, Object> settings = FileStorage.loadSettings();
         if (settings.containsKey("musicVolume")) {
             musicVolume = ((Number) settings.get("musicVolume")).floatValue();
@@ -78,7 +81,7 @@ public class App {
     }
 
     public static void save() {
-        FileStorage.saveUsers(users);
+        UserRepository.getInstance().save();
 
         Map<String, Object> settings = new HashMap<>();
         settings.put("musicVolume", musicVolume);
@@ -131,7 +134,14 @@ public class App {
     }
 
     public static void removeUser(User user) {
-        users.remove(user.getUsername());
+        UserRepository.getInstance().remove(user.getUsername());
+        Leaderboard.getInstance().remove(user.getUsername());
+    }
+
+    public static void renameUser(User user, String newUsername) {
+        Leaderboard.getInstance().remove(user.getUsername());
+        UserRepository.getInstance().rename(user, newUsername);
+        Leaderboard.getInstance().update(user);
     }
 
     public static Game getGame(User user) {
@@ -147,12 +157,12 @@ public class App {
         }
     }
 
+    /**
+     * Reads every account; only for admin-style operations, everything else should use
+     * {@link #getUser(String)}.
+     */
     public static Map<String, User> getUsers() {
-        return users;
-    }
-
-    public static void setUsers(Map<String, User> users) {
-        App.users = users;
+        return UserRepository.getInstance().loadAll();
     }
 
     public static String getLanguage() {
@@ -215,4 +225,11 @@ public class App {
     public static void setGame(Game game) {
         currentGame = game;
     }
+
+    /**
+     * The running game's random source, or the shared one when no game is running.
+     */
+    public static Random getRandom() {
+        return currentGame != null ? currentGame.getRandom() : MathUtils.random;
+    }
 }
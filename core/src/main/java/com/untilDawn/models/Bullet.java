@@ -1,20 +1,21 @@
 package com.untilDawn.models;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.untilDawn.models.utils.GameAssetManager;
 
-public class Bullet {
-    private Texture texture = new Texture(GameAssetManager.getGameAssetManager().getBullet());
-    private Sprite sprite = new Sprite(texture);
+public class Bullet implements Pool.Poolable {
+    private static final float DEFAULT_SPEED = 10.0f;
+
+    // All bullets draw from the same region, so firing never touches the GPU
+    private Sprite sprite = new Sprite(GameAssetManager.getGameAssetManager().getBulletRegion());
     private int damage;
-    private int x;
-    private int y;
-    private Vector2 direction;
+    private Vector2 direction = new Vector2();
     private boolean isActive = true;
     private Rectangle boundingBox;
 
@@ -23,21 +24,22 @@ public class Bullet {
     private Vector2 previousPosition = new Vector2();
     private float radius;
     private Circle collisionCircle = new Circle();
-    private float speed = 10.0f; // Default speed
+    private float speed = DEFAULT_SPEED;
 
-    public Bullet(int x, int y) {
+    public Bullet() {
         sprite.setSize(20, 20);
-        this.x = x;
-        this.y = y;
-        position.set(x, y);
-        previousPosition.set(x, y);
-        sprite.setX((float) Gdx.graphics.getWidth() / 2);
-        sprite.setY((float) Gdx.graphics.getHeight() / 2);
 
         // Set up collision
         radius = sprite.getWidth() / 2.5f; // Slightly smaller than the visual size
+        boundingBox = new Rectangle(0, 0, radius * 2, radius * 2);
+    }
+
+    public void init(float x, float y) {
+        position.set(x, y);
+        previousPosition.set(x, y);
+        sprite.setPosition(x - sprite.getWidth() / 2, y - sprite.getHeight() / 2);
         collisionCircle.set(x, y, radius);
-        boundingBox = new Rectangle(x - radius, y - radius, radius * 2, radius * 2);
+        boundingBox.setPosition(x - radius, y - radius);
     }
 
     public void update(float delta) {
@@ -46,20 +48,38 @@ public class Bullet {
         previousPosition.set(position);
 
         // Update position based on direction and speed
-        if (direction != null) {
-            position.x += direction.x * speed * delta * 60;
-            position.y += direction.y * speed * delta * 60;
+        position.x += direction.x * speed * delta * 60;
+        position.y += direction.y * speed * delta * 60;
 
-            // Update sprite and collision shapes
-            sprite.setPosition(position.x - sprite.getWidth() / 2, position.y - sprite.getHeight() / 2);
-            collisionCircle.setPosition(position.x, position.y);
-            boundingBox.setPosition(position.x - radius, position.y - radius);
-        }
+        // Update sprite and collision shapes
+        sprite.setPosition(position.x - sprite.getWidth() / 2, position.y - sprite.getHeight() / 2);
+        collisionCircle.setPosition(position.x, position.y);
+        boundingBox.setPosition(position.x - radius, position.y - radius);
+    }
+
+    /**
+     * Moves the sprite between the last two simulated positions for drawing.
+     */
+    public void interpolate(float alpha) {
+        float x = previousPosition.x + (position.x - previousPosition.x) * alpha;
+        float y = previousPosition.y + (position.y - previousPosition.y) * alpha;
+        sprite.setPosition(x - sprite.getWidth() / 2, y - sprite.getHeight() / 2);
+    }
+
+    @Override
+    public void reset() {
+        damage = 0;
+        speed = DEFAULT_SPEED;
+        isActive = true;
+        direction.setZero();
+        position.setZero();
+        previousPosition.setZero();
+        sprite.setColor(Color.WHITE);
     }
 
     // Getters and setters
     public Texture getTexture() {
-        return texture;
+        return sprite.getTexture();
     }
 
     public Sprite getSprite() {
@@ -87,7 +107,7 @@ public class Bullet {
     }
 
     public void setDirection(Vector2 direction) {
-        this.direction = direction;
+        this.direction.set(direction);
     }
 
     public float getSpeed() {
@@ -106,10 +126,6 @@ public class Bullet {
         return radius;
     }
 
-    public void dispose() {
-        texture.dispose();
-    }
-
     public boolean isActive() {
         return isActive;
     }
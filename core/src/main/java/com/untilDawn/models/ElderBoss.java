@@ -1,11 +1,14 @@
 package com.untilDawn.models;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.untilDawn.models.enums.EnemyType;
+import com.untilDawn.models.utils.FlowField;
+import com.untilDawn.models.utils.GameAssetManager;
 
 public class ElderBoss extends Enemy {
     // Boss mechanics
@@ -16,6 +19,7 @@ public class ElderBoss extends Enemy {
     private boolean isDashing = false;
     private Vector2 dashDirection = new Vector2();
     private Vector2 dashStartPos = new Vector2();
+    private Vector2 walkDirection = new Vector2();
     private float dashSpeed = 8.0f;
     private float dashDistance = 400f;
     private float chargeDuration = 1.5f;
@@ -28,10 +32,11 @@ public class ElderBoss extends Enemy {
     private float mapHeight;
 
     // Animations
-    private Animation<Texture> walkAnimation;
-    private Animation<Texture> chargeAnimation;
-    private Animation<Texture> attackAnimation;
+    private Animation<TextureRegion> walkAnimation;
+    private Animation<TextureRegion> chargeAnimation;
+    private Animation<TextureRegion> attackAnimation;
     private float animationTime = 0f;
+    private final Array<String> framePaths = new Array<>();
 
     public ElderBoss(float posX, float posY, float mapWidth, float mapHeight) {
         super(EnemyType.ELDER, posX, posY);
@@ -50,25 +55,13 @@ public class ElderBoss extends Enemy {
 
     private void loadAnimations() {
         try {
-            Texture[] walkFrames = new Texture[3];
-            for (int i = 0; i < 3; i++) {
-                walkFrames[i] = new Texture(Gdx.files.internal("Images/Enemies/elder/elder" + i + ".png"));
-            }
-            walkAnimation = new Animation<>(0.3f, walkFrames);
+            walkAnimation = new Animation<>(0.3f, loadFrames(0, 3));
             walkAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
-            Texture[] chargeFrames = new Texture[5];
-            for (int i = 0; i <= 4; i++) {
-                chargeFrames[i] = new Texture(Gdx.files.internal("Images/Enemies/elder/elder" + (i + 3) + ".png"));
-            }
-            chargeAnimation = new Animation<>(0.2f, chargeFrames);
+            chargeAnimation = new Animation<>(0.2f, loadFrames(3, 5));
             chargeAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
-            Texture[] attackFrames = new Texture[3];
-            for (int i = 0; i < 3; i++) {
-                attackFrames[i] = new Texture(Gdx.files.internal("Images/Enemies/elder/elder" + (i + 8) + ".png"));
-            }
-            attackAnimation = new Animation<>(0.15f, attackFrames);
+            attackAnimation = new Animation<>(0.15f, loadFrames(8, 3));
             attackAnimation.setPlayMode(Animation.PlayMode.LOOP);
 
         } catch (Exception e) {
@@ -76,13 +69,24 @@ public class ElderBoss extends Enemy {
         }
     }
 
+    private TextureRegion[] loadFrames(int firstFrame, int frameCount) {
+        GameAssetManager assetManager = GameAssetManager.getGameAssetManager();
+        TextureRegion[] frames = new TextureRegion[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            String framePath = "Images/Enemies/elder/elder" + (firstFrame + i) + ".png";
+            frames[i] = assetManager.acquireRegion(framePath);
+            framePaths.add(framePath);
+        }
+        return frames;
+    }
+
     private void initializeBarrier() {
         perimeterBarrier = new ElectricBarrier(mapWidth, mapHeight);
         barrierActive = true;
     }
 
     @Override
-    public void update(float delta, Player player) {
+    public void update(float delta, Player player, FlowField flowField) {
         if (!isActive()) return;
 
         animationTime += delta;
@@ -93,7 +97,7 @@ public class ElderBoss extends Enemy {
         updateBarrier(delta, player);
         updateAnimation();
 
-        super.update(delta, player);
+        super.update(delta, player, flowField);
     }
 
     private void updateBossLogic(float delta, Player player) {
@@ -115,7 +119,7 @@ public class ElderBoss extends Enemy {
             float playerX = player.getPosX();
             float playerY = player.getPosY();
 
-            Vector2 direction = new Vector2(playerX - getPosX(), playerY - getPosY()).nor();
+            Vector2 direction = walkDirection.set(playerX - getPosX(), playerY - getPosY()).nor();
 
             float walkSpeed = getType().getSpeed() * 0.6f;
             setPosX(getPosX() + direction.x * walkSpeed * delta * 60);
@@ -192,15 +196,15 @@ public class ElderBoss extends Enemy {
     }
 
     private void updateAnimation() {
-        Animation<Texture> currentAnimation = switch (currentState) {
+        Animation<TextureRegion> currentAnimation = switch (currentState) {
             case WALKING -> walkAnimation;
             case CHARGING -> chargeAnimation;
             case ATTACKING -> attackAnimation;
         };
 
         if (currentAnimation != null) {
-            Texture currentFrame = currentAnimation.getKeyFrame(animationTime, true);
-            getSprite().setTexture(currentFrame);
+            TextureRegion currentFrame = currentAnimation.getKeyFrame(animationTime, true);
+            GameAssetManager.setFrame(getSprite(), currentFrame);
         }
     }
 
@@ -219,6 +223,29 @@ public class ElderBoss extends Enemy {
         return killed;
     }
 
+    /**
+     * Restores the boss-specific part of a saved state on top of {@link #restoreState}. The
+     * current move starts over from its beginning; a barrier size of zero keeps the full size.
+     */
+    public void restoreBossState(String state, boolean barrierActive, float barrierWidth, float barrierHeight) {
+        try {
+            currentState = state != null ? ElderState.valueOf(state) : ElderState.WALKING;
+        } catch (IllegalArgumentException e) {
+            currentState = ElderState.WALKING;
+        }
+        stateTimer = 0f;
+        isDashing = false;
+        updateAnimation();
+
+        this.barrierActive = barrierActive;
+        if (perimeterBarrier != null) {
+            perimeterBarrier.setActive(barrierActive);
+            if (barrierWidth > 0 && barrierHeight > 0) {
+                perimeterBarrier.restoreSize(barrierWidth, barrierHeight);
+            }
+        }
+    }
+
     @Override
     public void dispose() {
         super.dispose();
@@ -227,21 +254,11 @@ public class ElderBoss extends Enemy {
             perimeterBarrier.dispose();
         }
 
-        if (walkAnimation != null) {
-            for (Texture frame : walkAnimation.getKeyFrames()) {
-                if (frame != null) frame.dispose();
-            }
-        }
-        if (chargeAnimation != null) {
-            for (Texture frame : chargeAnimation.getKeyFrames()) {
-                if (frame != null) frame.dispose();
-            }
-        }
-        if (attackAnimation != null) {
-            for (Texture frame : attackAnimation.getKeyFrames()) {
-                if (frame != null) frame.dispose();
-            }
+        GameAssetManager assetManager = GameAssetManager.getGameAssetManager();
+        for (String framePath : framePaths) {
+            assetManager.releaseRegion(framePath);
         }
+        framePaths.clear();
     }
 
     public ElderState getCurrentState() {
@@ -323,6 +340,19 @@ public class ElderBoss extends Enemy {
             }
         }
 
+        public void restoreSize(float width, float height) {
+            currentWidth = Math.min(width, outerWidth);
+            currentHeight = Math.min(height, outerHeight);
+            isShrinking = currentWidth > minSize && currentHeight > minSize;
+
+            boundingBox.set(
+                (outerWidth - currentWidth) / 2,
+                (outerHeight - currentHeight) / 2,
+                currentWidth,
+                currentHeight
+            );
+        }
+
         public boolean checkCollision(Player player) {
             if (!active || player == null) return false;
             Rectangle playerBox = player.getBoundingBox();
@@ -341,6 +371,10 @@ public class ElderBoss extends Enemy {
             return currentHeight;
         }
 
+        public float getElectricIntensity() {
+            return electricIntensity;
+        }
+
         public float getOuterWidth() {
             return outerWidth;
         }
@@ -2,33 +2,46 @@ package com.untilDawn.models;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.untilDawn.models.enums.EnemyType;
+import com.untilDawn.models.utils.EnemyStore;
+import com.untilDawn.models.utils.FlowField;
 import com.untilDawn.models.utils.GameAssetManager;
 
 import java.util.ArrayList;
+import java.util.Random;
 
+/**
+ * A single enemy. While it is in an {@link EnemyStore} its position, heading, health and
+ * active state live in the store's arrays and this object is a view over its slot; once
+ * removed (or before it is ever added, e.g. when copied for a save) it holds that state itself.
+ */
 public class Enemy {
     private final EnemyType type;
     private int health;
     private float posX;
     private float posY;
-    private Texture texture;
+    private TextureRegion region;
     private Sprite sprite;
     private Rectangle boundingBox;
+    private float collisionRadius;
     private boolean isActive = true;
     private Vector2 direction = new Vector2(0, 0);
     private float spawnTime;
 
+    private EnemyStore store;
+    private int storeIndex = -1;
+
     // For dropped items
     private boolean hasDroppedItem = false;
-    private Texture dropTexture;
+    private TextureRegion dropRegion;
+    private String dropTexturePath;
     private Sprite dropSprite;
     private boolean dropActive = false;
     private String dropType;
@@ -40,6 +53,7 @@ public class Enemy {
     private Color flashColor = new Color(1f, 0.3f, 0.3f, 1f);
 
     private float shootTimer = 0f;
+    private boolean shotPending = false;
     private ArrayList<EnemyBullet> bullets = new ArrayList<>();
 
     private boolean isKnockedBack = false;
@@ -49,7 +63,7 @@ public class Enemy {
     private float knockbackForce = 100f;
 
     // Death animation fields
-    private Animation<Texture> deathAnimation;
+    private Animation<TextureRegion> deathAnimation;
     private float deathAnimTimer = 0f;
     private boolean isDeadAnimationPlaying = false;
     private boolean deathAnimationComplete = false;
@@ -65,48 +79,134 @@ public class Enemy {
 
         loadTexture();
         createSprite();
+        this.collisionRadius = computeCollisionRadius();
     }
 
     public static Vector2 getRandomSpawnPosition(float mapWidth, float mapHeight, float marginFromEdge) {
+        Random random = App.getRandom();
         float x, y;
-        int side = MathUtils.random(3); // 0 = top, 1 = right, 2 = bottom, 3 = left
+        int side = random.nextInt(4); // 0 = top, 1 = right, 2 = bottom, 3 = left
 
         switch (side) {
             case 0: // Top
-                x = MathUtils.random(marginFromEdge, mapWidth - marginFromEdge);
+                x = random.nextFloat(marginFromEdge, mapWidth - marginFromEdge);
                 y = mapHeight - marginFromEdge;
                 break;
             case 1: // Right
                 x = mapWidth - marginFromEdge;
-                y = MathUtils.random(marginFromEdge, mapHeight - marginFromEdge);
+                y = random.nextFloat(marginFromEdge, mapHeight - marginFromEdge);
                 break;
             case 2:
-                x = MathUtils.random(marginFromEdge, mapWidth - marginFromEdge);
+                x = random.nextFloat(marginFromEdge, mapWidth - marginFromEdge);
                 y = marginFromEdge;
                 break;
             case 3:
                 x = marginFromEdge;
-                y = MathUtils.random(marginFromEdge, mapHeight - marginFromEdge);
+                y = random.nextFloat(marginFromEdge, mapHeight - marginFromEdge);
                 break;
             default:
-                x = MathUtils.random(mapWidth);
-                y = MathUtils.random(mapHeight);
+                x = random.nextFloat(mapWidth);
+                y = random.nextFloat(mapHeight);
         }
 
         return new Vector2(x, y);
     }
 
-    private void loadTexture() {
-        try {
-            this.texture = new Texture(Gdx.files.internal(type.getTexturePath()));
-        } catch (Exception e) {
-            this.texture = new Texture(Gdx.files.internal("Images/enemies/default.png"));
-            System.out.println("Error loading enemy texture: " + e.getMessage());
+    private float computeCollisionRadius() {
+        float size = Math.max(boundingBox.width, boundingBox.height);
+
+        if (type == EnemyType.TREE) {
+            return size / 3.0f;
+        } else if (type == EnemyType.ELDER) {
+            return size / 2.0f;
+        }
+        return size / 2.5f;
+    }
+
+    public void attach(EnemyStore store, int index) {
+        this.store = store;
+        this.storeIndex = index;
+
+        store.posX[index] = posX;
+        store.posY[index] = posY;
+        store.velX[index] = direction.x;
+        store.velY[index] = direction.y;
+        store.radius[index] = collisionRadius;
+        store.health[index] = health;
+        store.type[index] = type.ordinal();
+        store.flags[index] = 0;
+        store.setFlag(index, EnemyStore.FLAG_ACTIVE, isActive);
+        store.setFlag(index, EnemyStore.FLAG_CHASER, isPlainChaser());
+        updateBusyFlag();
+    }
+
+    public void detach() {
+        if (store == null) return;
+
+        posX = store.posX[storeIndex];
+        posY = store.posY[storeIndex];
+        direction.set(store.velX[storeIndex], store.velY[storeIndex]);
+        health = store.health[storeIndex];
+        isActive = store.isActive(storeIndex);
+
+        store = null;
+        storeIndex = -1;
+    }
+
+    public void moveTo(int index) {
+        this.storeIndex = index;
+    }
+
+    // Plain chasers only walk at the player, so the store can integrate them in bulk
+    private boolean isPlainChaser() {
+        return getClass() == Enemy.class && type.canMove() && !type.canShoot();
+    }
+
+    private void updateBusyFlag() {
+        if (store != null) {
+            store.setFlag(storeIndex, EnemyStore.FLAG_BUSY, isKnockedBack || isFlashing);
+        }
+    }
+
+    private void setActiveState(boolean active) {
+        isActive = active;
+        if (store != null) {
+            store.setFlag(storeIndex, EnemyStore.FLAG_ACTIVE, active);
+        }
+    }
+
+    private void setHealthValue(int health) {
+        this.health = health;
+        if (store != null) {
+            store.health[storeIndex] = health;
         }
     }
 
+    private void setPositionValue(float x, float y) {
+        if (store != null) {
+            store.posX[storeIndex] = x;
+            store.posY[storeIndex] = y;
+        } else {
+            posX = x;
+            posY = y;
+        }
+    }
+
+    private float getDirectionX() {
+        return store != null ? store.velX[storeIndex] : direction.x;
+    }
+
+    private float getDirectionY() {
+        return store != null ? store.velY[storeIndex] : direction.y;
+    }
+
+    private void loadTexture() {
+        // Borrowed from the shared registry; only the first spawn of a type touches the disk
+        this.region = GameAssetManager.getGameAssetManager().acquireEnemyRegion(type);
+    }
+
     private void createSprite() {
-        this.sprite = new Sprite(texture);
+        this.sprite = new Sprite(region);
 
         float scale = 1.0f;
 
@@ -114,7 +214,7 @@ public class Enemy {
             scale = 2.3f;
         }
 
-        sprite.setSize(texture.getWidth() * scale, texture.getHeight() * scale);
+        sprite.setSize(region.getRegionWidth() * scale, region.getRegionHeight() * scale);
         sprite.setOriginCenter();
         sprite.setPosition(posX - sprite.getWidth() / 2, posY - sprite.getHeight() / 2);
         sprite.setColor(originalColor);
@@ -127,13 +227,17 @@ public class Enemy {
         );
     }
 
-    // In Enemy.java - Add position validation to the update method
-
-    public void update(float delta, Player player) {
-        // Store current position for validation
-        float currentPosX = this.posX;
-        float currentPosY = this.posY;
+    public void update(float delta, Player player, FlowField flowField) {
+        think(delta, player, flowField);
+        act(delta, player);
+    }
 
+    /**
+     * The part of a step that only reads shared state and only writes this enemy's own:
+     * timers, movement, the flash and its bullets in flight. Different enemies can think on
+     * different threads at once; {@link #act} must follow on the game thread.
+     */
+    public void think(float delta, Player player, FlowField flowField) {
         // Handle death animation
         if (isDeadAnimationPlaying) {
             deathAnimTimer += delta;
@@ -146,21 +250,23 @@ public class Enemy {
             return; // Don't update other logic while death animation is playing
         }
 
-        if (!isActive) return;
+        if (!isActive()) return;
 
         spawnTime += delta;
 
         updateKnockback(delta);
 
         if (!isKnockedBack && type.canMove()) {
-            moveTowardsPlayer(player, delta);
+            moveTowardsPlayer(player, flowField, delta);
         }
 
         if (type.canShoot() && type == EnemyType.EYEBAT) {
-            updateShooting(delta, player);
+            updateShooting(delta);
         }
 
-        updateBullets(delta);
+        for (int i = 0; i < bullets.size(); i++) {
+            bullets.get(i).update(delta);
+        }
 
         // CRITICAL: Always ensure sprite and bounding box match the internal position
         syncSpriteAndBoundingBoxWithPosition();
@@ -174,14 +280,39 @@ public class Enemy {
         }
     }
 
+    /**
+     * The rest of the step, whatever {@link #think} left for the game thread: firing a shot
+     * and releasing spent bullets, which go through the shared asset registry.
+     */
+    public void act(float delta, Player player) {
+        if (shotPending) {
+            shotPending = false;
+            shootAtPlayer(player);
+            // A new bullet moves in the step it is fired, like the ones fired before it
+            if (!bullets.isEmpty()) {
+                bullets.get(bullets.size() - 1).update(delta);
+            }
+        }
+
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            EnemyBullet bullet = bullets.get(i);
+            if (!bullet.isActive()) {
+                bullet.dispose();
+                bullets.remove(i);
+            }
+        }
+    }
+
     // Add this helper method to Enemy class
     private void syncSpriteAndBoundingBoxWithPosition() {
+        float x = getPosX();
+        float y = getPosY();
         if (sprite != null) {
-            sprite.setPosition(posX - sprite.getWidth() / 2, posY - sprite.getHeight() / 2);
+            sprite.setPosition(x - sprite.getWidth() / 2, y - sprite.getHeight() / 2);
         }
 
         if (boundingBox != null) {
-            boundingBox.setPosition(posX - sprite.getWidth() / 2, posY - sprite.getHeight() / 2);
+            boundingBox.setPosition(x - sprite.getWidth() / 2, y - sprite.getHeight() / 2);
         }
     }
 
@@ -191,22 +322,25 @@ public class Enemy {
 
             // Apply knockback movement
             float knockbackSpeed = knockbackForce * (1 - knockbackTimer / knockbackDuration);
-            posX += knockbackDirection.x * knockbackSpeed * delta;
-            posY += knockbackDirection.y * knockbackSpeed * delta;
+            setPositionValue(
+                getPosX() + knockbackDirection.x * knockbackSpeed * delta,
+                getPosY() + knockbackDirection.y * knockbackSpeed * delta
+            );
 
             if (knockbackTimer >= knockbackDuration) {
                 isKnockedBack = false;
                 knockbackTimer = 0f;
+                updateBusyFlag();
             }
         }
     }
 
-    private void updateShooting(float delta, Player player) {
+    private void updateShooting(float delta) {
         shootTimer += delta;
 
         float shootInterval = 6f;
         if (shootTimer >= shootInterval) {
-            shootAtPlayer(player);
+            shotPending = true;
             shootTimer = 0f;
         }
     }
@@ -214,26 +348,12 @@ public class Enemy {
     private void shootAtPlayer(Player player) {
         if (player == null) return;
 
-        float dirX = player.getPosX() - posX;
-        float dirY = player.getPosY() - posY;
-        Vector2 shootDirection = new Vector2(dirX, dirY).nor();
-
-        EnemyBullet bullet = new EnemyBullet(posX, posY, shootDirection);
+        float dirX = player.getPosX() - getPosX();
+        float dirY = player.getPosY() - getPosY();
+        EnemyBullet bullet = new EnemyBullet(getPosX(), getPosY(), dirX, dirY);
         bullets.add(bullet);
     }
 
-    private void updateBullets(float delta) {
-        for (int i = bullets.size() - 1; i >= 0; i--) {
-            EnemyBullet bullet = bullets.get(i);
-            bullet.update(delta);
-
-            if (!bullet.isActive()) {
-                bullet.dispose();
-                bullets.remove(i);
-            }
-        }
-    }
-
     private void updateFlashEffect(float delta) {
         if (isFlashing) {
             flashTimer += delta;
@@ -241,33 +361,33 @@ public class Enemy {
                 isFlashing = false;
                 flashTimer = 0;
                 sprite.setColor(originalColor);
+                updateBusyFlag();
             } else {
                 float progress = flashTimer / flashDuration;
 
                 float smoothProgress = 1 - (1 - progress) * (1 - progress);
 
-                Color currentColor = new Color(
+                sprite.setColor(
                     flashColor.r + (originalColor.r - flashColor.r) * smoothProgress,
                     flashColor.g + (originalColor.g - flashColor.g) * smoothProgress,
                     flashColor.b + (originalColor.b - flashColor.b) * smoothProgress,
                     1f
                 );
-
-                sprite.setColor(currentColor);
             }
         }
     }
 
-    private void moveTowardsPlayer(Player player, float delta) {
-        float playerX = player.getPosX();
-        float playerY = player.getPosY();
-
-        direction.x = playerX - posX;
-        direction.y = playerY - posY;
-        direction.nor();
+    private void moveTowardsPlayer(Player player, FlowField flowField, float delta) {
+        flowField.directionAt(getPosX(), getPosY(), player.getPosX(), player.getPosY(), direction);
 
-        posX += direction.x * type.getSpeed() * delta * 60;
-        posY += direction.y * type.getSpeed() * delta * 60;
+        setPositionValue(
+            getPosX() + direction.x * type.getSpeed() * delta * 60,
+            getPosY() + direction.y * type.getSpeed() * delta * 60
+        );
+        if (store != null) {
+            store.velX[storeIndex] = direction.x;
+            store.velY[storeIndex] = direction.y;
+        }
 
         if (direction.x < 0) {
             sprite.setFlip(true, false);
@@ -277,19 +397,20 @@ public class Enemy {
     }
 
     public boolean hit(int damage) {
-        health -= damage;
+        setHealthValue(getHealth() - damage);
 
         startFlashEffect();
 
         if (type != EnemyType.TREE) {
             applyKnockback();
         }
+        updateBusyFlag();
 
-        if (health <= 0 && isActive) {
-            isActive = false;
+        if (getHealth() <= 0 && isActive()) {
+            setActiveState(false);
 
-            deathPosX = posX;
-            deathPosY = posY;
+            deathPosX = getPosX();
+            deathPosY = getPosY();
             deathAnimTimer = 0f;
             isDeadAnimationPlaying = true;
             deathAnimationComplete = false;
@@ -307,14 +428,55 @@ public class Enemy {
         return false;
     }
 
+    /**
+     * Puts the enemy straight into a saved state, e.g. when loading a game. Unlike
+     * {@link #hit(int)} this has no side effects: no flash, knockback, sound, drop roll or
+     * kill credit. An inactive enemy skips its death animation; {@code dropType} is the drop
+     * still lying on the ground, or {@code null} if there is none.
+     */
+    public void restoreState(float x, float y, int health, boolean active, String dropType) {
+        setPositionValue(x, y);
+        setHealthValue(health);
+        setActiveState(active);
+
+        isFlashing = false;
+        flashTimer = 0;
+        isKnockedBack = false;
+        knockbackTimer = 0f;
+        sprite.setColor(originalColor);
+        updateBusyFlag();
+        syncSpriteAndBoundingBoxWithPosition();
+
+        for (EnemyBullet bullet : bullets) {
+            bullet.dispose();
+        }
+        bullets.clear();
+
+        if (!active) {
+            hasDroppedItem = true;
+            isDeadAnimationPlaying = false;
+            deathAnimationComplete = true;
+            deathPosX = x;
+            deathPosY = y;
+        }
+
+        if (dropType != null && !dropActive) {
+            this.dropType = dropType;
+            dropActive = true;
+            createDropSprite();
+        }
+    }
+
     private void applyKnockback() {
         isKnockedBack = true;
         knockbackTimer = 0f;
 
-        if (direction.len() > 0) {
-            knockbackDirection.set(-direction.x, -direction.y).nor();
+        float directionX = getDirectionX();
+        float directionY = getDirectionY();
+        if (directionX != 0 || directionY != 0) {
+            knockbackDirection.set(-directionX, -directionY).nor();
         } else {
-            float angle = MathUtils.random(0, 2 * MathUtils.PI);
+            float angle = App.getRandom().nextFloat(0, MathUtils.PI2);
             knockbackDirection.set(MathUtils.cos(angle), MathUtils.sin(angle));
         }
     }
@@ -323,13 +485,12 @@ public class Enemy {
         isFlashing = true;
         flashTimer = 0;
 
-        Color initialFlash = new Color(
+        sprite.setColor(
             originalColor.r * 0.4f + flashColor.r * 0.6f,
             originalColor.g * 0.4f + flashColor.g * 0.6f,
             originalColor.b * 0.4f + flashColor.b * 0.6f,
             1f
         );
-        sprite.setColor(initialFlash);
     }
 
     private void dropItem() {
@@ -347,7 +508,7 @@ public class Enemy {
             dropType = "experience";
         }
 
-        if (MathUtils.random() < dropChance) {
+        if (App.getRandom().nextFloat() < dropChance) {
             createDropSprite();
             dropActive = true;
         }
@@ -357,10 +518,11 @@ public class Enemy {
         String dropTexturePath = "Images/drops/" + dropType + ".png";
         int size = dropType.equals("experience") ? 12 : 30;
         try {
-            dropTexture = new Texture(Gdx.files.internal(dropTexturePath));
-            dropSprite = new Sprite(dropTexture);
+            dropRegion = GameAssetManager.getGameAssetManager().acquireRegion(dropTexturePath);
+            this.dropTexturePath = dropTexturePath;
+            dropSprite = new Sprite(dropRegion);
             dropSprite.setSize(size, size);
-            dropSprite.setPosition(posX - 15, posY - 15);
+            dropSprite.setPosition(getPosX() - 15, getPosY() - 15);
             dropSprite.setOriginCenter();
         } catch (Exception e) {
             System.out.println("Error loading drop texture: " + e.getMessage());
@@ -371,14 +533,10 @@ public class Enemy {
     public void collectDrop(Player player) {
         if (!dropActive) return;
 
-        Rectangle dropRect = new Rectangle(
-            dropSprite.getX(),
-            dropSprite.getY(),
-            dropSprite.getWidth(),
-            dropSprite.getHeight()
-        );
-
-        if (dropRect.overlaps(player.getBoundingBox())) {
+        // Rectangle.overlaps against the unscaled sprite, without building a rectangle each step
+        Rectangle playerBox = player.getBoundingBox();
+        if (dropSprite.getX() < playerBox.x + playerBox.width && dropSprite.getX() + dropSprite.getWidth() > playerBox.x
+            && dropSprite.getY() < playerBox.y + playerBox.height && dropSprite.getY() + dropSprite.getHeight() > playerBox.y) {
             applyDropEffect(player);
             dropActive = false;
             GameAssetManager.getGameAssetManager().playObtain();
@@ -415,7 +573,7 @@ public class Enemy {
         return deathAnimationComplete;
     }
 
-    public Texture getDeathAnimationFrame() {
+    public TextureRegion getDeathAnimationFrame() {
         if (isDeadAnimationPlaying && deathAnimation != null) {
             return deathAnimation.getKeyFrame(deathAnimTimer, false);
         }
@@ -430,7 +588,7 @@ public class Enemy {
         return deathPosY;
     }
 
-    public Animation<Texture> getDeathAnimation() {
+    public Animation<TextureRegion> getDeathAnimation() {
         return deathAnimation;
     }
 
@@ -443,42 +601,51 @@ public class Enemy {
     }
 
     public boolean isActive() {
-        return isActive;
+        return store != null ? store.isActive(storeIndex) : isActive;
     }
 
     public boolean isDropActive() {
         return dropActive;
     }
 
+    public String getDropType() {
+        return dropType;
+    }
+
     public EnemyType getType() {
         return type;
     }
 
     public int getHealth() {
-        return health;
+        return store != null ? store.health[storeIndex] : health;
     }
 
     public float getPosX() {
-        return posX;
+        return store != null ? store.posX[storeIndex] : posX;
     }
 
     // Override setPosX and setPosY to ensure synchronization
     public void setPosX(float posX) {
-        this.posX = posX;
+        setPositionValue(posX, getPosY());
         syncSpriteAndBoundingBoxWithPosition();
     }
 
     public float getPosY() {
-        return posY;
+        return store != null ? store.posY[storeIndex] : posY;
     }
 
     public void setPosY(float posY) {
-        this.posY = posY;
+        setPositionValue(getPosX(), posY);
         syncSpriteAndBoundingBoxWithPosition();
     }
 
+    public float getCollisionRadius() {
+        return collisionRadius;
+    }
 
     public Rectangle getBoundingBox() {
+        // Chasers moved by the store don't sync their shapes every frame
+        boundingBox.setPosition(getPosX() - boundingBox.width / 2, getPosY() - boundingBox.height / 2);
         return boundingBox;
     }
 
@@ -491,8 +658,15 @@ public class Enemy {
     }
 
     public void dispose() {
-        if (texture != null) texture.dispose();
-        if (dropTexture != null) dropTexture.dispose();
+        GameAssetManager assetManager = GameAssetManager.getGameAssetManager();
+        if (region != null) {
+            assetManager.releaseEnemyRegion(type);
+            region = null;
+        }
+        if (dropRegion != null) {
+            assetManager.releaseRegion(dropTexturePath);
+            dropRegion = null;
+        }
 
         for (EnemyBullet bullet : bullets) {
             bullet.dispose();
@@ -505,8 +679,10 @@ public class Enemy {
     }
 
     public static class EnemyBullet {
+        private static final String PROJECTILE_TEXTURE_PATH = "Images/Enemies/eyebat/projectile.png";
+
         private final Sprite sprite;
-        private Texture texture;
+        private TextureRegion region;
         private Vector2 position = new Vector2();
         private Vector2 direction = new Vector2();
         private boolean isActive = true;
@@ -517,13 +693,13 @@ public class Enemy {
         private float lifeTime = 0f;
         private float maxLifeTime = 5f;
 
-        public EnemyBullet(float x, float y, Vector2 direction) {
-            createTexture();
+        public EnemyBullet(float x, float y, float directionX, float directionY) {
+            createRegion();
 
-            this.sprite = new Sprite(texture);
+            this.sprite = new Sprite(region);
             sprite.setSize(16, 16);
             this.position.set(x, y);
-            this.direction.set(direction).nor();
+            this.direction.set(directionX, directionY).nor();
 
             sprite.setPosition(x - sprite.getWidth() / 2, y - sprite.getHeight() / 2);
 
@@ -532,12 +708,8 @@ public class Enemy {
             boundingBox = new Rectangle(x - radius, y - radius, radius * 2, radius * 2);
         }
 
-        private void createTexture() {
-            try {
-                texture = new Texture(Gdx.files.internal("Images/Enemies/eyebat/projectile.png"));
-            } catch (Exception e) {
-                texture = new Texture(Gdx.files.internal("Images/bullet.png"));
-            }
+        private void createRegion() {
+            region = GameAssetManager.getGameAssetManager().acquireRegion(PROJECTILE_TEXTURE_PATH, "Images/bullet.png");
         }
 
         public void update(float delta) {
@@ -559,8 +731,8 @@ public class Enemy {
             boundingBox.setPosition(position.x - radius, position.y - radius);
         }
 
-        public Texture getTexture() {
-            return texture;
+        public TextureRegion getRegion() {
+            return region;
         }
 
         public Sprite getSprite() {
@@ -600,8 +772,9 @@ public class Enemy {
         }
 
         public void dispose() {
-            if (texture != null) {
-                texture.dispose();
+            if (region != null) {
+                GameAssetManager.getGameAssetManager().releaseRegion(PROJECTILE_TEXTURE_PATH);
+                region = null;
             }
         }
     }
@@ -1,5 +1,7 @@
 package com.untilDawn.models;
 
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.untilDawn.models.enums.Weapons;
 
 import java.util.ArrayList;
@@ -13,23 +15,27 @@ public class Game {
     private int timeLimit; // in minutes
     private ArrayList<Enemy> enemies;
     private float gameTime; // current game time in seconds
+    // Everything random in a session draws from here, so the seed and the inputs replay it exactly
+    private long seed;
+    private transient RandomXS128 random;
 
     public Game(int timeLimit) {
+        this(timeLimit, MathUtils.random.nextLong());
+    }
+
+    public Game(int timeLimit, long seed) {
         this.score = 0;
         this.level = 1;
         this.difficulty = 1;
         this.timeLimit = timeLimit;
         this.enemies = new ArrayList<>();
         this.gameTime = 0;
+        this.seed = seed;
+        this.random = new RandomXS128(seed);
     }
 
     public Game() {
-        this.score = 0;
-        this.level = 1;
-        this.difficulty = 1;
-        this.timeLimit = 5;
-        this.enemies = new ArrayList<>();
-        this.gameTime = 0;
+        this(5);
     }
 
     public int getScore() {
@@ -95,4 +101,15 @@ public class Game {
     public void setGameTime(float gameTime) {
         this.gameTime = gameTime;
     }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public RandomXS128 getRandom() {
+        if (random == null) {
+            random = new RandomXS128(seed);
+        }
+        return random;
+    }
 }
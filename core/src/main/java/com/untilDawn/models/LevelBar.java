@@ -5,8 +5,8 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.untilDawn.models.utils.HudText;
 
 public class LevelBar {
     private Texture backgroundTexture;
@@ -18,7 +18,7 @@ public class LevelBar {
     private float progress;
     private float width;
     private float height;
-    private GlyphLayout glyphLayout;
+    private HudText levelText;
 
     public LevelBar(BitmapFont font, float width, float height) {
         this.font = font;
@@ -28,7 +28,7 @@ public class LevelBar {
         this.currentXP = 0;
         this.xpForNextLevel = calculateXPForNextLevel(level);
         this.progress = 0;
-        this.glyphLayout = new GlyphLayout();
+        this.levelText = new HudText(font);
 
         createTextures();
     }
@@ -91,13 +91,11 @@ public class LevelBar {
 
         batch.draw(fillTexture, x, y, screenWidth * progress, height);
 
-        String levelText = "Level       " + level;
-        glyphLayout.setText(font, levelText);
-        float textX = (screenWidth - glyphLayout.width) / 2;
-        float textY = y + (height + glyphLayout.height) / 2;
+        levelText.setValue("Level       ", level, Color.WHITE);
+        float textX = (screenWidth - levelText.getWidth()) / 2;
+        float textY = y + (height + levelText.getHeight()) / 2;
 
-        font.setColor(Color.WHITE);
-        font.draw(batch, levelText, textX, textY);
+        levelText.draw(batch, textX, textY);
     }
 
     public void dispose() {
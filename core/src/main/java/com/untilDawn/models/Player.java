@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.untilDawn.models.enums.Abilities;
 import com.untilDawn.models.enums.Characters;
@@ -13,6 +14,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class Player {
+    private static final Abilities[] ABILITIES = Abilities.values();
+
     private int kills;
     private Texture playerTexture = new Texture(Gdx.files.internal("Images/characters/Shana/run0.png"));
     private Sprite playerSprite = new Sprite(playerTexture);
@@ -31,7 +34,7 @@ public class Player {
     private int XP;
     private boolean isLevelingUp = false;
     private float levelUpAnimationTime = 0f;
-    private Animation<Texture> levelUpAnimation;
+    private Animation<TextureRegion> levelUpAnimation;
     private boolean isInvincible = false;
     private float invincibilityTimer = 0f;
     private float invincibilityDuration = 1f;
@@ -43,7 +46,7 @@ public class Player {
     // Curse animation fields
     private boolean isCurseAnimationPlaying = false;
     private float curseAnimationTime = 0f;
-    private Animation<Texture> curseAnimation;
+    private Animation<TextureRegion> curseAnimation;
     private float curseAnimationDuration = 0.6f; // Duration for curse animation
 
     // Ability-related fields
@@ -81,7 +84,7 @@ public class Player {
 
     private void updateAbilities(float delta) {
         // Update all abilities
-        for (Abilities ability : Abilities.values()) {
+        for (Abilities ability : ABILITIES) {
             ability.update(delta);
         }
 
@@ -353,7 +356,7 @@ public class Player {
         return isCurseAnimationPlaying;
     }
 
-    public Texture getCurseAnimationFrame() {
+    public TextureRegion getCurseAnimationFrame() {
         if (isCurseAnimationPlaying && curseAnimation != null) {
             return curseAnimation.getKeyFrame(curseAnimationTime, false);
         }
@@ -376,7 +379,7 @@ public class Player {
         updateLevel();
     }
 
-    private void updateLevel() {
+    void updateLevel() {
         int tempXP = XP;
         int newLevel = 1;
         int xpNeeded = 20;
@@ -416,7 +419,7 @@ public class Player {
         }
     }
 
-    public Texture getLevelUpFrame() {
+    public TextureRegion getLevelUpFrame() {
         if (isLevelingUp && levelUpAnimation != null) {
             return levelUpAnimation.getKeyFrame(levelUpAnimationTime, false);
         }
@@ -460,6 +463,10 @@ public class Player {
         this.kills += 1;
     }
 
+    public void setKills(int kills) {
+        this.kills = kills;
+    }
+
     public int getKills() {
         return kills;
     }
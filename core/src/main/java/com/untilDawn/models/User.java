@@ -1,5 +1,7 @@
 package com.untilDawn.models;
 
+import com.untilDawn.models.utils.UserRepository;
+
 public class User {
     private String username;
     private String password;
@@ -12,6 +14,8 @@ public class User {
     private int deaths;
     private int kills;
     private float survivalTime;
+    // Changed since it was last loaded from or written to the user database
+    private transient boolean dirty;
 
     public User(String username, String password, String avatarPath) {
         this.username = username;
@@ -21,6 +25,7 @@ public class User {
         this.SecurityQuestionIndex = 0;
         this.SecurityAnswer = "";
         this.survivalTime = 0;
+        markDirty();
     }
 
 
@@ -28,6 +33,7 @@ public class User {
         this.username = "guest";
         this.password = "Guest#";
         isGuest = true;
+        markDirty();
     }
 
     public int getScore() {
@@ -36,6 +42,7 @@ public class User {
 
     public void setScore(int score) {
         this.score = score;
+        markDirty();
     }
 
     public String getUsername() {
@@ -44,6 +51,7 @@ public class User {
 
     public void setUsername(String username) {
         this.username = username;
+        markDirty();
     }
 
     public String getPassword() {
@@ -52,6 +60,7 @@ public class User {
 
     public void setPassword(String password) {
         this.password = password;
+        markDirty();
     }
 
     public String getSecurityAnswer() {
@@ -60,6 +69,7 @@ public class User {
 
     public void setSecurityAnswer(String securityAnswer) {
         SecurityAnswer = securityAnswer;
+        markDirty();
     }
 
     public int getSecurityQuestionIndex() {
@@ -68,6 +78,7 @@ public class User {
 
     public void setSecurityQuestionIndex(int securityQuestionIndex) {
         SecurityQuestionIndex = securityQuestionIndex;
+        markDirty();
     }
 
     public boolean isGuest() {
@@ -76,6 +87,7 @@ public class User {
 
     public void setGuest(boolean guest) {
         isGuest = guest;
+        markDirty();
     }
 
     public String getAvatarPath() {
@@ -84,6 +96,7 @@ public class User {
 
     public void setAvatarPath(String avatarPath) {
         this.avatarPath = avatarPath;
+        markDirty();
     }
 
     public int getDeaths() {
@@ -92,6 +105,7 @@ public class User {
 
     public void setDeaths(int deaths) {
         this.deaths = deaths;
+        markDirty();
     }
 
     public int getKills() {
@@ -100,6 +114,7 @@ public class User {
 
     public void setKills(int kills) {
         this.kills = kills;
+        markDirty();
     }
 
     public float getSurvivalTime() {
@@ -108,6 +123,22 @@ public class User {
 
     public void setSurvivalTime(float survivalTime) {
         this.survivalTime = survivalTime;
+        markDirty();
+    }
+
+    private void markDirty() {
+        if (!dirty) {
+            dirty = true;
+            UserRepository.userChanged(this);
+        }
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void markClean() {
+        dirty = false;
     }
 
     @Override
@@ -43,7 +43,6 @@ public enum Weapons {
     }
 
     public int getDamage() {
-        System.out.println(damage);
         return damage;
     }
 
@@ -0,0 +1,74 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+
+/**
+ * Assets that are loaded and unloaded together. {@link #BOOT} stays resident for the whole run;
+ * the other groups belong to a screen, which loads its group when it is created and unloads it
+ * when it is hidden. The underlying asset manager counts references, so a group shared by two
+ * screens during a transition is only disposed once both have let go of it.
+ */
+public enum AssetGroup {
+    BOOT(
+        new AssetDescriptor<>(GameAssetManager.SKIN_PATH, Skin.class),
+        new AssetDescriptor<>(GameAssetManager.CHEVY_RAY_FONT, BitmapFont.class, chevyRayParameters()),
+        new AssetDescriptor<>(GameAssetManager.PANEL_PATH, Texture.class),
+        sound(GameAssetManager.CLICK_SOUND),
+        sound(GameAssetManager.RELOAD_SOUND),
+        sound(GameAssetManager.BLOOD_SPLASH_SOUND),
+        sound(GameAssetManager.SHOT_SOUND),
+        sound(GameAssetManager.OBTAIN_SOUND),
+        sound(GameAssetManager.BAT_DEATH_SOUND),
+        sound(GameAssetManager.LEVEL_UP_SOUND),
+        sound(GameAssetManager.ELDER_SPAWN_SOUND),
+        sound(GameAssetManager.LOSE_SOUND),
+        sound(GameAssetManager.WIN_SOUND)
+    ),
+    START_MENU(
+        texture("Images/logo.png"),
+        texture("Images/EyeBlink/EyeBlink_0.png"),
+        texture("Images/EyeBlink/EyeBlink_1.png"),
+        texture("Images/EyeBlink/EyeBlink_2.png")
+    ),
+    PRE_GAME(
+        texture("Images/selectorBubble/SelectorBubble1.png"),
+        texture("Images/SelectScreenPanel.png")
+    ),
+    GAME(
+        texture(GameAssetManager.MAP_PATH)
+    );
+
+    private final AssetDescriptor<?>[] assets;
+
+    AssetGroup(AssetDescriptor<?>... assets) {
+        this.assets = assets;
+    }
+
+    public AssetDescriptor<?>[] getAssets() {
+        return assets;
+    }
+
+    private static AssetDescriptor<Texture> texture(String path) {
+        return new AssetDescriptor<>(path, Texture.class);
+    }
+
+    private static AssetDescriptor<Sound> sound(String path) {
+        return new AssetDescriptor<>(path, Sound.class);
+    }
+
+    private static FreetypeFontLoader.FreeTypeFontLoaderParameter chevyRayParameters() {
+        FreetypeFontLoader.FreeTypeFontLoaderParameter parameter = new FreetypeFontLoader.FreeTypeFontLoaderParameter();
+        parameter.fontFileName = "skin/ChevyRay.ttf";
+        parameter.fontParameters.size = 28;
+        parameter.fontParameters.color = Color.WHITE;
+        parameter.fontParameters.borderWidth = 1;
+        parameter.fontParameters.borderColor = Color.BLACK;
+        return parameter;
+    }
+}
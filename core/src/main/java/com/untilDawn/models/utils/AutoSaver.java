@@ -0,0 +1,80 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.untilDawn.models.utils.GameSaveSystem.GameSaveData;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes save snapshots on a single background thread so the render thread only pays for
+ * taking the snapshot. Snapshots handed over while a write is in flight replace each other:
+ * only the newest one is written once the writer is free, older ones are dropped.
+ * <p>
+ * A snapshot belongs to the writer once submitted and must not be touched again.
+ */
+public class AutoSaver {
+    private static AutoSaver instance;
+
+    private final AtomicReference<GameSaveData> pending = new AtomicReference<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autosave");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Future<?> lastWrite;
+
+    private AutoSaver() {
+    }
+
+    public static AutoSaver getInstance() {
+        if (instance == null) {
+            instance = new AutoSaver();
+        }
+        return instance;
+    }
+
+    public void submit(GameSaveData snapshot) {
+        // Only schedule a write when there wasn't one waiting already; that write will pick this snapshot up
+        if (pending.getAndSet(snapshot) == null) {
+            lastWrite = writer.submit(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        GameSaveData snapshot = pending.getAndSet(null);
+        if (snapshot == null) return;
+
+        long start = System.nanoTime();
+        try {
+            GameSaveSystem.writeSaveFile(snapshot);
+            Gdx.app.log("AutoSaver", "Saved " + snapshot.username + " - Enemies: " + snapshot.enemies.size() +
+                ", Time: " + snapshot.gameTime + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (Exception e) {
+            Gdx.app.error("AutoSaver", "Failed to save game: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Blocks until everything submitted so far is on disk, e.g. before leaving a game or exiting.
+     */
+    public void flush() {
+        Future<?> write = lastWrite;
+        if (write == null) return;
+
+        try {
+            write.get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            Gdx.app.error("AutoSaver", "Waiting for the last save failed: " + e.getMessage());
+        }
+    }
+
+    public void dispose() {
+        flush();
+        writer.shutdown();
+        instance = null;
+    }
+}
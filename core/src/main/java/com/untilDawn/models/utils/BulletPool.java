@@ -0,0 +1,50 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.utils.Pool;
+import com.untilDawn.models.Bullet;
+
+/**
+ * Recycles player bullets. The counters make it easy to confirm that, once the pool has
+ * warmed up, firing only reuses instances: {@link #getCreatedCount()} stays flat while
+ * {@link #getReusedCount()} keeps climbing. The headless allocation check fails if new
+ * bullets are still being created after its warm-up.
+ */
+public class BulletPool extends Pool<Bullet> {
+    private int createdCount = 0;
+    private int obtainedCount = 0;
+    private int reusedCount = 0;
+
+    public BulletPool(int initialCapacity, int max) {
+        super(initialCapacity, max);
+    }
+
+    @Override
+    protected Bullet newObject() {
+        createdCount++;
+        return new Bullet();
+    }
+
+    @Override
+    public Bullet obtain() {
+        obtainedCount++;
+        if (getFree() > 0) {
+            reusedCount++;
+        }
+        return super.obtain();
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public int getObtainedCount() {
+        return obtainedCount;
+    }
+
+    /**
+     * Obtains served from the free list, including the instances {@link #fill(int)} created up front.
+     */
+    public int getReusedCount() {
+        return reusedCount;
+    }
+}
@@ -88,6 +88,9 @@ public class CheatCodeManager {
         CheatCode cheat = cheatCodes.get(code.toUpperCase());
         if (cheat != null) {
             try {
+                if (gameController != null && gameController.getRecorder() != null) {
+                    gameController.getRecorder().cheat(code);
+                }
                 cheat.execute();
                 Gdx.app.log("CheatCode", "Executed cheat: " + cheat.getName());
                 return true;
@@ -0,0 +1,172 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import java.util.Arrays;
+
+/**
+ * Pushes apart walking enemies that overlap, so a swarm spreads out instead of moving as one
+ * stack of identical sprites. Each pass sorts the walkers into grid cells (a counting sort
+ * into flat arrays, so neighbours sit next to each other in memory) and checks each walker
+ * against no more than {@link #MAX_NEIGHBORS} of the others in the 3x3 cells around it: a dense
+ * crowd costs the same per enemy as a sparse one.
+ * <p>
+ * Every push is worked out before any enemy moves, and the sort is stable, so the result
+ * depends only on the store's contents and order. Trees and the Elder are left out; the flow
+ * field already walks enemies around them.
+ */
+public class CrowdSeparation {
+    // At least the widest pair of walkers, so every overlap is within one cell
+    public static final float CELL_SIZE = 64f;
+    public static final int MAX_NEIGHBORS = 6;
+
+    private final int columns;
+    private final int rows;
+    // Walkers of a cell are sortedX[cellStart[cell]] up to, not including, cellStart[cell + 1]
+    private final int[] cellStart;
+    private final int[] cellFill;
+    private final boolean[] separatedByType;
+
+    private int[] walkerCell = new int[0];
+    // Walkers in cell order
+    private int[] sortedIndex = new int[0];
+    private int[] sortedCell = new int[0];
+    private float[] sortedX = new float[0];
+    private float[] sortedY = new float[0];
+    private float[] sortedRadius = new float[0];
+    private float[] pushX = new float[0];
+    private float[] pushY = new float[0];
+
+    /**
+     * @param separatedByType whether enemies of each type, by ordinal, take part
+     */
+    public CrowdSeparation(float mapWidth, float mapHeight, boolean[] separatedByType) {
+        this.columns = Math.max(1, (int) Math.ceil(mapWidth / CELL_SIZE));
+        this.rows = Math.max(1, (int) Math.ceil(mapHeight / CELL_SIZE));
+        this.cellStart = new int[columns * rows + 1];
+        this.cellFill = new int[columns * rows];
+        this.separatedByType = separatedByType;
+    }
+
+    /**
+     * Moves every overlapping walker away from its neighbours by half the overlap, but never
+     * further than {@code maxPush} in one pass.
+     */
+    public void separate(EnemyStore store, float maxPush) {
+        int count = sort(store);
+        Arrays.fill(pushX, 0, count, 0f);
+        Arrays.fill(pushY, 0, count, 0f);
+
+        // Each pair is seen once, from the walker that comes first in cell order: the rest of its
+        // own row of cells and the row above
+        for (int a = 0; a < count; a++) {
+            int column = sortedCell[a] % columns;
+            int row = sortedCell[a] / columns;
+            int lastColumn = Math.min(columns - 1, column + 1);
+            int seen = 0;
+
+            int end = cellStart[row * columns + lastColumn + 1];
+            for (int b = a + 1; b < end && seen < MAX_NEIGHBORS; b++, seen++) {
+                push(a, b);
+            }
+            if (row + 1 < rows) {
+                int above = (row + 1) * columns;
+                end = cellStart[above + lastColumn + 1];
+                for (int b = cellStart[above + Math.max(0, column - 1)]; b < end && seen < MAX_NEIGHBORS; b++, seen++) {
+                    push(a, b);
+                }
+            }
+        }
+
+        for (int a = 0; a < count; a++) {
+            float x = pushX[a];
+            float y = pushY[a];
+            float lengthSq = x * x + y * y;
+            if (lengthSq > maxPush * maxPush) {
+                float scale = maxPush / (float) Math.sqrt(lengthSq);
+                x *= scale;
+                y *= scale;
+            }
+            int i = sortedIndex[a];
+            store.posX[i] += x;
+            store.posY[i] += y;
+        }
+    }
+
+    // Moves both walkers of an overlapping pair half the overlap apart
+    private void push(int a, int b) {
+        float dx = sortedX[a] - sortedX[b];
+        float dy = sortedY[a] - sortedY[b];
+        float minDistance = sortedRadius[a] + sortedRadius[b];
+        float distanceSq = dx * dx + dy * dy;
+        if (distanceSq >= minDistance * minDistance) return;
+
+        float halfX, halfY;
+        if (distanceSq == 0f) {
+            // Exactly stacked: split them along an angle that depends only on the pair
+            float angle = Math.min(sortedIndex[a], sortedIndex[b]) * 137.5f * MathUtils.degreesToRadians;
+            float side = sortedIndex[a] < sortedIndex[b] ? 0.5f : -0.5f;
+            halfX = MathUtils.cos(angle) * side * minDistance;
+            halfY = MathUtils.sin(angle) * side * minDistance;
+        } else {
+            float distance = (float) Math.sqrt(distanceSq);
+            float overlap = 0.5f * (minDistance - distance) / distance;
+            halfX = dx * overlap;
+            halfY = dy * overlap;
+        }
+        pushX[a] += halfX;
+        pushY[a] += halfY;
+        pushX[b] -= halfX;
+        pushY[b] -= halfY;
+    }
+
+    // Counting sort of the walkers by cell; returns how many there are
+    private int sort(EnemyStore store) {
+        ensureCapacity(store.size);
+
+        Arrays.fill(cellStart, 0);
+        int count = 0;
+        for (int i = 0; i < store.size; i++) {
+            if (!store.isActive(i) || !separatedByType[store.type[i]]) continue;
+            int cell = cellAt(store.posX[i], store.posY[i]);
+            walkerCell[count++] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int cell = 0; cell < cellFill.length; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+
+        System.arraycopy(cellStart, 0, cellFill, 0, cellFill.length);
+        int walker = 0;
+        for (int i = 0; i < store.size; i++) {
+            if (!store.isActive(i) || !separatedByType[store.type[i]]) continue;
+            int cell = walkerCell[walker++];
+            int slot = cellFill[cell]++;
+            sortedIndex[slot] = i;
+            sortedCell[slot] = cell;
+            sortedX[slot] = store.posX[i];
+            sortedY[slot] = store.posY[i];
+            sortedRadius[slot] = store.radius[i];
+        }
+        return count;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (sortedIndex.length >= capacity) return;
+        capacity = Math.max(capacity, sortedIndex.length * 2);
+        walkerCell = new int[capacity];
+        sortedIndex = new int[capacity];
+        sortedCell = new int[capacity];
+        sortedX = new float[capacity];
+        sortedY = new float[capacity];
+        sortedRadius = new float[capacity];
+        pushX = new float[capacity];
+        pushY = new float[capacity];
+    }
+
+    private int cellAt(float x, float y) {
+        int column = Math.min(columns - 1, Math.max(0, (int) (x / CELL_SIZE)));
+        int row = Math.min(rows - 1, Math.max(0, (int) (y / CELL_SIZE)));
+        return row * columns + column;
+    }
+}
@@ -0,0 +1,203 @@
+package com.untilDawn.models.utils;
+
+import com.untilDawn.models.Enemy;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays storage for live enemies. The per-frame state the controller touches on
+ * every enemy (position, heading, radius, health, type and state flags) lives in parallel
+ * primitive arrays so the hot loops walk contiguous memory instead of chasing object graphs.
+ * <p>
+ * Each slot also keeps its {@link Enemy}, which acts as a view over the slot and owns the
+ * rarely touched state: sprites, drops, enemy bullets and the death animation. Removal swaps
+ * the last slot into the hole, so indices are only stable until the next {@link #remove(int)}.
+ * <p>
+ * Like {@code Array.items}, the arrays are exposed directly and are replaced when the store
+ * grows; read them through the store rather than caching them across an {@link #add(Enemy)}.
+ */
+public class EnemyStore {
+    public static final int FLAG_ACTIVE = 1;
+    /** Moves straight at the player and has no behaviour beyond that, see {@link #integrateChasers}. */
+    public static final int FLAG_CHASER = 1 << 1;
+    /** Knockback, hit flash or anything else that needs the full object update this frame. */
+    public static final int FLAG_BUSY = 1 << 2;
+
+    private static final int INITIAL_CAPACITY = 128;
+
+    public float[] posX;
+    public float[] posY;
+    public float[] prevX;
+    public float[] prevY;
+    public float[] velX;
+    public float[] velY;
+    public float[] radius;
+    public int[] health;
+    public int[] type;
+    public int[] flags;
+    public Enemy[] enemies;
+    public int size = 0;
+
+    public EnemyStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public EnemyStore(int capacity) {
+        capacity = Math.max(1, capacity);
+        posX = new float[capacity];
+        posY = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        velX = new float[capacity];
+        velY = new float[capacity];
+        radius = new float[capacity];
+        health = new int[capacity];
+        type = new int[capacity];
+        flags = new int[capacity];
+        enemies = new Enemy[capacity];
+    }
+
+    /**
+     * Adds the enemy and attaches it to its new slot; from then on its position, health and
+     * state flags are read from and written to this store.
+     */
+    public int add(Enemy enemy) {
+        if (size == enemies.length) {
+            grow(size * 2);
+        }
+
+        int index = size++;
+        enemies[index] = enemy;
+        enemy.attach(this, index);
+        prevX[index] = posX[index];
+        prevY[index] = posY[index];
+        return index;
+    }
+
+    /**
+     * Detaches the enemy in the given slot, copying its state back into the object, and moves
+     * the last slot into its place.
+     */
+    public Enemy remove(int index) {
+        Enemy removed = enemies[index];
+        removed.detach();
+
+        int last = --size;
+        if (index != last) {
+            posX[index] = posX[last];
+            posY[index] = posY[last];
+            prevX[index] = prevX[last];
+            prevY[index] = prevY[last];
+            velX[index] = velX[last];
+            velY[index] = velY[last];
+            radius[index] = radius[last];
+            health[index] = health[last];
+            type[index] = type[last];
+            flags[index] = flags[last];
+            enemies[index] = enemies[last];
+            enemies[index].moveTo(index);
+        }
+        enemies[last] = null;
+        return removed;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            enemies[i].detach();
+            enemies[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Remembers where every enemy is before a simulation step so rendering can interpolate.
+     */
+    public void storePreviousPositions() {
+        System.arraycopy(posX, 0, prevX, 0, size);
+        System.arraycopy(posY, 0, prevY, 0, size);
+    }
+
+    public float getRenderX(int index, float alpha) {
+        return prevX[index] + (posX[index] - prevX[index]) * alpha;
+    }
+
+    public float getRenderY(int index, float alpha) {
+        return prevY[index] + (posY[index] - prevY[index]) * alpha;
+    }
+
+    /**
+     * Moves every idle chaser one step towards the target, around obstacles where the flow
+     * field says so. This is the whole per-frame update for a plain chaser, so those enemies
+     * never reach {@link Enemy#update}.
+     * <p>
+     * Covers the slots from {@code from} up to, not including, {@code to}. A slot only touches
+     * its own entries, so disjoint ranges can run on different threads.
+     */
+    public void integrateChasers(FlowField flowField, int from, int to, float targetX, float targetY, float[] speedByType, float delta) {
+        float step = delta * 60;
+        for (int i = from; i < to; i++) {
+            if ((flags[i] & (FLAG_ACTIVE | FLAG_CHASER | FLAG_BUSY)) != (FLAG_ACTIVE | FLAG_CHASER)) continue;
+
+            int cell = flowField.cellAt(posX[i], posY[i]);
+            float dx = flowField.directionX(cell);
+            float dy = flowField.directionY(cell);
+            if (dx == 0f && dy == 0f) {
+                dx = targetX - posX[i];
+                dy = targetY - posY[i];
+                float length = (float) Math.sqrt(dx * dx + dy * dy);
+                if (length != 0f) {
+                    dx /= length;
+                    dy /= length;
+                }
+            }
+            velX[i] = dx;
+            velY[i] = dy;
+
+            float speed = speedByType[type[i]] * step;
+            posX[i] += dx * speed;
+            posY[i] += dy * speed;
+        }
+    }
+
+    public boolean isChaser(int index) {
+        return (flags[index] & (FLAG_CHASER | FLAG_BUSY)) == FLAG_CHASER;
+    }
+
+    public boolean isActive(int index) {
+        return (flags[index] & FLAG_ACTIVE) != 0;
+    }
+
+    public void setFlag(int index, int flag, boolean value) {
+        if (value) {
+            flags[index] |= flag;
+        } else {
+            flags[index] &= ~flag;
+        }
+    }
+
+    public Enemy get(int index) {
+        return enemies[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return enemies.length;
+    }
+
+    private void grow(int capacity) {
+        posX = Arrays.copyOf(posX, capacity);
+        posY = Arrays.copyOf(posY, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        velX = Arrays.copyOf(velX, capacity);
+        velY = Arrays.copyOf(velY, capacity);
+        radius = Arrays.copyOf(radius, capacity);
+        health = Arrays.copyOf(health, capacity);
+        type = Arrays.copyOf(type, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        enemies = Arrays.copyOf(enemies, capacity);
+    }
+}
@@ -0,0 +1,388 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.untilDawn.models.ElderBoss.ElectricBarrier;
+import com.untilDawn.models.enums.EnemyType;
+
+import java.util.Arrays;
+
+/**
+ * Shared pathing for everything that walks towards the player. The map is cut into cells, and
+ * cells the player can be seen from in a straight line store no direction at all: their
+ * enemies head straight for the player as before. For the cells in the shadow of a tree, a
+ * Dijkstra pass finds the path cost around the trees, the walls of the Elder's barrier being
+ * passable but expensive to cross, and each cell stores which way to walk.
+ * <p>
+ * The field is rebuilt only when the player moves into another cell or the obstacles change,
+ * so one rebuild is shared by every enemy on the map, and looking up a direction is an array
+ * read.
+ */
+public class FlowField {
+    public static final float CELL_SIZE = 64f;
+    // The player walking into another cell waits this long for a rebuild; new obstacles don't wait
+    private static final float MIN_REBUILD_INTERVAL = 0.25f;
+
+    // Orthogonal and diagonal step costs, close to 1 : sqrt(2)
+    private static final int STRAIGHT = 10;
+    private static final int DIAGONAL = 14;
+    // Crossing a barrier wall is possible but costs as much as walking this many cells around it
+    private static final int BARRIER_FACTOR = 8;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private static final byte OPEN = 0;
+    private static final byte BARRIER = 1;
+    private static final byte BLOCKED = 2;
+
+    private final int columns;
+    private final int rows;
+    private final byte[] terrain;
+    private final int[] cost;
+    private final boolean[] visible;
+    private final float[] dirX;
+    private final float[] dirY;
+    // Binary min-heap of (cost << 32 | cell)
+    private long[] heap = new long[256];
+    private int heapSize = 0;
+
+    private int targetCell = -1;
+    private int treeCount = -1;
+    private boolean barrierPresent = false;
+    // Cell range of the barrier's rectangle when the terrain was last built
+    private int barrierX0, barrierY0, barrierX1, barrierY1;
+    private float sinceRebuild = 0;
+    private int rebuilds = 0;
+
+    public FlowField(float mapWidth, float mapHeight) {
+        this.columns = Math.max(1, (int) Math.ceil(mapWidth / CELL_SIZE));
+        this.rows = Math.max(1, (int) Math.ceil(mapHeight / CELL_SIZE));
+        int cells = columns * rows;
+        this.terrain = new byte[cells];
+        this.cost = new int[cells];
+        this.visible = new boolean[cells];
+        this.dirX = new float[cells];
+        this.dirY = new float[cells];
+    }
+
+    /**
+     * Brings the field up to date for this step. Cheap unless the player changed cells or an
+     * obstacle appeared, disappeared or moved. Enemies in sight of the player don't use the
+     * field, so lagging a little behind the player only bends the paths in the shadows.
+     *
+     * @param barrier the Elder's barrier, or null if there is none up
+     */
+    public void update(EnemyStore store, ElectricBarrier barrier, float targetX, float targetY, float delta) {
+        sinceRebuild += delta;
+        boolean terrainChanged = updateTerrain(store, barrier);
+        int cell = cellAt(targetX, targetY);
+        if (!terrainChanged && (cell == targetCell || sinceRebuild < MIN_REBUILD_INTERVAL)) return;
+
+        targetCell = cell;
+        sinceRebuild = 0;
+        computeVisibility();
+        computeCosts();
+        computeDirections();
+        rebuilds++;
+    }
+
+    public int cellAt(float x, float y) {
+        int column = Math.min(columns - 1, Math.max(0, (int) (x / CELL_SIZE)));
+        int row = Math.min(rows - 1, Math.max(0, (int) (y / CELL_SIZE)));
+        return row * columns + column;
+    }
+
+    /**
+     * Horizontal part of the unit direction to walk from the cell; both parts are 0 when the
+     * way to the player is clear and the enemy should head straight for them.
+     */
+    public float directionX(int cell) {
+        return dirX[cell];
+    }
+
+    public float directionY(int cell) {
+        return dirY[cell];
+    }
+
+    /**
+     * Writes the unit direction to walk from the given point towards the target.
+     */
+    public void directionAt(float x, float y, float targetX, float targetY, Vector2 out) {
+        int cell = cellAt(x, y);
+        if (dirX[cell] != 0f || dirY[cell] != 0f) {
+            out.set(dirX[cell], dirY[cell]);
+        } else {
+            out.set(targetX - x, targetY - y).nor();
+        }
+    }
+
+    public int getRebuilds() {
+        return rebuilds;
+    }
+
+    private boolean updateTerrain(EnemyStore store, ElectricBarrier barrier) {
+        int tree = EnemyType.TREE.ordinal();
+        int trees = 0;
+        for (int i = 0; i < store.size; i++) {
+            if (store.type[i] == tree && store.isActive(i)) trees++;
+        }
+
+        boolean hasBarrier = barrier != null && barrier.isActive();
+        int x0 = 0, y0 = 0, x1 = 0, y1 = 0;
+        if (hasBarrier) {
+            Rectangle box = barrier.getBoundingBox();
+            x0 = (int) (box.x / CELL_SIZE);
+            y0 = (int) (box.y / CELL_SIZE);
+            x1 = (int) ((box.x + box.width) / CELL_SIZE);
+            y1 = (int) ((box.y + box.height) / CELL_SIZE);
+        }
+
+        // Trees never move, so their count tells whether one was destroyed or the trees were placed
+        boolean barrierMoved = hasBarrier != barrierPresent ||
+            (hasBarrier && (x0 != barrierX0 || y0 != barrierY0 || x1 != barrierX1 || y1 != barrierY1));
+        if (trees == treeCount && !barrierMoved) return false;
+
+        treeCount = trees;
+        barrierPresent = hasBarrier;
+        barrierX0 = x0;
+        barrierY0 = y0;
+        barrierX1 = x1;
+        barrierY1 = y1;
+
+        Arrays.fill(terrain, OPEN);
+        if (hasBarrier) {
+            markBarrier(x0, y0, x1, y1);
+        }
+        for (int i = 0; i < store.size; i++) {
+            if (store.type[i] == tree && store.isActive(i)) {
+                markBlocked(store.posX[i], store.posY[i], store.radius[i]);
+            }
+        }
+        return true;
+    }
+
+    private void markBarrier(int x0, int y0, int x1, int y1) {
+        for (int column = Math.max(0, x0); column <= Math.min(columns - 1, x1); column++) {
+            setTerrain(column, y0, BARRIER);
+            setTerrain(column, y1, BARRIER);
+        }
+        for (int row = Math.max(0, y0); row <= Math.min(rows - 1, y1); row++) {
+            setTerrain(x0, row, BARRIER);
+            setTerrain(x1, row, BARRIER);
+        }
+    }
+
+    private void setTerrain(int column, int row, byte value) {
+        if (column < 0 || row < 0 || column >= columns || row >= rows) return;
+        terrain[row * columns + column] = value;
+    }
+
+    // Every cell whose center an enemy couldn't stand on without overlapping the tree
+    private void markBlocked(float x, float y, float radius) {
+        float reach = radius + CELL_SIZE / 2;
+        int c0 = Math.max(0, (int) ((x - reach) / CELL_SIZE));
+        int c1 = Math.min(columns - 1, (int) ((x + reach) / CELL_SIZE));
+        int r0 = Math.max(0, (int) ((y - reach) / CELL_SIZE));
+        int r1 = Math.min(rows - 1, (int) ((y + reach) / CELL_SIZE));
+
+        for (int row = r0; row <= r1; row++) {
+            float dy = (row + 0.5f) * CELL_SIZE - y;
+            for (int column = c0; column <= c1; column++) {
+                float dx = (column + 0.5f) * CELL_SIZE - x;
+                if (dx * dx + dy * dy <= reach * reach) {
+                    terrain[row * columns + column] = BLOCKED;
+                }
+            }
+        }
+    }
+
+    /**
+     * Path costs, needed only where the player can't be seen. A visible cell's cost is its
+     * straight line distance, which no path around the trees can beat, so the search starts
+     * from the cells at the edge of each shadow and never leaves the shadows.
+     */
+    private void computeCosts() {
+        int targetColumn = targetCell % columns;
+        int targetRow = targetCell / columns;
+        for (int cell = 0; cell < cost.length; cell++) {
+            if (visible[cell]) {
+                int dx = Math.abs(cell % columns - targetColumn);
+                int dy = Math.abs(cell / columns - targetRow);
+                cost[cell] = DIAGONAL * Math.min(dx, dy) + STRAIGHT * Math.abs(dx - dy);
+            } else {
+                cost[cell] = UNREACHED;
+            }
+        }
+
+        heapSize = 0;
+        for (int cell = 0; cell < cost.length; cell++) {
+            if (visible[cell] || terrain[cell] == BLOCKED) continue;
+
+            int column = cell % columns;
+            int row = cell / columns;
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (dx == 0 && dy == 0) continue;
+                    int neighbor = walkable(column, row, dx, dy);
+                    if (neighbor < 0 || !visible[neighbor]) continue;
+                    relax(cell, cost[neighbor] + stepCost(cell, dx, dy));
+                }
+            }
+        }
+
+        while (heapSize > 0) {
+            long top = pop();
+            int cell = (int) top;
+            int cellCost = (int) (top >>> 32);
+            if (cellCost > cost[cell]) continue;
+
+            int column = cell % columns;
+            int row = cell / columns;
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (dx == 0 && dy == 0) continue;
+                    int neighbor = walkable(column, row, dx, dy);
+                    if (neighbor < 0 || visible[neighbor]) continue;
+                    relax(neighbor, cellCost + stepCost(neighbor, dx, dy));
+                }
+            }
+        }
+    }
+
+    private int stepCost(int into, int dx, int dy) {
+        int step = dx != 0 && dy != 0 ? DIAGONAL : STRAIGHT;
+        return terrain[into] == BARRIER ? step * BARRIER_FACTOR : step;
+    }
+
+    private void relax(int cell, int cellCost) {
+        if (cellCost < cost[cell]) {
+            cost[cell] = cellCost;
+            push(cellCost, cell);
+        }
+    }
+
+    /**
+     * @return the neighbor one step away if it can be walked into, or -1. Diagonal steps
+     * must not cut the corner of a blocked cell.
+     */
+    private int walkable(int column, int row, int dx, int dy) {
+        int c = column + dx;
+        int r = row + dy;
+        if (c < 0 || r < 0 || c >= columns || r >= rows) return -1;
+        if (terrain[r * columns + c] == BLOCKED) return -1;
+        if (dx != 0 && dy != 0 &&
+            (terrain[row * columns + c] == BLOCKED || terrain[r * columns + column] == BLOCKED)) {
+            return -1;
+        }
+        return r * columns + c;
+    }
+
+    /**
+     * Marks the cells with a clear straight line to the player's cell. Walks outwards ring by
+     * ring: a cell is clear when the next cell on its line towards the player is, and that
+     * cell is always one ring further in. Barrier walls don't hide anything; the barrier
+     * encloses the player, so there is no way around it, only through.
+     */
+    private void computeVisibility() {
+        Arrays.fill(visible, false);
+        int targetColumn = targetCell % columns;
+        int targetRow = targetCell / columns;
+        visible[targetCell] = true;
+
+        int maxRing = Math.max(Math.max(targetColumn, columns - 1 - targetColumn), Math.max(targetRow, rows - 1 - targetRow));
+        for (int ring = 1; ring <= maxRing; ring++) {
+            int top = targetRow + ring;
+            int bottom = targetRow - ring;
+            for (int column = targetColumn - ring; column <= targetColumn + ring; column++) {
+                updateVisibility(column, bottom, targetColumn, targetRow);
+                updateVisibility(column, top, targetColumn, targetRow);
+            }
+            for (int row = bottom + 1; row < top; row++) {
+                updateVisibility(targetColumn - ring, row, targetColumn, targetRow);
+                updateVisibility(targetColumn + ring, row, targetColumn, targetRow);
+            }
+        }
+    }
+
+    private void updateVisibility(int column, int row, int targetColumn, int targetRow) {
+        if (column < 0 || row < 0 || column >= columns || row >= rows) return;
+        int cell = row * columns + column;
+        if (terrain[cell] == BLOCKED) return;
+
+        // Step one cell towards the player along the longer axis and follow the line on the other
+        int dx = column - targetColumn;
+        int dy = row - targetRow;
+        int previousColumn, previousRow;
+        if (Math.abs(dx) >= Math.abs(dy)) {
+            int stepped = dx - Integer.signum(dx);
+            previousColumn = targetColumn + stepped;
+            previousRow = targetRow + Math.round((float) dy * stepped / dx);
+        } else {
+            int stepped = dy - Integer.signum(dy);
+            previousRow = targetRow + stepped;
+            previousColumn = targetColumn + Math.round((float) dx * stepped / dy);
+        }
+        visible[cell] = visible[previousRow * columns + previousColumn];
+    }
+
+    private void computeDirections() {
+        for (int cell = 0; cell < cost.length; cell++) {
+            dirX[cell] = 0f;
+            dirY[cell] = 0f;
+            if (visible[cell]) continue;
+
+            int column = cell % columns;
+            int row = cell / columns;
+            int best = cost[cell];
+            int bestDx = 0;
+            int bestDy = 0;
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (dx == 0 && dy == 0) continue;
+                    int neighbor = walkable(column, row, dx, dy);
+                    if (neighbor >= 0 && cost[neighbor] < best) {
+                        best = cost[neighbor];
+                        bestDx = dx;
+                        bestDy = dy;
+                    }
+                }
+            }
+
+            // Cut off from the player, or next to them: straight at the player it is
+            if (best == UNREACHED || best == 0) continue;
+            float length = bestDx != 0 && bestDy != 0 ? (float) Math.sqrt(2) : 1f;
+            dirX[cell] = bestDx / length;
+            dirY[cell] = bestDy / length;
+        }
+    }
+
+    private void push(int cellCost, int cell) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        long entry = ((long) cellCost << 32) | cell;
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= entry) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = entry;
+    }
+
+    private long pop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) child++;
+            if (heap[child] >= last) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+}
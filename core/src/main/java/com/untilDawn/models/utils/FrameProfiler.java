@@ -0,0 +1,481 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Per-frame timings for the game screen. Subsystems wrap their work in {@link #begin(Section)} /
+ * {@link #end(Section)}; time from several simulation steps in one frame adds up. Together with
+ * render calls, texture binds, entity counts, culled sprites and GC activity every frame is kept in a ring
+ * buffer, drawn as an overlay and exportable as CSV.
+ * <p>
+ * While disabled every call returns straight away and GL calls are not intercepted.
+ */
+public class FrameProfiler implements Disposable {
+    public enum Section {
+        PLAYER("Player"),
+        WEAPONS("Weapons"),
+        ENEMY_SPAWN("Enemy spawn"),
+        ENEMY_UPDATE("Enemy update"),
+        ENEMY_COLLISIONS("Enemy collisions"),
+        ENEMY_DRAW("Enemy draw"),
+        AUTO_AIM("Auto aim"),
+        WORLD_DRAW("World draw"),
+        LIGHTING("Lighting"),
+        HUD("HUD");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    // About a minute at 60 fps; the CSV export writes all of it
+    private static final int CAPTURE_FRAMES = 3600;
+    // Percentiles and averages cover the last ten seconds or so
+    private static final int WINDOW_FRAMES = 600;
+    private static final int GRAPH_FRAMES = 240;
+    private static final float GRAPH_MAX_MS = 50f;
+    private static final int TEXT_REFRESH_FRAMES = 15;
+
+    private static final int SECTION_COUNT = Section.values().length;
+    // Columns after the sections
+    private static final int FRAME_MS = SECTION_COUNT;
+    private static final int CPU_MS = SECTION_COUNT + 1;
+    private static final int WORLD_RENDER_CALLS = SECTION_COUNT + 2;
+    private static final int TOTAL_RENDER_CALLS = SECTION_COUNT + 3;
+    private static final int DRAW_CALLS = SECTION_COUNT + 4;
+    private static final int TEXTURE_BINDS = SECTION_COUNT + 5;
+    private static final int ENEMIES = SECTION_COUNT + 6;
+    private static final int BULLETS = SECTION_COUNT + 7;
+    private static final int SPRITES_DRAWN = SECTION_COUNT + 8;
+    private static final int SPRITES_CULLED = SECTION_COUNT + 9;
+    private static final int MAP_CHUNKS = SECTION_COUNT + 10;
+    private static final int MAP_KPIXELS = SECTION_COUNT + 11;
+    private static final int GC_COUNT = SECTION_COUNT + 12;
+    private static final int GC_MS = SECTION_COUNT + 13;
+    private static final int ALLOC_KB = SECTION_COUNT + 14;
+    private static final int COLUMN_COUNT = SECTION_COUNT + 15;
+
+    private static FrameProfiler instance;
+
+    private boolean enabled = false;
+
+    private final long[] sectionStart = new long[SECTION_COUNT];
+    private final long[] sectionNanos = new long[SECTION_COUNT];
+    private final float[][] frames = new float[COLUMN_COUNT][CAPTURE_FRAMES];
+    private int frameCount = 0;
+    private int head = 0;
+
+    private long frameStart = 0;
+    private long lastFrameStart = 0;
+    private int worldRenderCalls;
+    private int enemies;
+    private int bullets;
+    private int spritesDrawn;
+    private int spritesCulled;
+    private int mapChunks;
+    private long mapPixels;
+    private int bulletsCreated;
+    private int bulletsReused;
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final com.sun.management.ThreadMXBean allocations = loadAllocationCounter();
+    private boolean garbageBaseline = false;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private long lastAllocatedBytes;
+
+    private GLProfiler glProfiler;
+    private ShapeRenderer shapeRenderer;
+    private BitmapFont font;
+    private final Matrix4 overlayProjection = new Matrix4();
+    private final Matrix4 previousProjection = new Matrix4();
+    private final float[] sortScratch = new float[WINDOW_FRAMES];
+    private final StringBuilder text = new StringBuilder();
+    private int framesSinceText = TEXT_REFRESH_FRAMES;
+
+    private FrameProfiler() {
+    }
+
+    public static FrameProfiler getInstance() {
+        if (instance == null) {
+            instance = new FrameProfiler();
+        }
+        return instance;
+    }
+
+    private static com.sun.management.ThreadMXBean loadAllocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) bean;
+            if (allocations.isThreadAllocatedMemorySupported()) {
+                allocations.setThreadAllocatedMemoryEnabled(true);
+                return allocations;
+            }
+        }
+        return null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void toggle() {
+        setEnabled(!enabled);
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+
+        if (Gdx.graphics != null && Gdx.gl != null) {
+            if (glProfiler == null) {
+                glProfiler = new GLProfiler(Gdx.graphics);
+            }
+            if (enabled) {
+                glProfiler.enable();
+            } else {
+                glProfiler.disable();
+            }
+        }
+
+        // The first frame after switching on has no previous frame to measure against
+        lastFrameStart = 0;
+        garbageBaseline = false;
+        Gdx.app.log("FrameProfiler", enabled ? "Profiling frames" : "Profiling stopped");
+    }
+
+    public void begin(Section section) {
+        if (!enabled) return;
+        sectionStart[section.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Section section) {
+        if (!enabled) return;
+        int index = section.ordinal();
+        sectionNanos[index] += System.nanoTime() - sectionStart[index];
+    }
+
+    /**
+     * Starts a frame. Everything that happens until {@link #endFrame(SpriteBatch)} counts
+     * towards it, including GL calls and the batch's render calls.
+     */
+    public void beginFrame(SpriteBatch batch) {
+        if (!enabled) return;
+
+        frameStart = System.nanoTime();
+        Arrays.fill(sectionNanos, 0);
+        worldRenderCalls = 0;
+        spritesDrawn = 0;
+        spritesCulled = 0;
+        mapChunks = 0;
+        mapPixels = 0;
+        batch.totalRenderCalls = 0;
+        if (glProfiler != null) {
+            glProfiler.reset();
+        }
+    }
+
+    public void setWorldRenderCalls(int worldRenderCalls) {
+        this.worldRenderCalls = worldRenderCalls;
+    }
+
+    public void setEntityCounts(int enemies, int bullets) {
+        this.enemies = enemies;
+        this.bullets = bullets;
+    }
+
+    /**
+     * Enemy, drop, death effect and enemy bullet sprites submitted this frame, and those left
+     * out for being off screen.
+     */
+    public void setSpriteCounts(int drawn, int culled) {
+        this.spritesDrawn = drawn;
+        this.spritesCulled = culled;
+    }
+
+    /**
+     * Map chunks submitted this frame and the pixels they cover, the background's share of the
+     * fill rate.
+     */
+    public void setMapCounts(int chunks, long pixels) {
+        this.mapChunks = chunks;
+        this.mapPixels = pixels;
+    }
+
+    /**
+     * Running totals from the player's bullet pool; created should stop climbing once it has warmed up.
+     */
+    public void setBulletPoolCounts(int created, int reused) {
+        this.bulletsCreated = created;
+        this.bulletsReused = reused;
+    }
+
+    public void endFrame(SpriteBatch batch) {
+        if (!enabled) return;
+
+        long now = System.nanoTime();
+        int slot = head;
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            frames[i][slot] = sectionNanos[i] / 1_000_000f;
+        }
+        frames[FRAME_MS][slot] = lastFrameStart == 0 ? 0f : (frameStart - lastFrameStart) / 1_000_000f;
+        frames[CPU_MS][slot] = (now - frameStart) / 1_000_000f;
+        frames[WORLD_RENDER_CALLS][slot] = worldRenderCalls;
+        frames[TOTAL_RENDER_CALLS][slot] = batch.totalRenderCalls;
+        frames[DRAW_CALLS][slot] = glProfiler != null ? glProfiler.getDrawCalls() : 0;
+        frames[TEXTURE_BINDS][slot] = glProfiler != null ? glProfiler.getTextureBindings() : 0;
+        frames[ENEMIES][slot] = enemies;
+        frames[BULLETS][slot] = bullets;
+        frames[SPRITES_DRAWN][slot] = spritesDrawn;
+        frames[SPRITES_CULLED][slot] = spritesCulled;
+        frames[MAP_CHUNKS][slot] = mapChunks;
+        frames[MAP_KPIXELS][slot] = mapPixels / 1000f;
+        recordGarbage(slot);
+
+        lastFrameStart = frameStart;
+        head = (head + 1) % CAPTURE_FRAMES;
+        frameCount = Math.min(frameCount + 1, CAPTURE_FRAMES);
+    }
+
+    private void recordGarbage(int slot) {
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        long allocatedBytes = allocations != null ? allocations.getCurrentThreadAllocatedBytes() : 0;
+
+        frames[GC_COUNT][slot] = garbageBaseline ? gcCount - lastGcCount : 0;
+        frames[GC_MS][slot] = garbageBaseline ? gcMillis - lastGcMillis : 0;
+        frames[ALLOC_KB][slot] = garbageBaseline ? (allocatedBytes - lastAllocatedBytes) / 1024f : 0;
+        garbageBaseline = true;
+
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        lastAllocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Draws the overlay in screen coordinates. Call outside of any batch, after
+     * {@link #endFrame(SpriteBatch)} so the overlay itself isn't measured.
+     */
+    public void render(SpriteBatch batch) {
+        if (!enabled || frameCount == 0) return;
+
+        if (shapeRenderer == null) {
+            shapeRenderer = new ShapeRenderer();
+            font = new BitmapFont();
+            font.getData().setScale(0.9f);
+        }
+
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        overlayProjection.setToOrtho2D(0, 0, width, height);
+
+        float panelWidth = 380f;
+        float graphHeight = 80f;
+        float x = width - panelWidth - 10f;
+        float y = 10f;
+
+        if (++framesSinceText >= TEXT_REFRESH_FRAMES) {
+            buildText();
+            framesSinceText = 0;
+        }
+
+        drawGraph(x, y, panelWidth, graphHeight);
+
+        previousProjection.set(batch.getProjectionMatrix());
+        batch.setProjectionMatrix(overlayProjection);
+        batch.begin();
+        font.setColor(Color.WHITE);
+        font.draw(batch, text, x + 6f, y + graphHeight + 6f + font.getLineHeight() * lineCount(text));
+        batch.end();
+        batch.setProjectionMatrix(previousProjection);
+    }
+
+    private void drawGraph(float x, float y, float width, float height) {
+        int shown = Math.min(frameCount, GRAPH_FRAMES);
+        float barWidth = width / GRAPH_FRAMES;
+        float scale = height / GRAPH_MAX_MS;
+        float textHeight = font.getLineHeight() * (lineCount(text) + 1);
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        shapeRenderer.setProjectionMatrix(overlayProjection);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0f, 0f, 0f, 0.6f);
+        shapeRenderer.rect(x, y, width, height + 12f + textHeight);
+
+        for (int i = 0; i < shown; i++) {
+            int slot = slotAgo(shown - 1 - i);
+            float frameMs = frames[FRAME_MS][slot];
+            if (frameMs > 33.4f) {
+                shapeRenderer.setColor(Color.RED);
+            } else if (frameMs > 16.8f) {
+                shapeRenderer.setColor(Color.ORANGE);
+            } else {
+                shapeRenderer.setColor(Color.LIME);
+            }
+            shapeRenderer.rect(x + i * barWidth, y, Math.max(1f, barWidth - 0.5f), Math.min(frameMs, GRAPH_MAX_MS) * scale);
+        }
+        shapeRenderer.end();
+
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+        shapeRenderer.setColor(Color.GRAY);
+        shapeRenderer.line(x, y + 16.7f * scale, x + width, y + 16.7f * scale);
+        shapeRenderer.line(x, y + 33.3f * scale, x + width, y + 33.3f * scale);
+        shapeRenderer.setColor(Color.CYAN);
+        float p95 = Math.min(percentile(FRAME_MS, 0.95f), GRAPH_MAX_MS) * scale;
+        shapeRenderer.line(x, y + p95, x + width, y + p95);
+        shapeRenderer.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    private void buildText() {
+        int window = Math.min(frameCount, WINDOW_FRAMES);
+        int last = slotAgo(0);
+
+        text.setLength(0);
+        text.append(String.format(Locale.ROOT, "Frame ms  p50 %.2f  p95 %.2f  p99 %.2f%n",
+            percentile(FRAME_MS, 0.5f), percentile(FRAME_MS, 0.95f), percentile(FRAME_MS, 0.99f)));
+        text.append(String.format(Locale.ROOT, "CPU ms    p50 %.2f  p95 %.2f  p99 %.2f%n",
+            percentile(CPU_MS, 0.5f), percentile(CPU_MS, 0.95f), percentile(CPU_MS, 0.99f)));
+        for (Section section : Section.values()) {
+            text.append(String.format(Locale.ROOT, "%-17s avg %.3f  p95 %.3f%n",
+                section.getLabel(), average(section.ordinal()), percentile(section.ordinal(), 0.95f)));
+        }
+        text.append(String.format(Locale.ROOT, "Render calls  world %d  total %d  GL draws %d  binds %d%n",
+            (int) frames[WORLD_RENDER_CALLS][last], (int) frames[TOTAL_RENDER_CALLS][last],
+            (int) frames[DRAW_CALLS][last], (int) frames[TEXTURE_BINDS][last]));
+        text.append(String.format(Locale.ROOT, "Enemies %d  bullets %d  sprites drawn %d  culled %d%n",
+            (int) frames[ENEMIES][last], (int) frames[BULLETS][last],
+            (int) frames[SPRITES_DRAWN][last], (int) frames[SPRITES_CULLED][last]));
+        text.append(String.format(Locale.ROOT, "Map chunks %d  fill %.0f kpx%n",
+            (int) frames[MAP_CHUNKS][last], frames[MAP_KPIXELS][last]));
+        text.append(String.format(Locale.ROOT, "Bullet pool  created %d  reused %d%n", bulletsCreated, bulletsReused));
+
+        float seconds = 0f;
+        float allocatedKb = 0f;
+        int collections = 0;
+        for (int i = 0; i < window; i++) {
+            int slot = slotAgo(i);
+            seconds += frames[FRAME_MS][slot] / 1000f;
+            allocatedKb += frames[ALLOC_KB][slot];
+            collections += (int) frames[GC_COUNT][slot];
+        }
+        float allocRate = seconds > 0f ? allocatedKb / 1024f / seconds : 0f;
+        text.append(String.format(Locale.ROOT, "Alloc %.2f MB/s  GCs %d in last %d frames  [F4 export CSV]",
+            allocRate, collections, window));
+    }
+
+    private static int lineCount(CharSequence text) {
+        int lines = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') lines++;
+        }
+        return lines;
+    }
+
+    private int slotAgo(int framesAgo) {
+        return (head - 1 - framesAgo + CAPTURE_FRAMES) % CAPTURE_FRAMES;
+    }
+
+    private float average(int column) {
+        int window = Math.min(frameCount, WINDOW_FRAMES);
+        if (window == 0) return 0f;
+
+        float sum = 0f;
+        for (int i = 0; i < window; i++) {
+            sum += frames[column][slotAgo(i)];
+        }
+        return sum / window;
+    }
+
+    private float percentile(int column, float percentile) {
+        int window = Math.min(frameCount, WINDOW_FRAMES);
+        if (window == 0) return 0f;
+
+        for (int i = 0; i < window; i++) {
+            sortScratch[i] = frames[column][slotAgo(i)];
+        }
+        Arrays.sort(sortScratch, 0, window);
+        int index = Math.min(window - 1, (int) Math.ceil(percentile * window) - 1);
+        return sortScratch[Math.max(0, index)];
+    }
+
+    /**
+     * Writes every captured frame, oldest first, to a CSV file under {@code profiler/} in the
+     * local storage directory.
+     *
+     * @return the file written, or null if nothing has been captured yet
+     */
+    public FileHandle exportCsv() {
+        if (frameCount == 0) {
+            Gdx.app.log("FrameProfiler", "No frames captured yet, nothing to export");
+            return null;
+        }
+
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss", Locale.ROOT).format(new Date());
+        FileHandle file = Gdx.files.local("profiler/frames-" + stamp + ".csv");
+
+        StringBuilder csv = new StringBuilder(frameCount * COLUMN_COUNT * 8);
+        csv.append("frame");
+        for (Section section : Section.values()) {
+            csv.append(',').append(section.name().toLowerCase(Locale.ROOT)).append("_ms");
+        }
+        csv.append(",frame_ms,cpu_ms,world_render_calls,total_render_calls,gl_draw_calls,texture_binds,enemies,bullets,sprites_drawn,sprites_culled,map_chunks,map_kpixels,gc_count,gc_ms,alloc_kb\n");
+
+        for (int i = frameCount - 1; i >= 0; i--) {
+            int slot = slotAgo(i);
+            csv.append(frameCount - 1 - i);
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                csv.append(',').append(frames[column][slot]);
+            }
+            csv.append('\n');
+        }
+
+        file.writeString(csv.toString(), false);
+        Gdx.app.log("FrameProfiler", "Exported " + frameCount + " frames to " + file.path());
+        return file;
+    }
+
+    @Override
+    public void dispose() {
+        if (glProfiler != null && glProfiler.isEnabled()) {
+            glProfiler.disable();
+        }
+        if (shapeRenderer != null) {
+            shapeRenderer.dispose();
+            shapeRenderer = null;
+        }
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+        enabled = false;
+    }
+}
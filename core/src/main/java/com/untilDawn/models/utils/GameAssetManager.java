@@ -1,89 +1,254 @@
 package com.untilDawn.models.utils;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.untilDawn.models.App;
+import com.untilDawn.models.enums.EnemyType;
 import com.untilDawn.models.enums.Weapons;
 
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 public class GameAssetManager {
+    public static final String MAP_PATH = "Images/map.png";
+    // Built by the packTextures Gradle task; without it every sprite is loaded as its own texture
+    public static final String ATLAS_PATH = "atlas/game.atlas";
+
+    static final String SKIN_PATH = "skin/pixthulhu-ui.json";
+    // Not a file: the loader generates this size from skin/ChevyRay.ttf
+    static final String CHEVY_RAY_FONT = "chevyRay28.ttf";
+    static final String PANEL_PATH = "Images/panel.png";
+    static final String CLICK_SOUND = "sounds/effects/click.wav";
+    static final String RELOAD_SOUND = "sounds/effects/reload.wav";
+    static final String BLOOD_SPLASH_SOUND = "Sounds/effects/bloodSplash.wav";
+    static final String SHOT_SOUND = "sounds/effects/single_shot.wav";
+    static final String OBTAIN_SOUND = "sounds/effects/ObtainPoints.wav";
+    static final String BAT_DEATH_SOUND = "sounds/effects/batDeath.wav";
+    static final String LEVEL_UP_SOUND = "sounds/effects/LevelUp.wav";
+    static final String ELDER_SPAWN_SOUND = "sounds/effects/ElderSpawn.wav";
+    static final String LOSE_SOUND = "sounds/effects/Lose.wav";
+    static final String WIN_SOUND = "sounds/effects/Win.wav";
+
     private static GameAssetManager gameAssetManager;
-    private final Sound reloadSound = Gdx.audio.newSound(Gdx.files.internal("sounds/effects/reload.wav"));
-    private final Skin skin = new Skin(Gdx.files.internal("skin/pixthulhu-ui.json"));
+
+    private final AssetManager assets = new AssetManager();
+    private final boolean hasAtlas = Gdx.files.internal(ATLAS_PATH).exists();
+    private boolean loaded = false;
+
+    private TextureAtlas atlas;
+    private final ObjectMap<String, TextureRegion> packedRegions = new ObjectMap<>();
+
+    // Textures shared between entities, keyed by path and reference counted
+    private final ObjectMap<String, Texture> sharedTextures = new ObjectMap<>();
+    private final ObjectMap<String, TextureRegion> looseRegions = new ObjectMap<>();
+    private final ObjectIntMap<String> textureReferences = new ObjectIntMap<>();
+
     private final List<Sound> footSteps = new ArrayList<>();
 
-    private final Texture ammoIcon = new Texture(Gdx.files.internal("Images/AmmoIcon.png"));
-    private final Texture reloadBarBg = new Texture(Gdx.files.internal("Images/reload/ReloadBar_0.png"));
-    private final Texture reloadBarFill = new Texture(Gdx.files.internal("Images/reload/ReloadBar_1.png"));
-
-    private final ObjectMap<String, Animation<Texture>> enemyAnimationCache = new ObjectMap<>();
-
-    private final ObjectMap<String, Animation<Texture>> playerRunAnimationCache = new ObjectMap<>();
-    private final ObjectMap<String, Animation<Texture>> playerIdleAnimationCache = new ObjectMap<>();
-    private final ObjectMap<String, Animation<Texture>> weaponReloadAnimationCache = new ObjectMap<>();
-
-    private final Sound bloodSplash = Gdx.audio.newSound(Gdx.files.internal("Sounds/effects/bloodSplash.wav"));
-    private final Sound shootSound = Gdx.audio.newSound(Gdx.files.internal("sounds/effects/single_shot.wav"));
-    private final Sound obtainSound = Gdx.audio.newSound(Gdx.files.internal("sounds/effects/ObtainPoints.wav"));
-    private final Sound batDeathSound = Gdx.audio.newSound(Gdx.files.internal("sounds/effects/batDeath.wav"));
-    private final Sound levelUpSound = Gdx.audio.newSound(Gdx.files.internal("sounds/effects/LevelUp.wav"));
-    private final Sound elderSpawn = Gdx.audio.newSound(Gdx.files.internal("sounds/effects/ElderSpawn.wav"));
-    private final Sound loseSound = Gdx.audio.newSound(Gdx.files.internal("sounds/effects/Lose.wav"));
-    private final Sound winSound = Gdx.audio.newSound(Gdx.files.internal("sounds/effects/Win.wav"));
-
-    private final Texture heartAnimation0 = new Texture(Gdx.files.internal("Images/HeartAnimation/HeartAnimation_0.png"));
-    private final Texture heartAnimation1 = new Texture(Gdx.files.internal("Images/HeartAnimation/HeartAnimation_1.png"));
-    private final Texture heartAnimation2 = new Texture(Gdx.files.internal("Images/HeartAnimation/HeartAnimation_2.png"));
-
-    private final Texture levelUpAnimation1 = new Texture(Gdx.files.internal("Images/LevelUpAnimation/LevelUp1.png"));
-    private final Texture levelUpAnimation2 = new Texture(Gdx.files.internal("Images/LevelUpAnimation/LevelUp2.png"));
-    private final Texture levelUpAnimation3 = new Texture(Gdx.files.internal("Images/LevelUpAnimation/LevelUp3.png"));
-    private final Texture levelUpAnimation4 = new Texture(Gdx.files.internal("Images/LevelUpAnimation/LevelUp4.png"));
-    private final Texture levelUpAnimation5 = new Texture(Gdx.files.internal("Images/LevelUpAnimation/LevelUp5.png"));
-    private final Texture levelUpAnimation6 = new Texture(Gdx.files.internal("Images/LevelUpAnimation/LevelUp6.png"));
-    private final Texture levelUpAnimation7 = new Texture(Gdx.files.internal("Images/LevelUpAnimation/LevelUp7.png"));
-    private final Texture levelUpAnimation8 = new Texture(Gdx.files.internal("Images/LevelUpAnimation/LevelUp8.png"));
-
-    private final Texture deathFx0 = new Texture(Gdx.files.internal("Images/DeathFx/DeathFx0.png"));
-    private final Texture deathFx1 = new Texture(Gdx.files.internal("Images/DeathFx/DeathFx1.png"));
-    private final Texture deathFx2 = new Texture(Gdx.files.internal("Images/DeathFx/DeathFx2.png"));
-    private final Texture deathFx3 = new Texture(Gdx.files.internal("Images/DeathFx/DeathFx3.png"));
-
-    private final Texture curse1 = new Texture(Gdx.files.internal("Images/Curse/T_CurseFX_0.png"));
-    private final Texture curse2 = new Texture(Gdx.files.internal("Images/Curse/T_CurseFX_1.png"));
-    private final Texture curse3 = new Texture(Gdx.files.internal("Images/Curse/T_CurseFX_2.png"));
-
-    private final Animation<Texture> levelUpAnimation = new Animation<>(0.25f, levelUpAnimation1, levelUpAnimation2, levelUpAnimation3, levelUpAnimation4, levelUpAnimation5, levelUpAnimation6, levelUpAnimation7, levelUpAnimation8);
-    private final Animation<Texture> heartAnimation = new Animation<>(0.5f, heartAnimation0, heartAnimation1, heartAnimation2);
-    private final Animation<Texture> deathFxAnimation = new Animation<>(0.1f, deathFx0, deathFx1, deathFx2, deathFx3);
-    private final Animation<Texture> curseAnimation = new Animation<>(0.1f, curse1, curse2, curse3);
-
-    private final BitmapFont chevyRayFont;
-    private final Texture zombieSkull = new Texture(Gdx.files.internal("Images/zombieSkull.png"));
+    private final ObjectMap<String, Animation<TextureRegion>> enemyAnimationCache = new ObjectMap<>();
+
+    private final ObjectMap<String, Animation<TextureRegion>> playerRunAnimationCache = new ObjectMap<>();
+    private final ObjectMap<String, Animation<TextureRegion>> playerIdleAnimationCache = new ObjectMap<>();
+    private final ObjectMap<String, Animation<TextureRegion>> weaponReloadAnimationCache = new ObjectMap<>();
+
+    // Everything below is filled in once the boot group has finished loading
+    private Skin skin;
+    private BitmapFont chevyRayFont;
+    private Texture panel;
+
+    private Sound clickSound;
+    private Sound reloadSound;
+    private Sound bloodSplash;
+    private Sound shootSound;
+    private Sound obtainSound;
+    private Sound batDeathSound;
+    private Sound levelUpSound;
+    private Sound elderSpawn;
+    private Sound loseSound;
+    private Sound winSound;
+
+    private TextureRegion ammoIcon;
+    private TextureRegion reloadBarBg;
+    private TextureRegion reloadBarFill;
+    private TextureRegion bulletRegion;
+    private TextureRegion zombieSkull;
+    private TextureRegion muzzleFlash;
+
+    private Animation<TextureRegion> levelUpAnimation;
+    private Animation<TextureRegion> heartAnimation;
+    private Animation<TextureRegion> deathFxAnimation;
+    private Animation<TextureRegion> curseAnimation;
+
     private int footstepsCounter = 1;
-    private Texture muzzleFlash = new Texture(Gdx.files.internal("Images/muzzleFlash.png"));
-    private Texture panel = new Texture(Gdx.files.internal("Images/panel.png"));
+    private int mapWidth = -1;
+    private int mapHeight = -1;
 
+    /**
+     * Only queues the boot group; nothing is read from disk until {@link #update(int)} or
+     * {@link #finishLoading()} runs.
+     */
     GameAssetManager() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("skin/ChevyRay.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 28;
-        parameter.color = Color.WHITE;
-        parameter.borderWidth = 1;
-        parameter.borderColor = Color.BLACK;
-        BitmapFont chevyRayFont = generator.generateFont(parameter);
-        this.chevyRayFont = chevyRayFont;
+        FileHandleResolver resolver = new InternalFileHandleResolver();
+        assets.setLoader(FreeTypeFontGenerator.class, new FreeTypeFontGeneratorLoader(resolver));
+        assets.setLoader(BitmapFont.class, ".ttf", new FreetypeFontLoader(resolver));
+
+        loadGroup(AssetGroup.BOOT);
+        if (hasAtlas) {
+            assets.load(ATLAS_PATH, TextureAtlas.class);
+        } else {
+            Gdx.app.log("GameAssetManager", "No texture atlas at " + ATLAS_PATH + ", loading sprites individually");
+        }
+    }
+
+    /**
+     * Loads queued assets for at most roughly the given time. Call once per frame.
+     *
+     * @return true once the boot group is ready and nothing else is queued
+     */
+    public boolean update(int millis) {
+        boolean done = assets.update(millis);
+        if (!loaded && isBootGroupLoaded()) {
+            onBootLoaded();
+        }
+        return done && loaded;
+    }
+
+    /**
+     * Blocks until everything queued is loaded.
+     */
+    public void finishLoading() {
+        assets.finishLoading();
+        if (!loaded) {
+            onBootLoaded();
+        }
+    }
+
+    public float getProgress() {
+        return assets.getProgress();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Queues a group without waiting for it. Every call must be matched by
+     * {@link #unloadGroup(AssetGroup)}.
+     */
+    public void loadGroup(AssetGroup group) {
+        for (AssetDescriptor<?> descriptor : group.getAssets()) {
+            assets.load(descriptor);
+        }
+    }
+
+    /**
+     * Queues a group and blocks until it is loaded, which is immediate when it was queued
+     * ahead of time. Every call must be matched by {@link #unloadGroup(AssetGroup)}.
+     */
+    public void finishLoadingGroup(AssetGroup group) {
+        loadGroup(group);
+        for (AssetDescriptor<?> descriptor : group.getAssets()) {
+            assets.finishLoadingAsset(descriptor);
+        }
+    }
+
+    public void unloadGroup(AssetGroup group) {
+        for (AssetDescriptor<?> descriptor : group.getAssets()) {
+            if (assets.contains(descriptor.fileName)) {
+                assets.unload(descriptor.fileName);
+            }
+        }
+    }
+
+    public boolean isGroupLoaded(AssetGroup group) {
+        for (AssetDescriptor<?> descriptor : group.getAssets()) {
+            if (!assets.isLoaded(descriptor.fileName)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Looks up a texture from a group the caller currently holds.
+     */
+    public Texture getTexture(String path) {
+        return assets.get(path, Texture.class);
+    }
+
+    private boolean isBootGroupLoaded() {
+        return isGroupLoaded(AssetGroup.BOOT) && (!hasAtlas || assets.isLoaded(ATLAS_PATH));
+    }
+
+    private void onBootLoaded() {
+        if (hasAtlas) {
+            atlas = assets.get(ATLAS_PATH, TextureAtlas.class);
+            // Region names are asset paths without the extension; lookups ignore case like the desktop file systems do
+            for (TextureAtlas.AtlasRegion region : atlas.getRegions()) {
+                packedRegions.put(region.name.toLowerCase(), region);
+            }
+        }
+
+        skin = assets.get(SKIN_PATH, Skin.class);
+        chevyRayFont = assets.get(CHEVY_RAY_FONT, BitmapFont.class);
+        // Menu backgrounds build their own regions and drawables from this, so it stays a plain texture
+        panel = assets.get(PANEL_PATH, Texture.class);
+
+        clickSound = assets.get(CLICK_SOUND, Sound.class);
+        reloadSound = assets.get(RELOAD_SOUND, Sound.class);
+        bloodSplash = assets.get(BLOOD_SPLASH_SOUND, Sound.class);
+        shootSound = assets.get(SHOT_SOUND, Sound.class);
+        obtainSound = assets.get(OBTAIN_SOUND, Sound.class);
+        batDeathSound = assets.get(BAT_DEATH_SOUND, Sound.class);
+        levelUpSound = assets.get(LEVEL_UP_SOUND, Sound.class);
+        elderSpawn = assets.get(ELDER_SPAWN_SOUND, Sound.class);
+        loseSound = assets.get(LOSE_SOUND, Sound.class);
+        winSound = assets.get(WIN_SOUND, Sound.class);
+
+        ammoIcon = acquireRegion("Images/AmmoIcon.png");
+        reloadBarBg = acquireRegion("Images/reload/ReloadBar_0.png");
+        reloadBarFill = acquireRegion("Images/reload/ReloadBar_1.png");
+        bulletRegion = acquireRegion("Images/bullet.png");
+        zombieSkull = acquireRegion("Images/zombieSkull.png");
+        muzzleFlash = acquireRegion("Images/muzzleFlash.png");
+
+        levelUpAnimation = new Animation<>(0.25f, acquireFrames("Images/LevelUpAnimation/LevelUp", 1, 8));
+        heartAnimation = new Animation<>(0.5f, acquireFrames("Images/HeartAnimation/HeartAnimation_", 0, 3));
+        deathFxAnimation = new Animation<>(0.1f, acquireFrames("Images/DeathFx/DeathFx", 0, 4));
+        curseAnimation = new Animation<>(0.1f, acquireFrames("Images/Curse/T_CurseFX_", 0, 3));
+
+        loaded = true;
+    }
+
+    /**
+     * Swaps the frame a sprite shows. Unlike {@code Sprite.setTexture}, {@code setRegion} resets the
+     * texture coordinates, so the current flip is carried over explicitly.
+     */
+    public static void setFrame(Sprite sprite, TextureRegion frame) {
+        boolean flipX = sprite.isFlipX();
+        boolean flipY = sprite.isFlipY();
+        sprite.setRegion(frame);
+        sprite.setFlip(flipX, flipY);
     }
 
     public static GameAssetManager getGameAssetManager() {
@@ -93,35 +258,63 @@ public class GameAssetManager {
         return gameAssetManager;
     }
 
+    public int getMapWidth() {
+        readMapSize();
+        return mapWidth;
+    }
+
+    public int getMapHeight() {
+        readMapSize();
+        return mapHeight;
+    }
+
+    // The world bounds only need the PNG header, not a decoded texture
+    private void readMapSize() {
+        if (mapWidth >= 0) return;
+
+        try (DataInputStream in = new DataInputStream(Gdx.files.internal(MAP_PATH).read())) {
+            // 8 byte signature, then the IHDR chunk: length, type, width, height
+            in.skipNBytes(16);
+            mapWidth = in.readInt();
+            mapHeight = in.readInt();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read map size from " + MAP_PATH, e);
+        }
+    }
+
     public Texture getPanel() {
         return panel;
     }
 
-    public Texture getAmmoIcon() {
+    public TextureRegion getAmmoIcon() {
         return ammoIcon;
     }
 
-    public Texture getZombieSkull() {
+    public TextureRegion getZombieSkull() {
         return zombieSkull;
     }
 
-    public Animation<Texture> getLevelUpAnimation() {
+    public Animation<TextureRegion> getLevelUpAnimation() {
         return levelUpAnimation;
     }
 
-    public Animation<Texture> getCurseAnimation() {
+    public Animation<TextureRegion> getCurseAnimation() {
         return curseAnimation;
     }
 
+    public Sound getClickSound() {
+        return clickSound;
+    }
+
     public Skin getSkin() {
         return skin;
     }
 
-    public String getBullet() {
-        return "Images/bullet.png";
+    public TextureRegion getBulletRegion() {
+        return bulletRegion;
     }
 
-    public Animation<Texture> getPlayerRunAnimation() {
+    public Animation<TextureRegion> getPlayerRunAnimation() {
         String characterName = App.getGame().getPlayer().getCharacter().getName();
         String cacheKey = characterName + "_run";
 
@@ -129,18 +322,17 @@ public class GameAssetManager {
             return playerRunAnimationCache.get(cacheKey);
         }
 
-        Array<Texture> frames = new Array<>();
+        Array<TextureRegion> frames = new Array<>();
         for (int i = 0; i < 4; i++) {
             String framePath = "Images/characters/" + characterName + "/run" + i + ".png";
 
-            if (Gdx.files.internal(framePath).exists()) {
-                Texture frameTex = new Texture(Gdx.files.internal(framePath));
-                frames.add(frameTex);
+            if (hasRegion(framePath)) {
+                frames.add(acquireRegion(framePath));
             }
         }
 
         float FRAME_DURATION = 0.13f;
-        Animation<Texture> animation = new Animation<>(FRAME_DURATION, frames);
+        Animation<TextureRegion> animation = new Animation<>(FRAME_DURATION, frames);
         playerRunAnimationCache.put(cacheKey, animation);
         return animation;
     }
@@ -153,7 +345,7 @@ public class GameAssetManager {
         return new Label.LabelStyle(GameAssetManager.getGameAssetManager().getChevyRayFont(), Color.WHITE);
     }
 
-    public Animation<Texture> getPlayerIdleAnimation() {
+    public Animation<TextureRegion> getPlayerIdleAnimation() {
         String characterName = App.getGame().getPlayer().getCharacter().getName();
         String cacheKey = characterName + "_idle";
 
@@ -161,23 +353,22 @@ public class GameAssetManager {
             return playerIdleAnimationCache.get(cacheKey);
         }
 
-        Array<Texture> frames = new Array<>();
+        Array<TextureRegion> frames = new Array<>();
         for (int i = 0; i < 6; i++) {
             String framePath = "Images/characters/" + characterName + "/idle" + i + ".png";
 
-            if (Gdx.files.internal(framePath).exists()) {
-                Texture frameTex = new Texture(Gdx.files.internal(framePath));
-                frames.add(frameTex);
+            if (hasRegion(framePath)) {
+                frames.add(acquireRegion(framePath));
             }
         }
 
         float FRAME_DURATION = 0.13f;
-        Animation<Texture> animation = new Animation<>(FRAME_DURATION, frames);
+        Animation<TextureRegion> animation = new Animation<>(FRAME_DURATION, frames);
         playerIdleAnimationCache.put(cacheKey, animation);
         return animation;
     }
 
-    public Animation<Texture> getWeaponReloadAnimation(Weapons weapon) {
+    public Animation<TextureRegion> getWeaponReloadAnimation(Weapons weapon) {
         String weaponName = weapon.getName().replaceAll("\\s+", "").toLowerCase();
         String cacheKey = weaponName + "_reload";
 
@@ -185,15 +376,14 @@ public class GameAssetManager {
             return weaponReloadAnimationCache.get(cacheKey);
         }
 
-        Array<Texture> frames = new Array<>();
+        Array<TextureRegion> frames = new Array<>();
 
         for (int i = 0; i < 4; i++) {
             String framePath = "Images/weapons/" + weaponName + "/reload" + i + ".png";
 
-            if (Gdx.files.internal(framePath).exists()) {
+            if (hasRegion(framePath)) {
                 try {
-                    Texture frameTex = new Texture(Gdx.files.internal(framePath));
-                    frames.add(frameTex);
+                    frames.add(acquireRegion(framePath));
                 } catch (Exception e) {
                     Gdx.app.error("GameAssetManager", "Error loading weapon reload texture: " + framePath + ", " + e.getMessage());
                 }
@@ -207,16 +397,16 @@ public class GameAssetManager {
         }
 
         float frameDuration = weapon.getReloadTime() / (float) frames.size;
-        Animation<Texture> animation = new Animation<>(frameDuration, frames);
+        Animation<TextureRegion> animation = new Animation<>(frameDuration, frames);
         weaponReloadAnimationCache.put(cacheKey, animation);
         return animation;
     }
 
-    public Animation<Texture> getHeartAnimation() {
+    public Animation<TextureRegion> getHeartAnimation() {
         return heartAnimation;
     }
 
-    public Animation<Texture> getDeathFxAnimation() {
+    public Animation<TextureRegion> getDeathFxAnimation() {
         return deathFxAnimation;
     }
 
@@ -284,17 +474,130 @@ public class GameAssetManager {
         }
     }
 
-    public Animation<Texture> getEnemyAnimation(String enemyName) {
+    /**
+     * Borrows a texture from the shared registry, loading it on first use. Every call must be
+     * matched by {@link #releaseTexture(String)} with the same path.
+     */
+    public Texture acquireTexture(String path) {
+        return acquireTexture(path, null);
+    }
+
+    public Texture acquireTexture(String path, String fallbackPath) {
+        Texture texture = sharedTextures.get(path);
+        if (texture == null) {
+            texture = loadSharedTexture(path, fallbackPath);
+            sharedTextures.put(path, texture);
+            looseRegions.put(path, new TextureRegion(texture));
+        }
+        textureReferences.getAndIncrement(path, 0, 1);
+        return texture;
+    }
+
+    public void releaseTexture(String path) {
+        if (path == null || !textureReferences.containsKey(path)) return;
+
+        int remaining = textureReferences.getAndIncrement(path, 0, -1) - 1;
+        if (remaining <= 0) {
+            textureReferences.remove(path, 0);
+        }
+    }
+
+    /**
+     * Borrows a sprite region, taken from the texture atlas when the sprite was packed and from
+     * the shared texture registry otherwise. Every call must be matched by
+     * {@link #releaseRegion(String)} with the same path.
+     */
+    public TextureRegion acquireRegion(String path) {
+        return acquireRegion(path, null);
+    }
+
+    public TextureRegion acquireRegion(String path, String fallbackPath) {
+        TextureRegion packed = findPackedRegion(path);
+        if (packed != null) return packed;
+
+        acquireTexture(path, fallbackPath);
+        return looseRegions.get(path);
+    }
+
+    public void releaseRegion(String path) {
+        // Packed regions live as long as the atlas
+        if (findPackedRegion(path) == null) {
+            releaseTexture(path);
+        }
+    }
+
+    public TextureRegion acquireEnemyRegion(EnemyType type) {
+        return acquireRegion(type.getTexturePath(), "Images/enemies/default.png");
+    }
+
+    public void releaseEnemyRegion(EnemyType type) {
+        releaseRegion(type.getTexturePath());
+    }
+
+    public boolean hasRegion(String path) {
+        return findPackedRegion(path) != null || Gdx.files.internal(path).exists();
+    }
+
+    public boolean isAtlasLoaded() {
+        return atlas != null;
+    }
+
+    private TextureRegion findPackedRegion(String path) {
+        if (atlas == null || path == null) return null;
+
+        String name = path.endsWith(".png") ? path.substring(0, path.length() - 4) : path;
+        return packedRegions.get(name.toLowerCase());
+    }
+
+    private Array<TextureRegion> acquireFrames(String prefix, int first, int count) {
+        Array<TextureRegion> frames = new Array<>(count);
+        for (int i = first; i < first + count; i++) {
+            frames.add(acquireRegion(prefix + i + ".png"));
+        }
+        return frames;
+    }
+
+    /**
+     * Disposes shared textures nobody holds anymore. Textures stay resident while their count is
+     * zero so that the next spawn wave doesn't reload them; call this when leaving a game.
+     */
+    public void releaseUnusedTextures() {
+        Array<String> unused = new Array<>();
+        for (ObjectMap.Entry<String, Texture> entry : sharedTextures) {
+            if (textureReferences.get(entry.key, 0) <= 0) {
+                unused.add(entry.key);
+            }
+        }
+
+        for (String path : unused) {
+            sharedTextures.remove(path).dispose();
+            looseRegions.remove(path);
+        }
+    }
+
+    private Texture loadSharedTexture(String path, String fallbackPath) {
+        try {
+            return new Texture(Gdx.files.internal(path));
+        } catch (RuntimeException e) {
+            if (fallbackPath == null) {
+                throw e;
+            }
+            Gdx.app.error("GameAssetManager", "Error loading texture " + path + ": " + e.getMessage());
+            return new Texture(Gdx.files.internal(fallbackPath));
+        }
+    }
+
+    public Animation<TextureRegion> getEnemyAnimation(String enemyName) {
         if (enemyAnimationCache.containsKey(enemyName)) {
             return enemyAnimationCache.get(enemyName);
         }
 
-        Array<Texture> frames = new Array<>();
+        Array<TextureRegion> frames = new Array<>();
         for (int i = 0; i < 4; i++) {
             String framePath = "Images/Enemies/" + enemyName.toLowerCase() + "/" + enemyName.toLowerCase() + i + ".png";
-            if (Gdx.files.internal(framePath).exists()) {
-                Texture frameTex = new Texture(Gdx.files.internal(framePath));
-                frames.add(frameTex);
+            if (hasRegion(framePath)) {
+                // Held for the lifetime of the cache; the first frame doubles as the spawn texture
+                frames.add(acquireRegion(framePath));
             } else {
                 Gdx.app.log("GameAssetManager", "Enemy texture not found: " + framePath);
             }
@@ -305,59 +608,43 @@ public class GameAssetManager {
         }
 
         float animationDuration = enemyName.equalsIgnoreCase("tree") ? 5f : 0.3f;
-        Animation<Texture> animation = new Animation<>(animationDuration, frames);
+        Animation<TextureRegion> animation = new Animation<>(animationDuration, frames);
         enemyAnimationCache.put(enemyName, animation);
         return animation;
     }
 
     public void dispose() {
-        if (skin != null) {
-            skin.dispose();
-        }
-
-        if (reloadSound != null) {
-            reloadSound.dispose();
-        }
-
-        if (shootSound != null) {
-            shootSound.dispose();
-        }
-
         for (Sound sound : footSteps) {
             if (sound != null) {
                 sound.dispose();
             }
         }
 
-
         enemyAnimationCache.clear();
         playerRunAnimationCache.clear();
         playerIdleAnimationCache.clear();
         weaponReloadAnimationCache.clear();
 
-        if (muzzleFlash != null) {
-            muzzleFlash.dispose();
-            muzzleFlash = null;
+        for (Texture texture : sharedTextures.values()) {
+            texture.dispose();
         }
+        sharedTextures.clear();
+        looseRegions.clear();
+        textureReferences.clear();
 
-        if (reloadBarBg != null) {
-            reloadBarBg.dispose();
-        }
-
-        if (reloadBarFill != null) {
-            reloadBarFill.dispose();
-        }
+        // Disposes the skin, font, sounds, atlas and whatever groups are still loaded
+        assets.dispose();
     }
 
-    public Texture getReloadBarBg() {
+    public TextureRegion getReloadBarBg() {
         return reloadBarBg;
     }
 
-    public Texture getReloadBarFill() {
+    public TextureRegion getReloadBarFill() {
         return reloadBarFill;
     }
 
-    public Texture getMuzzleFlash() {
+    public TextureRegion getMuzzleFlash() {
         return muzzleFlash;
     }
 }
@@ -0,0 +1,11 @@
+package com.untilDawn.models.utils;
+
+/**
+ * Keyboard state as seen by the game controllers. The desktop game reads {@code Gdx.input};
+ * headless runs plug in a scripted source instead.
+ */
+public interface GameInput {
+    boolean isKeyPressed(int keycode);
+
+    boolean isKeyJustPressed(int keycode);
+}
@@ -0,0 +1,279 @@
+package com.untilDawn.models.utils;
+
+import com.untilDawn.models.utils.GameSaveSystem.AbilitySaveData;
+import com.untilDawn.models.utils.GameSaveSystem.EnemySaveData;
+import com.untilDawn.models.utils.GameSaveSystem.GameSaveData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary layout of a single user's save:
+ * <pre>
+ * int    magic "UDSV"
+ * short  format version
+ * repeated sections:
+ *   byte tag, int length, length bytes of payload
+ * byte   END tag
+ * </pre>
+ * Readers skip sections they don't know by their length, so a section can be added without
+ * bumping the version; changing the layout of an existing one needs a new version.
+ */
+final class GameSaveFile {
+    static final int MAGIC = 0x55445356;
+    static final short VERSION = 1;
+
+    private static final byte SECTION_END = 0;
+    private static final byte SECTION_PLAYER = 1;
+    private static final byte SECTION_ABILITIES = 2;
+    private static final byte SECTION_ENEMIES = 3;
+    private static final byte SECTION_BARRIERS = 4;
+
+    private static final int ENEMY_ACTIVE = 1;
+    private static final int ENEMY_ELDER_BOSS = 1 << 1;
+    private static final int ENEMY_BARRIER_ACTIVE = 1 << 2;
+    private static final int ENEMY_DROP_ACTIVE = 1 << 3;
+
+    private GameSaveFile() {
+    }
+
+    static void write(GameSaveData save, DataOutputStream out) throws IOException {
+        ByteArrayOutputStream section = new ByteArrayOutputStream(256);
+        DataOutputStream sectionOut = new DataOutputStream(section);
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        writePlayer(save, sectionOut);
+        endSection(SECTION_PLAYER, section, out);
+
+        writeAbilities(save, sectionOut);
+        endSection(SECTION_ABILITIES, section, out);
+
+        writeEnemies(save, sectionOut);
+        endSection(SECTION_ENEMIES, section, out);
+
+        writeBarriers(save, sectionOut);
+        endSection(SECTION_BARRIERS, section, out);
+
+        out.writeByte(SECTION_END);
+    }
+
+    private static void endSection(byte tag, ByteArrayOutputStream section, DataOutputStream out) throws IOException {
+        out.writeByte(tag);
+        out.writeInt(section.size());
+        section.writeTo(out);
+        section.reset();
+    }
+
+    private static void writePlayer(GameSaveData save, DataOutputStream out) throws IOException {
+        out.writeUTF(save.username);
+        out.writeUTF(save.characterName);
+        out.writeUTF(save.weaponName);
+        out.writeInt(save.playerLevel);
+        out.writeInt(save.playerXP);
+        out.writeInt(save.playerHealth);
+        out.writeInt(save.maxHealth);
+        out.writeFloat(save.playerPosX);
+        out.writeFloat(save.playerPosY);
+        out.writeFloat(save.gameTime);
+        out.writeInt(save.timeLimit);
+        out.writeInt(save.score);
+        out.writeBoolean(save.hasRegeneration);
+        out.writeInt(save.damageBonus);
+        out.writeInt(save.projectileBonus);
+        out.writeInt(save.ammoBonus);
+        out.writeInt(save.weaponAmmo);
+        out.writeLong(save.saveTimestamp);
+        out.writeInt(save.kills);
+    }
+
+    private static void writeAbilities(GameSaveData save, DataOutputStream out) throws IOException {
+        out.writeInt(save.abilityStates.size());
+        for (Map.Entry<String, AbilitySaveData> entry : save.abilityStates.entrySet()) {
+            AbilitySaveData ability = entry.getValue();
+            out.writeUTF(entry.getKey());
+            out.writeBoolean(ability.isActive);
+            out.writeFloat(ability.remainingDuration);
+            out.writeFloat(ability.remainingCooldown);
+            out.writeBoolean(ability.hasBeenUnlocked);
+        }
+    }
+
+    // Type names are written once up front and each enemy refers to them by index
+    private static void writeEnemies(GameSaveData save, DataOutputStream out) throws IOException {
+        List<String> types = new ArrayList<>();
+        Map<String, Integer> typeIndex = new HashMap<>();
+        for (EnemySaveData enemy : save.enemies.values()) {
+            if (!typeIndex.containsKey(enemy.type)) {
+                typeIndex.put(enemy.type, types.size());
+                types.add(enemy.type);
+            }
+        }
+
+        out.writeShort(types.size());
+        for (String type : types) {
+            out.writeUTF(type);
+        }
+
+        out.writeInt(save.enemies.size());
+        for (EnemySaveData enemy : save.enemies.values()) {
+            int flags = 0;
+            if (enemy.isActive) flags |= ENEMY_ACTIVE;
+            if (enemy.isElderBoss) flags |= ENEMY_ELDER_BOSS;
+            if (enemy.isBarrierActive) flags |= ENEMY_BARRIER_ACTIVE;
+            if (enemy.isDropActive) flags |= ENEMY_DROP_ACTIVE;
+
+            out.writeShort(typeIndex.get(enemy.type));
+            out.writeByte(flags);
+            out.writeFloat(enemy.posX);
+            out.writeFloat(enemy.posY);
+            out.writeInt(enemy.health);
+            if (enemy.isElderBoss) {
+                out.writeUTF(enemy.elderBossState != null ? enemy.elderBossState : "");
+            }
+            if (enemy.isDropActive) {
+                out.writeUTF(enemy.dropType != null ? enemy.dropType : "");
+            }
+        }
+    }
+
+    // Elder barrier sizes, keyed by the enemy's position in the enemies section
+    private static void writeBarriers(GameSaveData save, DataOutputStream out) throws IOException {
+        int count = 0;
+        for (EnemySaveData enemy : save.enemies.values()) {
+            if (enemy.isElderBoss) count++;
+        }
+
+        out.writeInt(count);
+        int index = 0;
+        for (EnemySaveData enemy : save.enemies.values()) {
+            if (enemy.isElderBoss) {
+                out.writeInt(index);
+                out.writeFloat(enemy.barrierWidth);
+                out.writeFloat(enemy.barrierHeight);
+            }
+            index++;
+        }
+    }
+
+    static GameSaveData read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a save file");
+        }
+        int version = in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+
+        GameSaveData save = new GameSaveData();
+        boolean hasPlayer = false;
+
+        while (true) {
+            byte tag = in.readByte();
+            if (tag == SECTION_END) break;
+
+            int length = in.readInt();
+            switch (tag) {
+                case SECTION_PLAYER -> {
+                    readPlayer(save, in);
+                    hasPlayer = true;
+                }
+                case SECTION_ABILITIES -> readAbilities(save, in);
+                case SECTION_ENEMIES -> readEnemies(save, in);
+                case SECTION_BARRIERS -> readBarriers(save, in);
+                default -> skipFully(in, length);
+            }
+        }
+
+        if (!hasPlayer) {
+            throw new IOException("Save has no player section");
+        }
+        return save;
+    }
+
+    private static void readPlayer(GameSaveData save, DataInputStream in) throws IOException {
+        save.username = in.readUTF();
+        save.characterName = in.readUTF();
+        save.weaponName = in.readUTF();
+        save.playerLevel = in.readInt();
+        save.playerXP = in.readInt();
+        save.playerHealth = in.readInt();
+        save.maxHealth = in.readInt();
+        save.playerPosX = in.readFloat();
+        save.playerPosY = in.readFloat();
+        save.gameTime = in.readFloat();
+        save.timeLimit = in.readInt();
+        save.score = in.readInt();
+        save.hasRegeneration = in.readBoolean();
+        save.damageBonus = in.readInt();
+        save.projectileBonus = in.readInt();
+        save.ammoBonus = in.readInt();
+        save.weaponAmmo = in.readInt();
+        save.saveTimestamp = in.readLong();
+        save.kills = in.readInt();
+    }
+
+    private static void readAbilities(GameSaveData save, DataInputStream in) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            AbilitySaveData ability = new AbilitySaveData(in.readBoolean(), in.readFloat(), in.readFloat(), in.readBoolean());
+            save.abilityStates.put(name, ability);
+        }
+    }
+
+    private static void readEnemies(GameSaveData save, DataInputStream in) throws IOException {
+        String[] types = new String[in.readUnsignedShort()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = in.readUTF();
+        }
+
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String type = types[in.readUnsignedShort()];
+            int flags = in.readUnsignedByte();
+
+            EnemySaveData enemy = new EnemySaveData(type, in.readFloat(), in.readFloat(), in.readInt(), (flags & ENEMY_ACTIVE) != 0);
+            enemy.isElderBoss = (flags & ENEMY_ELDER_BOSS) != 0;
+            enemy.isBarrierActive = (flags & ENEMY_BARRIER_ACTIVE) != 0;
+            enemy.isDropActive = (flags & ENEMY_DROP_ACTIVE) != 0;
+            if (enemy.isElderBoss) {
+                enemy.elderBossState = in.readUTF();
+            }
+            if (enemy.isDropActive) {
+                enemy.dropType = in.readUTF();
+            }
+            save.enemies.put(i, enemy);
+        }
+    }
+
+    private static void readBarriers(GameSaveData save, DataInputStream in) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            EnemySaveData enemy = save.enemies.get(in.readInt());
+            float width = in.readFloat();
+            float height = in.readFloat();
+            if (enemy != null) {
+                enemy.barrierWidth = width;
+                enemy.barrierHeight = height;
+            }
+        }
+    }
+
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) throw new EOFException();
+            remaining -= skipped;
+        }
+    }
+}
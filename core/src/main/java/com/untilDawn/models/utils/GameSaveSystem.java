@@ -2,7 +2,6 @@ package com.untilDawn.models.utils;
 
 import com.badlogic.gdx.Gdx;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import com.untilDawn.models.*;
 import com.untilDawn.models.enums.Abilities;
@@ -10,90 +9,169 @@ import com.untilDawn.models.enums.Characters;
 import com.untilDawn.models.enums.EnemyType;
 import com.untilDawn.models.enums.Weapons;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
 
 public class GameSaveSystem {
-    private static final String SAVE_GAMES_FILE = "DataBase/saved_games.json";
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    // One binary file per user, see GameSaveFile for the layout
+    private static final String SAVE_DIRECTORY = "DataBase/saves";
+    private static final String SAVE_EXTENSION = ".sav";
+    // Everyone's saves in one JSON document, as written by older versions
+    private static final String LEGACY_SAVE_GAMES_FILE = "DataBase/saved_games.json";
+    private static final Gson gson = new Gson();
+
+    private static boolean legacySavesChecked = false;
 
     public static boolean saveGame(User user, Game game, Player player, float gameTime) {
         try {
-            Map<String, GameSaveData> savedGames = loadAllSavedGames();
-
-            GameSaveData saveData = new GameSaveData();
-            saveData.username = user.getUsername();
-            saveData.characterName = player.getCharacter().getName();
-            saveData.weaponName = game.getSelectedWeapon().getWeapon().getName();
-            saveData.playerLevel = player.getLevel();
-            saveData.playerXP = player.getXP();
-            saveData.playerHealth = player.getPlayerHealth();
-            saveData.maxHealth = player.getMaxHealth();
-            saveData.playerPosX = player.getPosX();
-            saveData.playerPosY = player.getPosY();
-            saveData.gameTime = gameTime;
-            saveData.timeLimit = game.getTimeLimit();
-            saveData.score = game.getScore();
-            saveData.hasRegeneration = player.hasRegeneration();
-            saveData.damageBonus = player.getDamageBonus();
-            saveData.projectileBonus = player.getProjectileBonus();
-            saveData.ammoBonus = player.getAmmoBonus();
-            saveData.weaponAmmo = game.getSelectedWeapon().getAmmo();
-            saveData.saveTimestamp = System.currentTimeMillis();
-            saveData.kills = player.getKills();
-
-            // Save enemies with better serialization
-            saveData.enemies.clear();
-            if (game.getEnemies() != null) {
-                int enemyId = 0;
-                for (Enemy enemy : game.getEnemies()) {
-                    if (enemy != null && enemy.isActive()) {
-                        EnemySaveData enemyData = createEnemySaveData(enemy);
-                        if (enemyData != null) {
-                            saveData.enemies.put(enemyId++, enemyData);
-                        }
+            GameSaveData saveData = createSaveData(user, game, player, gameTime);
+            writeSaveFile(saveData);
+
+            Gdx.app.log("GameSaveSystem", "Game saved successfully - Enemies: " +
+                saveData.enemies.size() + ", Time: " + gameTime);
+            return true;
+        } catch (Exception e) {
+            Gdx.app.error("GameSaveSystem", "Failed to save game: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Captures the running game straight from the controllers' state for
+     * {@link AutoSaver#submit(GameSaveData)}. Enemies are read from the store as they are;
+     * nothing is copied or replayed, so this is cheap enough to call on the render thread.
+     */
+    public static GameSaveData createSnapshot(User user, Game game, Player player, float gameTime, EnemyStore enemies) {
+        GameSaveData saveData = createPlayerSaveData(user, game, player, gameTime);
+        int enemyId = 0;
+        for (int i = 0; i < enemies.size; i++) {
+            // Dead enemies stay in the store while their drop is on the ground
+            if (!enemies.isActive(i) && !enemies.get(i).isDropActive()) continue;
+
+            EnemySaveData enemyData = createEnemySaveData(enemies.get(i));
+            if (enemyData != null) {
+                saveData.enemies.put(enemyId++, enemyData);
+            }
+        }
+        return saveData;
+    }
+
+    static GameSaveData createSaveData(User user, Game game, Player player, float gameTime) {
+        GameSaveData saveData = createPlayerSaveData(user, game, player, gameTime);
+
+        // Save enemies with better serialization
+        if (game.getEnemies() != null) {
+            int enemyId = 0;
+            for (Enemy enemy : game.getEnemies()) {
+                if (enemy != null && (enemy.isActive() || enemy.isDropActive())) {
+                    EnemySaveData enemyData = createEnemySaveData(enemy);
+                    if (enemyData != null) {
+                        saveData.enemies.put(enemyId++, enemyData);
                     }
                 }
             }
+        }
+        return saveData;
+    }
 
-            // Save ability states
-            for (Abilities ability : Abilities.values()) {
-                AbilitySaveData abilityData = new AbilitySaveData(
-                    ability.isActive(),
-                    ability.getRemainingDuration(),
-                    ability.getRemainingCooldown(),
-                    hasPlayerAcquiredAbility(player, ability)
-                );
-                saveData.abilityStates.put(ability.name(), abilityData);
-            }
+    private static GameSaveData createPlayerSaveData(User user, Game game, Player player, float gameTime) {
+        GameSaveData saveData = new GameSaveData();
+        saveData.username = user.getUsername();
+        saveData.characterName = player.getCharacter().getName();
+        saveData.weaponName = game.getSelectedWeapon().getWeapon().getName();
+        saveData.playerLevel = player.getLevel();
+        saveData.playerXP = player.getXP();
+        saveData.playerHealth = player.getPlayerHealth();
+        saveData.maxHealth = player.getMaxHealth();
+        saveData.playerPosX = player.getPosX();
+        saveData.playerPosY = player.getPosY();
+        saveData.gameTime = gameTime;
+        saveData.timeLimit = game.getTimeLimit();
+        saveData.score = game.getScore();
+        saveData.hasRegeneration = player.hasRegeneration();
+        saveData.damageBonus = player.getDamageBonus();
+        saveData.projectileBonus = player.getProjectileBonus();
+        saveData.ammoBonus = player.getAmmoBonus();
+        saveData.weaponAmmo = game.getSelectedWeapon().getAmmo();
+        saveData.saveTimestamp = System.currentTimeMillis();
+        saveData.kills = player.getKills();
+
+        // Save ability states
+        for (Abilities ability : Abilities.values()) {
+            AbilitySaveData abilityData = new AbilitySaveData(
+                ability.isActive(),
+                ability.getRemainingDuration(),
+                ability.getRemainingCooldown(),
+                hasPlayerAcquiredAbility(player, ability)
+            );
+            saveData.abilityStates.put(ability.name(), abilityData);
+        }
 
-            // Store the save data
-            savedGames.put(user.getUsername(), saveData);
+        return saveData;
+    }
 
-            // Write to file
-            File file = new File(SAVE_GAMES_FILE);
-            file.getParentFile().mkdirs();
+    /**
+     * Writes the save next to its final location, syncs it to disk and then moves it over the
+     * previous save in one step, so a crash leaves either the old save or the new one.
+     */
+    static void writeSaveFile(GameSaveData saveData) throws IOException {
+        Path target = getSavePath(saveData.username);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            GameSaveFile.write(saveData, out);
+            out.flush();
+            file.getFD().sync();
+        }
 
-            try (FileWriter writer = new FileWriter(file)) {
-                gson.toJson(savedGames, writer);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 
-                Gdx.app.log("GameSaveSystem", "Game saved successfully - Enemies: " +
-                    saveData.enemies.size() + ", Time: " + gameTime);
-                return true;
-            }
+    static GameSaveData readSaveFile(String username) {
+        Path path = getSavePath(username);
+        if (!Files.exists(path)) {
+            return null;
+        }
 
-        } catch (Exception e) {
-            Gdx.app.error("GameSaveSystem", "Failed to save game: " + e.getMessage());
-            e.printStackTrace();
-            return false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return GameSaveFile.read(in);
+        } catch (IOException e) {
+            Gdx.app.error("GameSaveSystem", "Couldn't read save " + path + ": " + e.getMessage());
+            return null;
         }
     }
 
+    // Hex keeps any user name a valid file name and distinct on case-insensitive file systems
+    private static Path getSavePath(String username) {
+        StringBuilder name = new StringBuilder();
+        for (byte b : username.getBytes(StandardCharsets.UTF_8)) {
+            name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return Paths.get(SAVE_DIRECTORY, name + SAVE_EXTENSION);
+    }
+
     private static EnemySaveData createEnemySaveData(Enemy enemy) {
         try {
             EnemySaveData enemyData = new EnemySaveData(
@@ -110,20 +188,16 @@ public class GameSaveSystem {
                 ElderBoss elder = (ElderBoss) enemy;
                 enemyData.elderBossState = String.valueOf(elder.getCurrentState());
                 enemyData.isBarrierActive = elder.isBarrierActive();
-
-                Gdx.app.log("GameSaveSystem", "Saving Elder Boss with state: " + enemyData.elderBossState);
-            }
-
-            // Special handling for trees
-            if (enemy.getType() == EnemyType.TREE) {
-                Gdx.app.log("GameSaveSystem", "Saving tree at position: (" +
-                    enemy.getPosX() + ", " + enemy.getPosY() + ")");
+                if (elder.getBarrier() != null) {
+                    enemyData.barrierWidth = elder.getBarrier().getCurrentWidth();
+                    enemyData.barrierHeight = elder.getBarrier().getCurrentHeight();
+                }
             }
 
             // Save drop state
             if (!enemy.isActive() && enemy.isDropActive()) {
                 enemyData.isDropActive = true;
-                enemyData.dropType = "experience"; // Default drop type
+                enemyData.dropType = enemy.getDropType();
             }
 
             return enemyData;
@@ -135,8 +209,8 @@ public class GameSaveSystem {
     }
 
     public static GameSaveData loadGame(User user) {
-        Map<String, GameSaveData> savedGames = loadAllSavedGames();
-        GameSaveData saveData = savedGames.get(user.getUsername());
+        migrateLegacySaves();
+        GameSaveData saveData = readSaveFile(user.getUsername());
 
         if (saveData != null) {
             Gdx.app.log("GameSaveSystem", "Loaded save data for " + user.getUsername() +
@@ -151,41 +225,70 @@ public class GameSaveSystem {
             return false;
         }
 
-        Map<String, GameSaveData> savedGames = loadAllSavedGames();
-        return savedGames.containsKey(user.getUsername());
+        migrateLegacySaves();
+        return Files.exists(getSavePath(user.getUsername()));
     }
 
     public static boolean deleteSavedGame(User user) {
+        migrateLegacySaves();
         try {
-            Map<String, GameSaveData> savedGames = loadAllSavedGames();
-            savedGames.remove(user.getUsername());
-
-            File file = new File(SAVE_GAMES_FILE);
-            try (FileWriter writer = new FileWriter(file)) {
-                gson.toJson(savedGames, writer);
-                return true;
-            }
+            Files.deleteIfExists(getSavePath(user.getUsername()));
+            return true;
         } catch (IOException e) {
             e.printStackTrace();
             return false;
         }
     }
 
-    private static Map<String, GameSaveData> loadAllSavedGames() {
-        File file = new File(SAVE_GAMES_FILE);
-        if (!file.exists()) {
-            return new HashMap<>();
-        }
+    /**
+     * Splits the old shared JSON save file into per-user binary saves, once. The JSON file is
+     * renamed afterwards so that saves deleted later don't come back from it.
+     */
+    static synchronized void migrateLegacySaves() {
+        if (legacySavesChecked) return;
+        legacySavesChecked = true;
 
-        try (FileReader reader = new FileReader(file)) {
+        File legacyFile = new File(LEGACY_SAVE_GAMES_FILE);
+        if (!legacyFile.exists()) return;
+
+        Map<String, GameSaveData> legacySaves;
+        try (FileReader reader = new FileReader(legacyFile)) {
             Type saveGamesType = new TypeToken<Map<String, GameSaveData>>() {
             }.getType();
-            Map<String, GameSaveData> savedGames = gson.fromJson(reader, saveGamesType);
-            return savedGames != null ? savedGames : new HashMap<>();
-        } catch (IOException e) {
-            e.printStackTrace();
-            return new HashMap<>();
+            legacySaves = gson.fromJson(reader, saveGamesType);
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("GameSaveSystem", "Couldn't read legacy saves: " + e.getMessage());
+            return;
         }
+
+        int migrated = 0;
+        if (legacySaves != null) {
+            for (Map.Entry<String, GameSaveData> entry : legacySaves.entrySet()) {
+                GameSaveData saveData = entry.getValue();
+                if (saveData == null) continue;
+
+                saveData.username = entry.getKey();
+                if (saveData.abilityStates == null) saveData.abilityStates = new HashMap<>();
+                if (saveData.enemies == null) saveData.enemies = new HashMap<>();
+
+                try {
+                    // A binary save is always newer than the JSON one
+                    if (!Files.exists(getSavePath(saveData.username))) {
+                        writeSaveFile(saveData);
+                        migrated++;
+                    }
+                } catch (IOException e) {
+                    Gdx.app.error("GameSaveSystem", "Couldn't migrate save for " + saveData.username + ": " + e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        File migratedFile = new File(LEGACY_SAVE_GAMES_FILE + ".migrated");
+        if (!legacyFile.renameTo(migratedFile)) {
+            Gdx.app.error("GameSaveSystem", "Couldn't rename " + LEGACY_SAVE_GAMES_FILE + " after migrating it");
+        }
+        Gdx.app.log("GameSaveSystem", "Migrated " + migrated + " saves from " + LEGACY_SAVE_GAMES_FILE);
     }
 
     public static Game restoreGameFromSave(GameSaveData saveData) {
@@ -226,12 +329,7 @@ public class GameSaveSystem {
                 player.addXP(saveData.playerXP);
             }
 
-            // Restore kills
-            if (saveData.kills > 0) {
-                for (int i = 0; i < saveData.kills; i++) {
-                    player.addKill();
-                }
-            }
+            player.setKills(saveData.kills);
 
             // Restore player abilities
             restorePlayerAbilities(player, saveData, character);
@@ -292,9 +390,13 @@ public class GameSaveSystem {
 
         if (saveData.enemies != null && !saveData.enemies.isEmpty()) {
             for (EnemySaveData enemyData : saveData.enemies.values()) {
+                // Dead enemies are only worth building while their drop is still on the ground
+                if (!enemyData.isActive && !enemyData.isDropActive) {
+                    continue;
+                }
                 try {
                     Enemy enemy = createEnemyFromSaveData(enemyData);
-                    if (enemy != null && enemy.isActive()) {
+                    if (enemy != null) {
                         game.addEnemy(enemy);
                     }
                 } catch (Exception e) {
@@ -313,38 +415,20 @@ public class GameSaveSystem {
 
             // Create appropriate enemy type
             if (enemyData.isElderBoss && enemyType == EnemyType.ELDER) {
-                // Use default map size for Elder Boss (this will be overridden by EnemyController)
-                float mapWidth = 4096f;
-                float mapHeight = 4096f;
-                enemy = new ElderBoss(enemyData.posX, enemyData.posY, mapWidth, mapHeight);
-
-                Gdx.app.log("GameSaveSystem", "Restored Elder Boss at (" +
-                    enemyData.posX + ", " + enemyData.posY + ")");
+                GameAssetManager assets = GameAssetManager.getGameAssetManager();
+                enemy = new ElderBoss(enemyData.posX, enemyData.posY, assets.getMapWidth(), assets.getMapHeight());
             } else {
                 enemy = new Enemy(enemyType, enemyData.posX, enemyData.posY);
             }
 
-            // Special handling for trees
-            if (enemyType == EnemyType.TREE) {
-                Gdx.app.log("GameSaveSystem", "Restored tree at position: (" +
-                    enemyData.posX + ", " + enemyData.posY + ")");
-            }
-
-            // Restore health by dealing damage if needed
-            if (enemyData.health < enemyType.getHealth()) {
-                int healthDiff = enemyType.getHealth() - enemyData.health;
-                for (int i = 0; i < healthDiff && enemy.isActive(); i++) {
-                    enemy.hit(1);
-                }
+            String dropType = enemyData.isDropActive ? enemyData.dropType : null;
+            if (dropType == null && enemyData.isDropActive) {
+                dropType = "experience";
             }
-
-            // If the enemy should not be active, make sure it's not
-            if (!enemyData.isActive && enemy.isActive()) {
-                // Apply enough damage to deactivate it
-                int remainingHealth = enemy.getHealth();
-                for (int i = 0; i < remainingHealth; i++) {
-                    enemy.hit(1);
-                }
+            enemy.restoreState(enemyData.posX, enemyData.posY, enemyData.health, enemyData.isActive, dropType);
+            if (enemy instanceof ElderBoss elder) {
+                elder.restoreBossState(enemyData.elderBossState, enemyData.isBarrierActive,
+                    enemyData.barrierWidth, enemyData.barrierHeight);
             }
 
             return enemy;
@@ -469,6 +553,8 @@ public class GameSaveSystem {
         public boolean isElderBoss;
         public String elderBossState;
         public boolean isBarrierActive;
+        public float barrierWidth;
+        public float barrierHeight;
         // Add drop state
         public boolean isDropActive;
         public String dropType;
@@ -0,0 +1,24 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.Gdx;
+
+public class GdxGameInput implements GameInput {
+    private static final GdxGameInput instance = new GdxGameInput();
+
+    private GdxGameInput() {
+    }
+
+    public static GdxGameInput getInstance() {
+        return instance;
+    }
+
+    @Override
+    public boolean isKeyPressed(int keycode) {
+        return Gdx.input.isKeyPressed(keycode);
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int keycode) {
+        return Gdx.input.isKeyJustPressed(keycode);
+    }
+}
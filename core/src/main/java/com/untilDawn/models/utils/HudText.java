@@ -0,0 +1,110 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * One line of HUD text built from numbers. The line is only rebuilt and laid out again when
+ * the numbers or the colour differ from the last call, and both the characters and the layout
+ * are reused, so a HUD that shows the same value frame after frame makes no garbage.
+ * <p>
+ * The font's scale is baked into the layout, so keep one instance per font and per line.
+ */
+public class HudText {
+    private final BitmapFont font;
+    private final GlyphLayout layout = new GlyphLayout();
+    private final StringBuilder text = new StringBuilder(24);
+    private final Color color = new Color();
+    private String label;
+    private long key;
+    private boolean laidOut = false;
+
+    public HudText(BitmapFont font) {
+        this.font = font;
+    }
+
+    /**
+     * {@code minutes:seconds}, both two digits, like {@code String.format("%02d:%02d")}.
+     */
+    public HudText setClock(int totalSeconds, Color color) {
+        if (!changed(null, totalSeconds, color)) return this;
+        appendPadded(totalSeconds / 60, 2);
+        text.append(':');
+        appendPadded(totalSeconds % 60, 2);
+        return layOut();
+    }
+
+    /**
+     * {@code value/max}, both padded to {@code digits}, like {@code String.format("%03d/%03d")}.
+     */
+    public HudText setRatio(int value, int max, int digits, Color color) {
+        if (!changed(null, ((long) value << 32) | (max & 0xffffffffL), color)) return this;
+        appendPadded(value, digits);
+        text.append('/');
+        appendPadded(max, digits);
+        return layOut();
+    }
+
+    /**
+     * A non-negative value to one decimal place, rounded like {@code String.format("%.1f")}.
+     */
+    public HudText setTenths(float value, Color color) {
+        int tenths = (int) Math.floor(Math.max(0f, value) * 10f + 0.5f);
+        if (!changed(null, tenths, color)) return this;
+        text.append(tenths / 10).append('.').append(tenths % 10);
+        return layOut();
+    }
+
+    /**
+     * A fixed label followed by a whole number.
+     */
+    public HudText setValue(String label, int value, Color color) {
+        if (!changed(label, value, color)) return this;
+        text.append(label).append(value);
+        return layOut();
+    }
+
+    public void draw(Batch batch, float x, float y) {
+        font.draw(batch, layout, x, y);
+    }
+
+    public float getWidth() {
+        return layout.width;
+    }
+
+    public float getHeight() {
+        return layout.height;
+    }
+
+    // Clears the text for a rebuild, or reports that the current layout still shows this
+    private boolean changed(String label, long key, Color color) {
+        if (laidOut && this.key == key && this.label == label && this.color.equals(color)) {
+            return false;
+        }
+        this.label = label;
+        this.key = key;
+        this.color.set(color);
+        text.setLength(0);
+        return true;
+    }
+
+    private HudText layOut() {
+        layout.setText(font, text, color, 0f, Align.left, false);
+        laidOut = true;
+        return this;
+    }
+
+    private void appendPadded(int value, int digits) {
+        if (value < 0) {
+            text.append('-');
+            value = -value;
+        }
+        for (int limit = 10; digits > 1; digits--, limit *= 10) {
+            if (value < limit) text.append('0');
+        }
+        text.append(value);
+    }
+}
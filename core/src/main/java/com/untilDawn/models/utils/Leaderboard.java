@@ -0,0 +1,168 @@
+package com.untilDawn.models.utils;
+
+import com.untilDawn.models.User;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rankings of all registered, non-guest users by each stat the scoreboard can sort on. Every stat
+ * keeps its own {@link RankedTree}, so the top of a ranking and the rank of one user both come
+ * out in O(log n) without sorting anyone. The trees are built from the database's indexes the
+ * first time they are asked for, so startup doesn't pay for them, and kept current through
+ * {@link #update} and {@link #remove} from then on.
+ * <p>
+ * Each tree holds a copy of the stats as they were at the last update, so a user whose stats
+ * change has to be updated here for the rankings to follow.
+ */
+public class Leaderboard {
+    public enum Stat {
+        SCORE, USERNAME, KILLS, SURVIVAL_TIME
+    }
+
+    private static Leaderboard instance;
+
+    private final Map<Stat, RankedTree<Entry>> rankings = new EnumMap<>(Stat.class);
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final UserRepository repository;
+    private boolean loaded = false;
+
+    Leaderboard(UserRepository repository) {
+        this.repository = repository;
+        for (Stat stat : Stat.values()) {
+            rankings.put(stat, new RankedTree<>(comparator(stat)));
+        }
+    }
+
+    public static Leaderboard getInstance() {
+        if (instance == null) {
+            instance = new Leaderboard(UserRepository.getInstance());
+        }
+        return instance;
+    }
+
+    /**
+     * Best first, the way the scoreboard lists a stat by default. Ties are broken by username so
+     * that no two users compare equal.
+     */
+    static Comparator<Entry> comparator(Stat stat) {
+        Comparator<Entry> byStat = switch (stat) {
+            case SCORE -> Comparator.comparingInt((Entry entry) -> entry.score).reversed();
+            case USERNAME -> Comparator.comparing((Entry entry) -> entry.username, String.CASE_INSENSITIVE_ORDER).reversed();
+            case KILLS -> Comparator.comparingInt((Entry entry) -> entry.kills).reversed();
+            case SURVIVAL_TIME -> Comparator.comparingDouble((Entry entry) -> entry.survivalTime).reversed();
+        };
+        return byStat.thenComparing(entry -> entry.username);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) return;
+        loaded = true;
+
+        // Pending account changes have to be in the database for the scan to see them
+        repository.save();
+        for (Stat stat : Stat.values()) {
+            List<Entry> ranked = repository.loadRanking(stat);
+            if (stat == Stat.SCORE) {
+                for (Entry entry : ranked) {
+                    entries.put(entry.username, entry);
+                }
+            }
+            ranked.replaceAll(entry -> entries.getOrDefault(entry.username, entry));
+
+            // Rows come back in index order, which only differs from ours for unusual usernames
+            Comparator<Entry> comparator = comparator(stat);
+            if (!isSorted(ranked, comparator)) {
+                ranked.sort(comparator);
+            }
+            rankings.get(stat).build(ranked);
+        }
+    }
+
+    private static boolean isSorted(List<Entry> entries, Comparator<Entry> comparator) {
+        for (int i = 1; i < entries.size(); i++) {
+            if (comparator.compare(entries.get(i - 1), entries.get(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void update(User user) {
+        if (!loaded) return;
+
+        remove(user.getUsername());
+        if (user.isGuest()) return;
+
+        Entry entry = new Entry(user.getUsername(), user.getScore(), user.getKills(), user.getSurvivalTime());
+        entries.put(entry.username, entry);
+        for (RankedTree<Entry> ranking : rankings.values()) {
+            ranking.add(entry);
+        }
+    }
+
+    public void remove(String username) {
+        if (!loaded) return;
+
+        Entry entry = entries.remove(username);
+        if (entry == null) return;
+
+        for (RankedTree<Entry> ranking : rankings.values()) {
+            ranking.remove(entry);
+        }
+    }
+
+    public int size() {
+        ensureLoaded();
+        return entries.size();
+    }
+
+    /**
+     * @return up to {@code count} usernames from the top of the ranking, or from the bottom
+     * upwards if {@code ascending}
+     */
+    public List<String> top(Stat stat, boolean ascending, int count) {
+        ensureLoaded();
+        RankedTree<Entry> ranking = rankings.get(stat);
+        int size = ranking.size();
+        int shown = Math.min(count, size);
+
+        List<String> usernames = new ArrayList<>(shown);
+        for (int i = 0; i < shown; i++) {
+            usernames.add(ranking.get(ascending ? size - 1 - i : i).username);
+        }
+        return usernames;
+    }
+
+    /**
+     * @return the one-based rank of the user in the given order, or 0 if they aren't ranked
+     */
+    public int rankOf(Stat stat, boolean ascending, String username) {
+        ensureLoaded();
+        Entry entry = entries.get(username);
+        if (entry == null) return 0;
+
+        RankedTree<Entry> ranking = rankings.get(stat);
+        int index = ranking.indexOf(entry);
+        if (index < 0) return 0;
+        return ascending ? ranking.size() - index : index + 1;
+    }
+
+    static final class Entry {
+        final String username;
+        final int score;
+        final int kills;
+        final float survivalTime;
+
+        Entry(String username, int score, int kills, float survivalTime) {
+            this.username = username;
+            this.score = score;
+            this.kills = kills;
+            this.survivalTime = survivalTime;
+        }
+    }
+}
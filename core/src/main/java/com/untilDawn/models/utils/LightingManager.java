@@ -68,7 +68,6 @@ public class LightingManager implements Disposable {
 
 
     public void render(SpriteBatch batch, OrthographicCamera camera, float playerX, float playerY) {
-        Color oldColor = batch.getColor().cpy();
         float oldPackedColor = batch.getPackedColor();
 
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -95,7 +94,7 @@ public class LightingManager implements Disposable {
 
         batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
-        batch.setColor(oldColor);
+        batch.setPackedColor(oldPackedColor);
     }
 
     public float getLightRadius() {
@@ -0,0 +1,183 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A treap whose nodes also count their subtree, so besides inserting and removing it can find
+ * the i-th element and the position of an element in O(log n). The comparator has to be a
+ * total order: two distinct elements must never compare equal.
+ */
+final class RankedTree<T> {
+    private final Comparator<T> comparator;
+    private final RandomXS128 random = new RandomXS128();
+    private Node<T> root;
+
+    RankedTree(Comparator<T> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Replaces the contents with {@code sorted}, which must already be in comparator order.
+     * Builds the tree in O(n) by keeping the right spine on a stack.
+     */
+    void build(List<T> sorted) {
+        ArrayDeque<Node<T>> spine = new ArrayDeque<>();
+        for (T value : sorted) {
+            Node<T> node = new Node<>(value, random.nextInt());
+            Node<T> lastPopped = null;
+            while (!spine.isEmpty() && spine.peek().priority < node.priority) {
+                lastPopped = spine.pop();
+            }
+            node.left = lastPopped;
+            if (!spine.isEmpty()) {
+                spine.peek().right = node;
+            }
+            spine.push(node);
+        }
+        root = spine.isEmpty() ? null : spine.peekLast();
+        updateSizes(root);
+    }
+
+    private static int updateSizes(Node<?> node) {
+        if (node == null) return 0;
+        node.size = 1 + updateSizes(node.left) + updateSizes(node.right);
+        return node.size;
+    }
+
+    void add(T value) {
+        root = insert(root, new Node<>(value, random.nextInt()));
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> inserted) {
+        if (node == null) return inserted;
+
+        if (comparator.compare(inserted.value, node.value) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) node = rotateRight(node);
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) node = rotateLeft(node);
+        }
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    void remove(T value) {
+        root = delete(root, value);
+    }
+
+    private Node<T> delete(Node<T> node, T value) {
+        if (node == null) return null;
+
+        int cmp = comparator.compare(value, node.value);
+        if (cmp < 0) {
+            node.left = delete(node.left, value);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, value);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.size = 1 + size(left.left) + size(left.right);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.size = 1 + size(right.left) + size(right.right);
+        return right;
+    }
+
+    /**
+     * @return the element at the given zero-based position in comparator order
+     */
+    T get(int index) {
+        Node<T> node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    /**
+     * @return the zero-based position of the element, or -1 if it isn't in the tree
+     */
+    int indexOf(T value) {
+        int index = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(value, node.value);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.size = 1 + size(node.left) + size(node.right);
+        left.size = 1 + size(left.left) + size(left.right);
+        return left;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.size = 1 + size(node.left) + size(node.right);
+        right.size = 1 + size(right.left) + size(right.right);
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+        final T value;
+        final int priority;
+        Node<T> left;
+        Node<T> right;
+        int size = 1;
+
+        Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+}
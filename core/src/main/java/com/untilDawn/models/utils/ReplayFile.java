@@ -0,0 +1,61 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.Input;
+import com.untilDawn.models.App;
+
+/**
+ * Binary layout of a recorded session:
+ * <pre>
+ * int    magic "UDRP"
+ * short  format version
+ * long   seed of the session's random source
+ * int    time limit in minutes
+ * UTF    character name
+ * UTF    weapon name
+ * bool   auto reload
+ * byte   action count, then a UTF name per action
+ * one record per simulation step:
+ *   byte flags
+ *   short held action bits        if TICK_HELD
+ *   float x, float y              if TICK_MOUSE, the mouse in world coordinates
+ *   short count, then the events  if TICK_EVENTS
+ * byte   END
+ * </pre>
+ * Events are everything that happened since the previous step, in order: a tag byte followed
+ * by the shot's target, the upgrade's ordinal, the cheat code or the actions that were just
+ * pressed when the frame polled them. Actions are stored by name and mapped to keys through
+ * the current key bindings on replay, so rebinding a key doesn't break old recordings.
+ */
+final class ReplayFile {
+    static final int MAGIC = 0x55445250;
+    static final short VERSION = 1;
+
+    static final int TICK_HELD = 1;
+    static final int TICK_MOUSE = 1 << 1;
+    static final int TICK_EVENTS = 1 << 2;
+    static final byte END = (byte) 0x80;
+
+    static final byte EVENT_FRAME_INPUT = 0;
+    static final byte EVENT_SHOT = 1;
+    static final byte EVENT_UPGRADE = 2;
+    static final byte EVENT_CHEAT = 3;
+
+    static final String[] ACTIONS = {
+        "Move Up", "Move Down", "Move Left", "Move Right", "Reload", "Auto Aim",
+        "Ability 1", "Ability 2", "Ability 3", "Ability 4"
+    };
+
+    private ReplayFile() {
+    }
+
+    /**
+     * @return the key currently bound to an action, or -1 if there is none
+     */
+    static int keycodeOf(String action) {
+        if (action.startsWith("Ability ")) {
+            return Input.Keys.NUM_0 + Integer.parseInt(action.substring("Ability ".length()));
+        }
+        String key = App.getKeybinds().get(action);
+        return key != null ? Input.Keys.valueOf(key) : -1;
+    }
+}
@@ -0,0 +1,168 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.untilDawn.models.App;
+import com.untilDawn.models.Game;
+import com.untilDawn.models.enums.Abilities;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Records what the player did during a session, step by step, so {@link SessionReplay} can
+ * play it back. Only a game that starts from scratch can be recorded: the seed and the inputs
+ * are all a replay has to go on. The log is kept in memory, an idle step costing one byte.
+ */
+public class SessionRecorder {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 * 1024);
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private final ByteArrayOutputStream events = new ByteArrayOutputStream(64);
+    private final DataOutputStream eventOut = new DataOutputStream(events);
+    private final int[] keycodes = new int[ReplayFile.ACTIONS.length];
+
+    private int eventCount = 0;
+    private int held = 0;
+    private float mouseX;
+    private float mouseY;
+    private boolean mouseMoved = false;
+    private int ticks = 0;
+
+    public SessionRecorder(Game game) {
+        for (int i = 0; i < keycodes.length; i++) {
+            keycodes[i] = ReplayFile.keycodeOf(ReplayFile.ACTIONS[i]);
+        }
+
+        try {
+            out.writeInt(ReplayFile.MAGIC);
+            out.writeShort(ReplayFile.VERSION);
+            out.writeLong(game.getSeed());
+            out.writeInt(game.getTimeLimit());
+            out.writeUTF(game.getPlayer().getCharacter().name());
+            out.writeUTF(game.getSelectedWeapon().getWeapon().name());
+            out.writeBoolean(App.isAutoReloadEnabled());
+            out.writeByte(ReplayFile.ACTIONS.length);
+            for (String action : ReplayFile.ACTIONS) {
+                out.writeUTF(action);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Call right before the frame polls its edge-triggered keys.
+     */
+    public void frameInput(GameInput input) {
+        int justPressed = 0;
+        for (int i = 0; i < keycodes.length; i++) {
+            if (keycodes[i] != -1 && input.isKeyJustPressed(keycodes[i])) {
+                justPressed |= 1 << i;
+            }
+        }
+        if (justPressed == 0) return;
+
+        try {
+            eventOut.writeByte(ReplayFile.EVENT_FRAME_INPUT);
+            eventOut.writeShort(justPressed);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        eventCount++;
+    }
+
+    public void mouse(float worldX, float worldY) {
+        if (worldX == mouseX && worldY == mouseY) return;
+        mouseX = worldX;
+        mouseY = worldY;
+        mouseMoved = true;
+    }
+
+    public void shot(int x, int y) {
+        try {
+            eventOut.writeByte(ReplayFile.EVENT_SHOT);
+            eventOut.writeInt(x);
+            eventOut.writeInt(y);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        eventCount++;
+    }
+
+    public void upgrade(Abilities ability) {
+        try {
+            eventOut.writeByte(ReplayFile.EVENT_UPGRADE);
+            eventOut.writeByte(ability.ordinal());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        eventCount++;
+    }
+
+    public void cheat(String code) {
+        try {
+            eventOut.writeByte(ReplayFile.EVENT_CHEAT);
+            eventOut.writeUTF(code);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        eventCount++;
+    }
+
+    /**
+     * Closes the record for one simulation step. Call at the start of the step, after every
+     * event that is to happen before it.
+     */
+    public void tick(GameInput input) {
+        int nowHeld = 0;
+        for (int i = 0; i < keycodes.length; i++) {
+            if (keycodes[i] != -1 && input.isKeyPressed(keycodes[i])) {
+                nowHeld |= 1 << i;
+            }
+        }
+
+        int flags = 0;
+        if (nowHeld != held) flags |= ReplayFile.TICK_HELD;
+        if (mouseMoved) flags |= ReplayFile.TICK_MOUSE;
+        if (eventCount > 0) flags |= ReplayFile.TICK_EVENTS;
+
+        try {
+            out.writeByte(flags);
+            if (nowHeld != held) out.writeShort(nowHeld);
+            if (mouseMoved) {
+                out.writeFloat(mouseX);
+                out.writeFloat(mouseY);
+            }
+            if (eventCount > 0) {
+                out.writeShort(eventCount);
+                events.writeTo(out);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        held = nowHeld;
+        mouseMoved = false;
+        events.reset();
+        eventCount = 0;
+        ticks++;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Writes the log so far. Events after the last step are dropped, they never took effect.
+     */
+    public void save(FileHandle file) {
+        try (DataOutputStream fileOut = new DataOutputStream(file.write(false, 64 * 1024))) {
+            bytes.writeTo(fileOut);
+            fileOut.writeByte(ReplayFile.END);
+            Gdx.app.log("SessionRecorder", "Recorded " + ticks + " steps to " + file.path() + " (" + (bytes.size() + 1) + " bytes)");
+        } catch (Exception e) {
+            Gdx.app.error("SessionRecorder", "Failed to write replay: " + e.getMessage());
+        }
+    }
+}
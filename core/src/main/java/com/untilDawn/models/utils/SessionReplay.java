@@ -0,0 +1,158 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.untilDawn.controllers.GameController;
+import com.untilDawn.models.Game;
+import com.untilDawn.models.Player;
+import com.untilDawn.models.enums.Abilities;
+import com.untilDawn.models.enums.Characters;
+import com.untilDawn.models.enums.Weapons;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Plays back a session written by {@link SessionRecorder}. It stands in for the keyboard of
+ * the replayed game, and {@link #applyTick} hands the controllers everything the player did
+ * before the next step; the caller then runs that step. Nothing waits on the clock, so a
+ * replay runs as fast as the simulation does.
+ */
+public class SessionReplay implements GameInput {
+    private final DataInputStream in;
+    private final long seed;
+    private final int timeLimit;
+    private final Characters character;
+    private final Weapons weapon;
+    private final boolean autoReload;
+    // Bit of each action in the log, by the key it is bound to now
+    private final IntIntMap actionBits = new IntIntMap();
+
+    private int held = 0;
+    private int justPressed = 0;
+    private int nextFlags;
+    private int ticks = 0;
+    private int shotsFired = 0;
+
+    private SessionReplay(byte[] bytes) throws IOException {
+        in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+        if (in.readInt() != ReplayFile.MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        short version = in.readShort();
+        if (version != ReplayFile.VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+
+        seed = in.readLong();
+        timeLimit = in.readInt();
+        character = Characters.valueOf(in.readUTF());
+        weapon = Weapons.valueOf(in.readUTF());
+        autoReload = in.readBoolean();
+
+        int actionCount = in.readUnsignedByte();
+        for (int i = 0; i < actionCount; i++) {
+            int keycode = ReplayFile.keycodeOf(in.readUTF());
+            if (keycode != -1) {
+                actionBits.put(keycode, i);
+            }
+        }
+
+        nextFlags = in.readByte();
+    }
+
+    public static SessionReplay load(FileHandle file) throws IOException {
+        return new SessionReplay(file.readBytes());
+    }
+
+    /**
+     * A fresh game set up the way the recorded one started.
+     */
+    public Game createGame() {
+        Game game = new Game(timeLimit, seed);
+        game.setPlayer(new Player(character));
+        game.setSelectedWeapon(weapon);
+        return game;
+    }
+
+    public boolean hasNextTick() {
+        return nextFlags != ReplayFile.END;
+    }
+
+    /**
+     * Applies the inputs recorded for the next simulation step. The caller then runs the step.
+     */
+    public void applyTick(GameController controller) throws IOException {
+        int flags = nextFlags;
+
+        if ((flags & ReplayFile.TICK_HELD) != 0) {
+            held = in.readUnsignedShort();
+        }
+        if ((flags & ReplayFile.TICK_MOUSE) != 0) {
+            float x = in.readFloat();
+            float y = in.readFloat();
+            controller.getWeaponController().handleWeaponRotation((int) x, (int) y);
+        }
+        if ((flags & ReplayFile.TICK_EVENTS) != 0) {
+            int count = in.readUnsignedShort();
+            for (int i = 0; i < count; i++) {
+                applyEvent(controller);
+            }
+        }
+
+        ticks++;
+        nextFlags = in.readByte();
+    }
+
+    private void applyEvent(GameController controller) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case ReplayFile.EVENT_FRAME_INPUT -> {
+                justPressed = in.readUnsignedShort();
+                controller.getPlayerController().handleFrameInput();
+                justPressed = 0;
+            }
+            case ReplayFile.EVENT_SHOT -> {
+                controller.shoot(in.readInt(), in.readInt());
+                shotsFired++;
+            }
+            case ReplayFile.EVENT_UPGRADE -> controller.applyUpgrade(Abilities.values()[in.readUnsignedByte()]);
+            case ReplayFile.EVENT_CHEAT -> {
+                CheatCodeManager cheats = CheatCodeManager.getInstance();
+                cheats.setGameController(controller);
+                cheats.executeCheatCode(in.readUTF());
+            }
+            default -> throw new IOException("Unknown replay event " + tag);
+        }
+    }
+
+    @Override
+    public boolean isKeyPressed(int keycode) {
+        int bit = actionBits.get(keycode, -1);
+        return bit != -1 && (held & (1 << bit)) != 0;
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int keycode) {
+        int bit = actionBits.get(keycode, -1);
+        return bit != -1 && (justPressed & (1 << bit)) != 0;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isAutoReload() {
+        return autoReload;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public int getShotsFired() {
+        return shotsFired;
+    }
+}
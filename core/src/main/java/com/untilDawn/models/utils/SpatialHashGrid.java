@@ -0,0 +1,113 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid broadphase over the map. Items are bucketed by their center point and
+ * queries are widened by the largest radius inserted since the last clear, so a query
+ * never misses an item whose body overlaps the requested area.
+ * <p>
+ * Buckets are intrusive linked lists stored in flat arrays, so rebuilding the grid every
+ * frame does not allocate once the backing arrays have grown to the working set.
+ */
+public class SpatialHashGrid<T> {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellHeads;
+    private int[] next;
+    private Object[] items;
+    private int size = 0;
+    private float maxRadius = 0f;
+
+    public SpatialHashGrid(float worldWidth, float worldHeight, float cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        this.cellHeads = new int[columns * rows];
+        this.next = new int[INITIAL_CAPACITY];
+        this.items = new Object[INITIAL_CAPACITY];
+        Arrays.fill(cellHeads, -1);
+    }
+
+    public void clear() {
+        Arrays.fill(cellHeads, -1);
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+        maxRadius = 0f;
+    }
+
+    public void insert(T item, float x, float y, float radius) {
+        if (size == items.length) {
+            int newCapacity = items.length * 2;
+            items = Arrays.copyOf(items, newCapacity);
+            next = Arrays.copyOf(next, newCapacity);
+        }
+
+        int cell = rowOf(y) * columns + columnOf(x);
+        items[size] = item;
+        next[size] = cellHeads[cell];
+        cellHeads[cell] = size;
+        size++;
+
+        if (radius > maxRadius) {
+            maxRadius = radius;
+        }
+    }
+
+    /**
+     * Collects every item whose bucket touches the given box, widened by the largest inserted
+     * radius. Results are candidates only; callers still run the exact narrow-phase test.
+     */
+    @SuppressWarnings("unchecked")
+    public void query(float minX, float minY, float maxX, float maxY, Array<T> out) {
+        out.clear();
+        if (size == 0) return;
+
+        int minColumn = columnOf(minX - maxRadius);
+        int maxColumn = columnOf(maxX + maxRadius);
+        int minRow = rowOf(minY - maxRadius);
+        int maxRow = rowOf(maxY + maxRadius);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            int rowOffset = row * columns;
+            for (int column = minColumn; column <= maxColumn; column++) {
+                for (int i = cellHeads[rowOffset + column]; i != -1; i = next[i]) {
+                    out.add((T) items[i]);
+                }
+            }
+        }
+    }
+
+    private int columnOf(float x) {
+        int column = (int) (x / cellSize);
+        if (column < 0) return 0;
+        return Math.min(column, columns - 1);
+    }
+
+    private int rowOf(float y) {
+        int row = (int) (y / cellSize);
+        if (row < 0) return 0;
+        return Math.min(row, rows - 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,434 @@
+package com.untilDawn.models.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.untilDawn.models.User;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Accounts in SQLite, one row per user with a column per field. The connection stays open for
+ * the whole run in WAL mode. Accounts are looked up by name when needed and kept in a small LRU
+ * cache, so neither startup nor memory grows with the number of accounts. Users report their
+ * own changes through {@link #userChanged}, so {@link #save} only touches the accounts changed,
+ * deleted or renamed since the last save, all in one transaction.
+ */
+public class UserRepository {
+    private static final String DATABASE_FILE = "DataBase/users.db";
+    // Users as JSON, as written by older versions
+    private static final String LEGACY_USERS_FILE = "DataBase/users.json";
+    private static final int SCHEMA_VERSION = 2;
+    private static final int CACHE_SIZE = 256;
+    private static final Gson gson = new Gson();
+
+    private static final String SELECT_ALL = """
+        SELECT username, password, security_question, security_answer, avatar_path,
+               is_guest, score, kills, deaths, survival_time
+        FROM users
+        """;
+    private static final String UPSERT = """
+        INSERT INTO users (username, password, security_question, security_answer, avatar_path,
+                           is_guest, score, kills, deaths, survival_time)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT(username) DO UPDATE SET
+            password = excluded.password,
+            security_question = excluded.security_question,
+            security_answer = excluded.security_answer,
+            avatar_path = excluded.avatar_path,
+            is_guest = excluded.is_guest,
+            score = excluded.score,
+            kills = excluded.kills,
+            deaths = excluded.deaths,
+            survival_time = excluded.survival_time
+        """;
+    private static final String DELETE = "DELETE FROM users WHERE username = ?";
+
+    private static UserRepository instance;
+    // Users changed since they were loaded or last saved, shared by every repository
+    private static final Set<User> changedUsers = new LinkedHashSet<>();
+
+    private final String databaseFile;
+    private final Set<String> removedUsernames = new HashSet<>();
+    // Most recently used accounts. A changed user stays until it is saved, so there is never a
+    // second, stale copy of it loaded from the database
+    private final Map<String, User> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, User> eldest) {
+            return size() > CACHE_SIZE && !eldest.getValue().isDirty();
+        }
+    };
+    private Connection connection;
+    private PreparedStatement upsert;
+    private PreparedStatement delete;
+    private PreparedStatement selectOne;
+
+    UserRepository(String databaseFile) {
+        this.databaseFile = databaseFile;
+    }
+
+    public static UserRepository getInstance() {
+        if (instance == null) {
+            instance = new UserRepository(DATABASE_FILE);
+        }
+        return instance;
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection == null) {
+            File parent = new File(databaseFile).getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+
+            connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode = WAL");
+                // With WAL a crash can lose the last commit but never corrupts the database
+                statement.execute("PRAGMA synchronous = NORMAL");
+            }
+            migrate();
+
+            upsert = connection.prepareStatement(UPSERT);
+            delete = connection.prepareStatement(DELETE);
+            selectOne = connection.prepareStatement(SELECT_ALL + " WHERE username = ?");
+        }
+        return connection;
+    }
+
+    private void migrate() throws SQLException {
+        int version;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("PRAGMA user_version")) {
+            version = rs.next() ? rs.getInt(1) : 0;
+        }
+        if (version >= SCHEMA_VERSION) return;
+
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            if (version < 1) {
+                migrateToColumns(statement);
+            }
+            if (version < 2) {
+                // Leaderboard orders, with the username tie-break so a scan returns them ready-sorted
+                statement.execute("CREATE INDEX IF NOT EXISTS users_by_score ON users (score DESC, username)");
+                statement.execute("CREATE INDEX IF NOT EXISTS users_by_kills ON users (kills DESC, username)");
+                statement.execute("CREATE INDEX IF NOT EXISTS users_by_survival_time ON users (survival_time DESC, username)");
+                statement.execute("CREATE INDEX IF NOT EXISTS users_by_name ON users (username COLLATE NOCASE DESC, username)");
+            }
+
+            statement.execute("PRAGMA user_version = " + SCHEMA_VERSION);
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        File legacyFile = new File(LEGACY_USERS_FILE);
+        if (legacyFile.exists() && !legacyFile.renameTo(new File(LEGACY_USERS_FILE + ".migrated"))) {
+            Gdx.app.error("UserRepository", "Couldn't rename " + LEGACY_USERS_FILE + " after migrating it");
+        }
+    }
+
+    // Version 1: a column per field instead of the whole user as JSON
+    private void migrateToColumns(Statement statement) throws SQLException {
+        boolean hasBlobTable = hasColumn("users", "user_data");
+        if (hasBlobTable) {
+            statement.execute("ALTER TABLE users RENAME TO users_legacy");
+        }
+
+        statement.execute("""
+            CREATE TABLE IF NOT EXISTS users (
+                username TEXT PRIMARY KEY,
+                password TEXT,
+                security_question INTEGER NOT NULL DEFAULT 0,
+                security_answer TEXT,
+                avatar_path TEXT,
+                is_guest INTEGER NOT NULL DEFAULT 0,
+                score INTEGER NOT NULL DEFAULT 0,
+                kills INTEGER NOT NULL DEFAULT 0,
+                deaths INTEGER NOT NULL DEFAULT 0,
+                survival_time REAL NOT NULL DEFAULT 0
+            )
+            """);
+
+        try (PreparedStatement insert = connection.prepareStatement(UPSERT)) {
+            if (hasBlobTable) {
+                try (ResultSet rs = statement.executeQuery("SELECT user_data FROM users_legacy")) {
+                    while (rs.next()) {
+                        User user = gson.fromJson(rs.getString(1), User.class);
+                        if (user != null && user.getUsername() != null) {
+                            bind(insert, user);
+                            insert.addBatch();
+                        }
+                    }
+                }
+                insert.executeBatch();
+                statement.execute("DROP TABLE users_legacy");
+            }
+
+            // The JSON file was what the game actually read, so it wins over the old table
+            for (User user : readLegacyUsersFile().values()) {
+                bind(insert, user);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private boolean hasColumn(String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equals(rs.getString("name"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Map<String, User> readLegacyUsersFile() {
+        File file = new File(LEGACY_USERS_FILE);
+        if (!file.exists()) {
+            return new HashMap<>();
+        }
+
+        try (FileReader reader = new FileReader(file)) {
+            Type userMapType = new TypeToken<Map<String, User>>() {
+            }.getType();
+            Map<String, User> users = gson.fromJson(reader, userMapType);
+            if (users == null) {
+                return new HashMap<>();
+            }
+            users.values().removeIf(user -> user == null || user.getUsername() == null);
+            return users;
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("UserRepository", "Couldn't read " + LEGACY_USERS_FILE + ": " + e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Stats of every non-guest user, best first by the given stat, read through its index.
+     */
+    public List<Leaderboard.Entry> loadRanking(Leaderboard.Stat stat) {
+        String order = switch (stat) {
+            case SCORE -> "score DESC, username";
+            case USERNAME -> "username COLLATE NOCASE DESC, username";
+            case KILLS -> "kills DESC, username";
+            case SURVIVAL_TIME -> "survival_time DESC, username";
+        };
+
+        List<Leaderboard.Entry> ranking = new ArrayList<>();
+        try (Statement statement = getConnection().createStatement();
+             ResultSet rs = statement.executeQuery(
+                 "SELECT username, score, kills, survival_time FROM users WHERE is_guest = 0 ORDER BY " + order)) {
+            while (rs.next()) {
+                ranking.add(new Leaderboard.Entry(rs.getString(1), rs.getInt(2), rs.getInt(3), rs.getFloat(4)));
+            }
+        } catch (SQLException e) {
+            Gdx.app.error("UserRepository", "Failed to load the leaderboard: " + e.getMessage());
+        }
+        return ranking;
+    }
+
+    /**
+     * Looks the account up in the cache, then in the database.
+     *
+     * @return the user, or {@code null} if there is no such account
+     */
+    public User find(String username) {
+        if (username == null || removedUsernames.contains(username)) return null;
+
+        User user = cache.get(username);
+        if (user != null) return user;
+
+        try {
+            getConnection();
+            selectOne.setString(1, username);
+            try (ResultSet rs = selectOne.executeQuery()) {
+                if (rs.next()) {
+                    user = read(rs);
+                    cache.put(username, user);
+                }
+            }
+        } catch (SQLException e) {
+            Gdx.app.error("UserRepository", "Failed to load user " + username + ": " + e.getMessage());
+        }
+        return user;
+    }
+
+    /**
+     * Every account, for the rare screens that really need all of them. Cached users are returned
+     * as they are; the rest are fresh copies that aren't tracked, so changing them saves nothing.
+     */
+    public Map<String, User> loadAll() {
+        Map<String, User> users = new HashMap<>();
+        try (Statement statement = getConnection().createStatement();
+             ResultSet rs = statement.executeQuery(SELECT_ALL)) {
+            while (rs.next()) {
+                String username = rs.getString("username");
+                if (removedUsernames.contains(username)) continue;
+
+                User cached = cache.get(username);
+                users.put(username, cached != null ? cached : read(rs));
+            }
+        } catch (SQLException e) {
+            Gdx.app.error("UserRepository", "Failed to load users: " + e.getMessage());
+        }
+
+        // Accounts created since the last save aren't in the database yet
+        for (User user : cache.values()) {
+            users.putIfAbsent(user.getUsername(), user);
+        }
+        return users;
+    }
+
+    public static void userChanged(User user) {
+        changedUsers.add(user);
+    }
+
+    /**
+     * Registers a new account; it is written on the next {@link #save}.
+     */
+    public void add(User user) {
+        removedUsernames.remove(user.getUsername());
+        cache.put(user.getUsername(), user);
+    }
+
+    /**
+     * Forgets an account; it is deleted on the next {@link #save}.
+     */
+    public void remove(String username) {
+        cache.remove(username);
+        removedUsernames.add(username);
+    }
+
+    public void rename(User user, String newUsername) {
+        remove(user.getUsername());
+        user.setUsername(newUsername);
+        add(user);
+    }
+
+    /**
+     * Writes the registered users that changed and applies pending removals. Changed users that
+     * were never registered, like guests, are dropped.
+     */
+    public boolean save() {
+        List<User> written = new ArrayList<>();
+        try {
+            Connection conn = getConnection();
+            conn.setAutoCommit(false);
+            try {
+                for (User user : changedUsers) {
+                    if (cache.get(user.getUsername()) != user) continue;
+
+                    bind(upsert, user);
+                    upsert.addBatch();
+                    written.add(user);
+                }
+                for (String username : removedUsernames) {
+                    delete.setString(1, username);
+                    delete.addBatch();
+                }
+
+                if (!written.isEmpty()) upsert.executeBatch();
+                if (!removedUsernames.isEmpty()) delete.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                upsert.clearBatch();
+                delete.clearBatch();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            Gdx.app.error("UserRepository", "Failed to save users: " + e.getMessage());
+            return false;
+        }
+
+        removedUsernames.clear();
+        for (User user : changedUsers) {
+            user.markClean();
+        }
+        changedUsers.clear();
+        trimCache();
+        return true;
+    }
+
+    // Changed users are never evicted, so the cache can run over its size until they are saved
+    private void trimCache() {
+        Iterator<User> users = cache.values().iterator();
+        while (cache.size() > CACHE_SIZE && users.hasNext()) {
+            if (!users.next().isDirty()) {
+                users.remove();
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement statement, User user) throws SQLException {
+        statement.setString(1, user.getUsername());
+        statement.setString(2, user.getPassword());
+        statement.setInt(3, user.getSecurityQuestionIndex());
+        statement.setString(4, user.getSecurityAnswer());
+        statement.setString(5, user.getAvatarPath());
+        statement.setInt(6, user.isGuest() ? 1 : 0);
+        statement.setInt(7, user.getScore());
+        statement.setInt(8, user.getKills());
+        statement.setInt(9, user.getDeaths());
+        statement.setFloat(10, user.getSurvivalTime());
+    }
+
+    private static User read(ResultSet rs) throws SQLException {
+        User user = new User(rs.getString("username"), rs.getString("password"), rs.getString("avatar_path"));
+        user.setSecurityQuestionIndex(rs.getInt("security_question"));
+        user.setSecurityAnswer(rs.getString("security_answer"));
+        user.setGuest(rs.getInt("is_guest") != 0);
+        user.setScore(rs.getInt("score"));
+        user.setKills(rs.getInt("kills"));
+        user.setDeaths(rs.getInt("deaths"));
+        user.setSurvivalTime(rs.getFloat("survival_time"));
+        user.markClean();
+        changedUsers.remove(user);
+        return user;
+    }
+
+    public void close() {
+        if (connection == null) return;
+
+        try {
+            upsert.close();
+            delete.close();
+            selectOne.close();
+            connection.close();
+        } catch (SQLException e) {
+            Gdx.app.error("UserRepository", "Failed to close the user database: " + e.getMessage());
+        }
+        connection = null;
+        if (instance == this) {
+            instance = null;
+        }
+    }
+}
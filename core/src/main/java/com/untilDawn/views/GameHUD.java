@@ -2,12 +2,15 @@ package com.untilDawn.views;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
 import com.untilDawn.Main;
 import com.untilDawn.controllers.GameController;
 import com.untilDawn.models.ElderBoss;
@@ -15,22 +18,33 @@ import com.untilDawn.models.LevelBar;
 import com.untilDawn.models.Player;
 import com.untilDawn.models.enums.Abilities;
 import com.untilDawn.models.utils.GameAssetManager;
+import com.untilDawn.models.utils.HudText;
 
 public class GameHUD {
     private static final float LEVEL_BAR_HEIGHT = 30f;
     private static final float ABILITY_ICON_SIZE = 32f;
     private static final float ABILITY_BAR_HEIGHT = 50f;
+    private static final Abilities[] ACTIVE_ABILITIES = {Abilities.DAMAGER, Abilities.SPEEDY, Abilities.SHIELD, Abilities.MULTISHOT};
+    private static final Color ABILITY_ACTIVE_COLOR = new Color(0.2f, 0.8f, 0.2f, 0.8f);
+    private static final Color ABILITY_COOLDOWN_COLOR = new Color(0.8f, 0.2f, 0.2f, 0.6f);
+    private static final Color ABILITY_READY_COLOR = new Color(0.5f, 0.5f, 0.5f, 0.6f);
 
     private GameController gameController;
     private OrthographicCamera camera;
-    private Texture reloadBarBg;
-    private Texture reloadBarFill;
+    private TextureRegion reloadBarBg;
+    private TextureRegion reloadBarFill;
     private LevelBar levelBar;
     private BitmapFont font;
     private BitmapFont smallFont;
+    private ShapeRenderer barrierRenderer;
+    private final Matrix4 hudProjection = new Matrix4();
+    private HudText timerText;
+    private HudText ammoText;
+    private HudText killText;
+    private final HudText[] abilityTexts = new HudText[ACTIVE_ABILITIES.length];
     private float screenWidth;
     private float screenHeight;
-    private Animation<Texture> heartAnimation;
+    private Animation<TextureRegion> heartAnimation;
     private float animationTime = 0f;
 
     // hey
@@ -55,12 +69,21 @@ public class GameHUD {
         smallFont = new BitmapFont();
         smallFont.getData().setScale(0.8f);
 
+        barrierRenderer = new ShapeRenderer();
+
         ammoFont = new BitmapFont();
         ammoFont.getData().setScale(1.5f);
 
         zombieKillFont = new BitmapFont();
         zombieKillFont.getData().setScale(1.5f);
 
+        timerText = new HudText(GameAssetManager.getGameAssetManager().getChevyRayFont());
+        ammoText = new HudText(ammoFont);
+        killText = new HudText(zombieKillFont);
+        for (int i = 0; i < abilityTexts.length; i++) {
+            abilityTexts[i] = new HudText(smallFont);
+        }
+
         BitmapFont levelBarFont = GameAssetManager.getGameAssetManager().getChevyRayFont();
         levelBar = new LevelBar(levelBarFont, screenWidth, LEVEL_BAR_HEIGHT);
         heartAnimation = GameAssetManager.getGameAssetManager().getHeartAnimation();
@@ -71,7 +94,10 @@ public class GameHUD {
         animationTime += Gdx.graphics.getDeltaTime();
 
         batch.setProjectionMatrix(batch.getProjectionMatrix());
-        batch.setProjectionMatrix(camera.combined.cpy().setToOrtho2D(0, 0, screenWidth, screenHeight));
+        // Outside the batch, and before it so the HUD stays on top
+        drawBarrierLine();
+
+        batch.setProjectionMatrix(hudProjection.setToOrtho2D(0, 0, screenWidth, screenHeight));
         batch.begin();
 
         Player player = gameController.getPlayerController().getPlayer();
@@ -82,8 +108,6 @@ public class GameHUD {
         drawGameTimer(batch);
         drawAbilityStatus(batch);
 
-        drawBarrierLine();
-
         batch.end();
         renderHealthAndAmmoUI();
 
@@ -98,12 +122,13 @@ public class GameHUD {
             ElderBoss.ElectricBarrier barrier = elderBoss.getBarrier();
 
             if (barrier != null) {
-                ShapeRenderer shapeRenderer = new ShapeRenderer();
-
-                shapeRenderer.setProjectionMatrix(camera.combined);
-                shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+                Gdx.gl.glEnable(GL20.GL_BLEND);
+                Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                barrierRenderer.setProjectionMatrix(camera.combined);
+                barrierRenderer.begin(ShapeRenderer.ShapeType.Line);
 
-                shapeRenderer.setColor(1.0f, 0.2f, 0.2f, 0.8f);
+                // Flickers with the barrier's electric pulse
+                barrierRenderer.setColor(1.0f, 0.2f, 0.2f, 0.6f + 0.3f * barrier.getElectricIntensity());
 
                 float mapWidth = gameController.getMapWidth();
                 float mapHeight = gameController.getMapHeight();
@@ -130,7 +155,7 @@ public class GameHUD {
                     float visibleTop = Math.min(barrierTop, camTop);
                     float visibleBottom = Math.max(barrierBottom, camBottom);
                     if (visibleTop > visibleBottom) {
-                        shapeRenderer.rectLine(barrierLeft, visibleBottom, barrierLeft, visibleTop, thickness);
+                        barrierRenderer.rectLine(barrierLeft, visibleBottom, barrierLeft, visibleTop, thickness);
                     }
                 }
 
@@ -138,7 +163,7 @@ public class GameHUD {
                     float visibleTop = Math.min(barrierTop, camTop);
                     float visibleBottom = Math.max(barrierBottom, camBottom);
                     if (visibleTop > visibleBottom) {
-                        shapeRenderer.rectLine(barrierRight, visibleBottom, barrierRight, visibleTop, thickness);
+                        barrierRenderer.rectLine(barrierRight, visibleBottom, barrierRight, visibleTop, thickness);
                     }
                 }
 
@@ -146,7 +171,7 @@ public class GameHUD {
                     float visibleLeft = Math.max(barrierLeft, camLeft);
                     float visibleRight = Math.min(barrierRight, camRight);
                     if (visibleRight > visibleLeft) {
-                        shapeRenderer.rectLine(visibleLeft, barrierBottom, visibleRight, barrierBottom, thickness);
+                        barrierRenderer.rectLine(visibleLeft, barrierBottom, visibleRight, barrierBottom, thickness);
                     }
                 }
 
@@ -154,7 +179,7 @@ public class GameHUD {
                     float visibleLeft = Math.max(barrierLeft, camLeft);
                     float visibleRight = Math.min(barrierRight, camRight);
                     if (visibleRight > visibleLeft) {
-                        shapeRenderer.rectLine(visibleLeft, barrierTop, visibleRight, barrierTop, thickness);
+                        barrierRenderer.rectLine(visibleLeft, barrierTop, visibleRight, barrierTop, thickness);
                     }
                 }
 
@@ -162,30 +187,30 @@ public class GameHUD {
 
                 if (barrierLeft >= camLeft - cornerSize && barrierLeft <= camRight + cornerSize &&
                     barrierTop >= camBottom - cornerSize && barrierTop <= camTop + cornerSize) {
-                    shapeRenderer.rectLine(barrierLeft - cornerSize, barrierTop, barrierLeft + cornerSize, barrierTop, thickness);
-                    shapeRenderer.rectLine(barrierLeft, barrierTop - cornerSize, barrierLeft, barrierTop + cornerSize, thickness);
+                    barrierRenderer.rectLine(barrierLeft - cornerSize, barrierTop, barrierLeft + cornerSize, barrierTop, thickness);
+                    barrierRenderer.rectLine(barrierLeft, barrierTop - cornerSize, barrierLeft, barrierTop + cornerSize, thickness);
                 }
 
                 if (barrierRight >= camLeft - cornerSize && barrierRight <= camRight + cornerSize &&
                     barrierTop >= camBottom - cornerSize && barrierTop <= camTop + cornerSize) {
-                    shapeRenderer.rectLine(barrierRight - cornerSize, barrierTop, barrierRight + cornerSize, barrierTop, thickness);
-                    shapeRenderer.rectLine(barrierRight, barrierTop - cornerSize, barrierRight, barrierTop + cornerSize, thickness);
+                    barrierRenderer.rectLine(barrierRight - cornerSize, barrierTop, barrierRight + cornerSize, barrierTop, thickness);
+                    barrierRenderer.rectLine(barrierRight, barrierTop - cornerSize, barrierRight, barrierTop + cornerSize, thickness);
                 }
 
                 if (barrierLeft >= camLeft - cornerSize && barrierLeft <= camRight + cornerSize &&
                     barrierBottom >= camBottom - cornerSize && barrierBottom <= camTop + cornerSize) {
-                    shapeRenderer.rectLine(barrierLeft - cornerSize, barrierBottom, barrierLeft + cornerSize, barrierBottom, thickness);
-                    shapeRenderer.rectLine(barrierLeft, barrierBottom - cornerSize, barrierLeft, barrierBottom + cornerSize, thickness);
+                    barrierRenderer.rectLine(barrierLeft - cornerSize, barrierBottom, barrierLeft + cornerSize, barrierBottom, thickness);
+                    barrierRenderer.rectLine(barrierLeft, barrierBottom - cornerSize, barrierLeft, barrierBottom + cornerSize, thickness);
                 }
 
                 if (barrierRight >= camLeft - cornerSize && barrierRight <= camRight + cornerSize &&
                     barrierBottom >= camBottom - cornerSize && barrierBottom <= camTop + cornerSize) {
-                    shapeRenderer.rectLine(barrierRight - cornerSize, barrierBottom, barrierRight + cornerSize, barrierBottom, thickness);
-                    shapeRenderer.rectLine(barrierRight, barrierBottom - cornerSize, barrierRight, barrierBottom + cornerSize, thickness);
+                    barrierRenderer.rectLine(barrierRight - cornerSize, barrierBottom, barrierRight + cornerSize, barrierBottom, thickness);
+                    barrierRenderer.rectLine(barrierRight, barrierBottom - cornerSize, barrierRight, barrierBottom + cornerSize, thickness);
                 }
 
-                shapeRenderer.end();
-                shapeRenderer.dispose();
+                barrierRenderer.end();
+                Gdx.gl.glDisable(GL20.GL_BLEND);
             }
         }
     }
@@ -197,23 +222,13 @@ public class GameHUD {
 
         float remainingTime = Math.max(0, (timeLimit * 60) - gameTime);
 
-        int minutes = (int) (remainingTime / 60);
-        int seconds = (int) (remainingTime % 60);
-
-        String timeText = String.format("%02d:%02d", minutes, seconds);
-
         float x = screenWidth - 100;
         float y = screenHeight - 30;
-        BitmapFont chevyFont = GameAssetManager.getGameAssetManager().getChevyRayFont();
-        float bigScale = 2.5f;
-        chevyFont.setColor(Color.WHITE);
-        chevyFont.draw(batch, timeText, x, y);
-
-        float surviveY = y - 40;
+        timerText.setClock((int) remainingTime, Color.WHITE);
+        timerText.draw(batch, x, y);
 
         if (remainingTime <= 10 && remainingTime > 0) {
-            float pulse = 1.0f + 0.3f * (float) Math.sin(animationTime * 8);
-            chevyFont.draw(batch, timeText, x, y);
+            timerText.draw(batch, x, y);
         }
     }
 
@@ -230,7 +245,7 @@ public class GameHUD {
             float heartX = startX + i * heartSpacing;
             float heartY = startY;
 
-            Texture heartFrame = heartAnimation.getKeyFrame(animationTime, true);
+            TextureRegion heartFrame = heartAnimation.getKeyFrame(animationTime, true);
 
             if (i < currentHealth) {
                 batch.setColor(Color.WHITE);
@@ -248,27 +263,23 @@ public class GameHUD {
         float startX = 20f;
         float startY = screenHeight - 120f;
         float iconSpacing = ABILITY_ICON_SIZE + 10f;
-        int iconIndex = 0;
-
-        Abilities[] activeAbilities = {Abilities.DAMAGER, Abilities.SPEEDY, Abilities.SHIELD, Abilities.MULTISHOT};
 
-        for (Abilities ability : activeAbilities) {
-            float iconX = startX + iconIndex * iconSpacing;
+        for (int i = 0; i < ACTIVE_ABILITIES.length; i++) {
+            float iconX = startX + i * iconSpacing;
 
-            drawAbilityIcon(batch, ability, iconX, startY);
-            iconIndex++;
+            drawAbilityIcon(batch, ACTIVE_ABILITIES[i], abilityTexts[i], iconX, startY);
         }
     }
 
 
-    private void drawAbilityIcon(SpriteBatch batch, Abilities ability, float x, float y) {
+    private void drawAbilityIcon(SpriteBatch batch, Abilities ability, HudText timeText, float x, float y) {
         Color bgColor;
         if (ability.isActive()) {
-            bgColor = new Color(0.2f, 0.8f, 0.2f, 0.8f);
+            bgColor = ABILITY_ACTIVE_COLOR;
         } else if (ability.getRemainingCooldown() > 0) {
-            bgColor = new Color(0.8f, 0.2f, 0.2f, 0.6f);
+            bgColor = ABILITY_COOLDOWN_COLOR;
         } else {
-            bgColor = new Color(0.5f, 0.5f, 0.5f, 0.6f);
+            bgColor = ABILITY_READY_COLOR;
         }
 
         batch.setColor(bgColor);
@@ -289,13 +300,9 @@ public class GameHUD {
             drawAbilityProgressBar(batch, x, y - 8, ABILITY_ICON_SIZE, 4, ability.getCooldownProgress(), Color.RED);
         }
         if (ability.isActive()) {
-            smallFont.setColor(Color.WHITE);
-            String timeText = String.format("%.1f", ability.getRemainingDuration());
-            smallFont.draw(batch, timeText, x, y - 12);
+            timeText.setTenths(ability.getRemainingDuration(), Color.WHITE).draw(batch, x, y - 12);
         } else if (ability.getRemainingCooldown() > 0) {
-            smallFont.setColor(Color.ORANGE);
-            String timeText = String.format("%.1f", ability.getRemainingCooldown());
-            smallFont.draw(batch, timeText, x, y - 12);
+            timeText.setTenths(ability.getRemainingCooldown(), Color.ORANGE).draw(batch, x, y - 12);
         }
 
         batch.setColor(Color.WHITE);
@@ -333,33 +340,29 @@ public class GameHUD {
         float zombieKillTextY = zombieKillY + 40;
 
 
-        Texture ammoIcon = GameAssetManager.getGameAssetManager().getAmmoIcon();
+        TextureRegion ammoIcon = GameAssetManager.getGameAssetManager().getAmmoIcon();
         if (ammoIcon != null) {
             float ammoScale = 2.0f;
-            float ammoWidth = ammoIcon.getWidth() * ammoScale;
-            float ammoHeight = ammoIcon.getHeight() * ammoScale;
+            float ammoWidth = ammoIcon.getRegionWidth() * ammoScale;
+            float ammoHeight = ammoIcon.getRegionHeight() * ammoScale;
 
             Main.getBatch().draw(ammoIcon, ammoIconX, ammoIconY, ammoWidth, ammoHeight);
         }
 
         if (ammoFont != null) {
-            String ammoText = String.format("%03d/%03d", currentAmmo, maxAmmo);
-            ammoFont.setColor(1.0f, 1.0f, 1.0f, 1.0f);
-            ammoFont.draw(Main.getBatch(), ammoText, ammoTextX, ammoTextY);
+            ammoText.setRatio(currentAmmo, maxAmmo, 3, Color.WHITE).draw(Main.getBatch(), ammoTextX, ammoTextY);
         }
 
-        Texture zombieKill = GameAssetManager.getGameAssetManager().getZombieSkull();
+        TextureRegion zombieKill = GameAssetManager.getGameAssetManager().getZombieSkull();
         if (zombieKill != null) {
             float zombieScale = 4.5f;
-            float zombieWidth = zombieKill.getWidth() * zombieScale;
-            float zombieHeight = zombieKill.getHeight() * zombieScale;
+            float zombieWidth = zombieKill.getRegionWidth() * zombieScale;
+            float zombieHeight = zombieKill.getRegionHeight() * zombieScale;
 
             Main.getBatch().draw(zombieKill, zombieKillX, zombieKillY, zombieWidth, zombieHeight);
         }
         if (zombieKillFont != null) {
-            String zombieText = String.valueOf(killCount);
-            zombieKillFont.setColor(1.0f, 1.0f, 1.0f, 1.0f); // White color
-            zombieKillFont.draw(Main.getBatch(), zombieText, zombieKillTextX, zombieKillTextY);
+            killText.setValue("", killCount, Color.WHITE).draw(Main.getBatch(), zombieKillTextX, zombieKillTextY);
         }
 
 
@@ -386,14 +389,9 @@ public class GameHUD {
     }
 
     public void dispose() {
-        if (reloadBarBg != null) {
-            reloadBarBg.dispose();
-            reloadBarBg = null;
-        }
-        if (reloadBarFill != null) {
-            reloadBarFill.dispose();
-            reloadBarFill = null;
-        }
+        // The reload bar textures belong to the asset manager
+        reloadBarBg = null;
+        reloadBarFill = null;
         if (levelBar != null) {
             levelBar.dispose();
         }
@@ -403,5 +401,8 @@ public class GameHUD {
         if (smallFont != null) {
             smallFont.dispose();
         }
+        if (barrierRenderer != null) {
+            barrierRenderer.dispose();
+        }
     }
 }
@@ -0,0 +1,105 @@
+package com.untilDawn.views;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.untilDawn.Main;
+import com.untilDawn.models.utils.GameAssetManager;
+import com.untilDawn.models.utils.UIHelper;
+
+/**
+ * First screen after launch. Feeds the boot asset group to the asset manager a slice at a time
+ * so the window stays responsive, draws a progress bar meanwhile and switches to the
+ * {@link StartMenu} once everything it needs is resident.
+ */
+public class LoadingScreen implements Screen {
+    // Long enough to keep the loader busy, short enough that the bar still animates
+    private static final int LOAD_MILLIS_PER_FRAME = 33;
+    private static final float BAR_WIDTH = 500f;
+    private static final float BAR_HEIGHT = 24f;
+    private static final Color BAR_BACKGROUND = Color.valueOf("1d0f20");
+    private static final Color BAR_FILL = Color.SALMON;
+
+    private final long launchTime;
+    private ShapeRenderer shapeRenderer;
+    private boolean firstFrameLogged = false;
+    private float displayedProgress = 0f;
+
+    /**
+     * @param launchTime {@link TimeUtils#millis()} at application start, for the startup timings
+     */
+    public LoadingScreen(long launchTime) {
+        this.launchTime = launchTime;
+    }
+
+    @Override
+    public void show() {
+        shapeRenderer = new ShapeRenderer();
+    }
+
+    @Override
+    public void render(float delta) {
+        if (!firstFrameLogged) {
+            Gdx.app.log("LoadingScreen", "First frame after " + TimeUtils.timeSinceMillis(launchTime) + " ms");
+            firstFrameLogged = true;
+        }
+
+        GameAssetManager gameAssetManager = GameAssetManager.getGameAssetManager();
+        boolean done = gameAssetManager.update(LOAD_MILLIS_PER_FRAME);
+
+        // Assets finish in uneven chunks; ease towards the real value so the bar doesn't jump
+        displayedProgress += (gameAssetManager.getProgress() - displayedProgress) * Math.min(1f, delta * 10f);
+
+        UIHelper.clearScreenWithBackgroundColor();
+        drawProgressBar(done ? 1f : displayedProgress);
+
+        if (done) {
+            StartMenu startMenu = new StartMenu(gameAssetManager.getSkin());
+            Main.getMain().setScreen(startMenu);
+            Gdx.app.log("LoadingScreen", "Start menu interactive after " + TimeUtils.timeSinceMillis(launchTime) + " ms");
+        }
+    }
+
+    private void drawProgressBar(float progress) {
+        float x = (Gdx.graphics.getWidth() - BAR_WIDTH) / 2f;
+        float y = (Gdx.graphics.getHeight() - BAR_HEIGHT) / 2f;
+
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(BAR_BACKGROUND);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(BAR_FILL);
+        shapeRenderer.rect(x, y, BAR_WIDTH * progress, BAR_HEIGHT);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        if (shapeRenderer != null) {
+            shapeRenderer.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+            shapeRenderer.updateMatrices();
+        }
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+        dispose();
+    }
+
+    @Override
+    public void dispose() {
+        if (shapeRenderer != null) {
+            shapeRenderer.dispose();
+            shapeRenderer = null;
+        }
+    }
+}
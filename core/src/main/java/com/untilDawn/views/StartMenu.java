@@ -20,6 +20,7 @@ import com.untilDawn.Main;
 import com.untilDawn.controllers.StartMenuController;
 import com.untilDawn.models.App;
 import com.untilDawn.models.enums.Language;
+import com.untilDawn.models.utils.AssetGroup;
 import com.untilDawn.models.utils.GameAssetManager;
 import com.untilDawn.models.utils.UIHelper;
 
@@ -59,8 +60,10 @@ public class StartMenu implements Screen {
         this.quitButton = new TextButton(Language.Quit.getText(), boldButtonStyle);
         this.languageButton = new TextButton(Language.Language.getText(), boldButtonStyle);
 
-        // Rest of your constructor code...
-        this.logoTexture = new Texture(Gdx.files.internal("Images/logo.png"));
+        // Released in hide(); a new start menu picks the group up before this one lets go of it
+        GameAssetManager.getGameAssetManager().finishLoadingGroup(AssetGroup.START_MENU);
+
+        this.logoTexture = GameAssetManager.getGameAssetManager().getTexture("Images/logo.png");
         this.logoImage = new Image(logoTexture);
 
         this.table = new Table();
@@ -73,9 +76,9 @@ public class StartMenu implements Screen {
     }
 
     private void createEyeBlinkAnimation() {
-        eyeBlink1 = new Texture(Gdx.files.internal("Images/EyeBlink/EyeBlink_0.png"));
-        eyeBlink2 = new Texture(Gdx.files.internal("Images/EyeBlink/EyeBlink_1.png"));
-        eyeBlink3 = new Texture(Gdx.files.internal("Images/EyeBlink/EyeBlink_2.png"));
+        eyeBlink1 = GameAssetManager.getGameAssetManager().getTexture("Images/EyeBlink/EyeBlink_0.png");
+        eyeBlink2 = GameAssetManager.getGameAssetManager().getTexture("Images/EyeBlink/EyeBlink_1.png");
+        eyeBlink3 = GameAssetManager.getGameAssetManager().getTexture("Images/EyeBlink/EyeBlink_2.png");
 
         Array<TextureRegion> eyeFrames = new Array<>();
         eyeFrames.add(new TextureRegion(eyeBlink1));
@@ -224,6 +227,7 @@ public class StartMenu implements Screen {
 
     @Override
     public void hide() {
+        GameAssetManager.getGameAssetManager().unloadGroup(AssetGroup.START_MENU);
     }
 
     @Override
@@ -231,16 +235,6 @@ public class StartMenu implements Screen {
         if (stage != null) {
             stage.dispose();
         }
-
-        // Dispose logo texture
-        if (logoTexture != null) {
-            logoTexture.dispose();
-        }
-
-        // Dispose the eye blink textures
-        if (eyeBlink1 != null) eyeBlink1.dispose();
-        if (eyeBlink2 != null) eyeBlink2.dispose();
-        if (eyeBlink3 != null) eyeBlink3.dispose();
     }
 
     public TextButton getStartButton() {
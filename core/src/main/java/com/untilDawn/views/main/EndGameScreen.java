@@ -20,6 +20,7 @@ import com.untilDawn.Main;
 import com.untilDawn.models.App;
 import com.untilDawn.models.User;
 import com.untilDawn.models.utils.GameAssetManager;
+import com.untilDawn.models.utils.Leaderboard;
 
 public class EndGameScreen implements Screen {
     // Constants
@@ -54,8 +55,8 @@ public class EndGameScreen implements Screen {
     // Progress bar
     private float progressBarWidth = 600f;
     private float progressBarHeight = 8f;
-    private Texture progressBarBg;
-    private Texture progressBarFill;
+    private TextureRegion progressBarBg;
+    private TextureRegion progressBarFill;
 
     public EndGameScreen(Skin skin, User user, float survivalTime, int kills, EndGameStatus status) {
         this.skin = skin;
@@ -76,6 +77,7 @@ public class EndGameScreen implements Screen {
     private void updateUserStats() {
         if (user != null && !user.isGuest()) {
             user.setScore(user.getScore() + score);
+            Leaderboard.getInstance().update(user);
             App.save();
         }
     }
@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -14,6 +13,9 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.untilDawn.Main;
 import com.untilDawn.controllers.GameController;
 import com.untilDawn.models.App;
+import com.untilDawn.models.utils.AssetGroup;
+import com.untilDawn.models.utils.AutoSaver;
+import com.untilDawn.models.utils.FrameProfiler;
 import com.untilDawn.models.utils.GameAssetManager;
 import com.untilDawn.models.utils.GrayscaleShader;
 import com.untilDawn.models.utils.LightingManager;
@@ -24,6 +26,9 @@ import com.untilDawn.views.window.PauseMenuWindow;
 import java.util.Map;
 
 public class GameView implements Screen, InputProcessor {
+    // New games are always recorded; the last one can be replayed with the headless launcher
+    private static final String LAST_REPLAY = "Replays/last.replay";
+
     private Stage stage;
     private GameController controller;
     private OrthographicCamera camera;
@@ -31,8 +36,9 @@ public class GameView implements Screen, InputProcessor {
     private GameHUD gameHUD;
     private LightingManager lightingManager;
     private GrayscaleShader grayscaleShader;
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
 
-    private Texture mapTexture;
+    private final Vector3 worldCoords = new Vector3();
     private float mapWidth;
     private float mapHeight;
 
@@ -50,6 +56,9 @@ public class GameView implements Screen, InputProcessor {
         camera = new OrthographicCamera();
         camera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
+        // Usually already loaded in the background by the pre-game menu
+        GameAssetManager.getGameAssetManager().finishLoadingGroup(AssetGroup.GAME);
+
         this.controller = new GameController(this);
 
         if (App.getGame() != null && App.getGame().getGameTime() > 0) {
@@ -64,14 +73,14 @@ public class GameView implements Screen, InputProcessor {
                 controller.getMapHeight() / 2,
                 0
             );
+            controller.startRecording();
         }
 
         camera.update();
         viewport = new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), camera);
 
-        this.mapTexture = new Texture("Images/map.png");
-        this.mapWidth = mapTexture.getWidth();
-        this.mapHeight = mapTexture.getHeight();
+        this.mapWidth = GameAssetManager.getGameAssetManager().getMapWidth();
+        this.mapHeight = GameAssetManager.getGameAssetManager().getMapHeight();
 
         this.stage = new Stage(viewport);
 
@@ -89,6 +98,7 @@ public class GameView implements Screen, InputProcessor {
 
     @Override
     public void render(float delta) {
+        profiler.beginFrame(Main.getBatch());
         ScreenUtils.clear(0, 0, 0, 1);
 
         if (controller.getPlayerController().getPlayer().shouldShowLevelUpWindow() && !gameIsPaused) {
@@ -96,11 +106,13 @@ public class GameView implements Screen, InputProcessor {
         }
 
         if (!gameIsPaused) {
+            controller.update(delta);
+
             float camHalfWidth = camera.viewportWidth / 2;
             float camHalfHeight = camera.viewportHeight / 2;
 
-            float playerX = controller.getPlayerController().getPlayer().getPosX();
-            float playerY = controller.getPlayerController().getPlayer().getPosY();
+            float playerX = controller.getPlayerController().getRenderX();
+            float playerY = controller.getPlayerController().getRenderY();
 
             float clampedX = MathUtils.clamp(playerX, camHalfWidth, mapWidth - camHalfWidth);
             float clampedY = MathUtils.clamp(playerY, camHalfHeight, mapHeight - camHalfHeight);
@@ -115,21 +127,33 @@ public class GameView implements Screen, InputProcessor {
             Main.getBatch().setProjectionMatrix(camera.combined);
             Main.getBatch().begin();
 
-            controller.updateGame();
+            controller.render();
 
+            profiler.begin(FrameProfiler.Section.LIGHTING);
             lightingManager.render(Main.getBatch(), camera, playerX, playerY);
+            profiler.end(FrameProfiler.Section.LIGHTING);
 
             Main.getBatch().end();
+            profiler.setWorldRenderCalls(Main.getBatch().renderCalls);
 
             if (App.isBlackAndWhiteEnabled()) {
                 grayscaleShader.disable(Main.getBatch());
             }
 
+            profiler.begin(FrameProfiler.Section.HUD);
             gameHUD.render();
+            profiler.end(FrameProfiler.Section.HUD);
         }
 
         stage.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
         stage.draw();
+
+        profiler.setEntityCounts(controller.getEnemyController().getEnemyStore().size,
+            controller.getWeaponController().getBullets().size());
+        profiler.setBulletPoolCounts(controller.getWeaponController().getBulletPool().getCreatedCount(),
+            controller.getWeaponController().getBulletPool().getReusedCount());
+        profiler.endFrame(Main.getBatch());
+        profiler.render(Main.getBatch());
     }
 
     private void showLevelUpWindow() {
@@ -137,7 +161,7 @@ public class GameView implements Screen, InputProcessor {
 
         levelUpWindow = new LevelUpWindow(
             skin,
-            controller.getPlayerController().getPlayer(),
+            controller::applyUpgrade,
             stage,
             this::resumeGame
         );
@@ -190,6 +214,7 @@ public class GameView implements Screen, InputProcessor {
 
     private void giveUpGame() {
         gameIsPaused = false;
+        controller.deleteSavedGame();
 
         if (App.getLoggedInUser() != null) {
             App.getLoggedInUser().setDeaths(App.getLoggedInUser().getDeaths() + 1);
@@ -209,6 +234,7 @@ public class GameView implements Screen, InputProcessor {
     private void saveAndExitGame() {
         if (App.getLoggedInUser() != null && !App.getLoggedInUser().isGuest()) {
             controller.saveGame();
+            AutoSaver.getInstance().flush();
 
             Gdx.app.log("GameView", "Game saved via GameController");
         }
@@ -236,6 +262,9 @@ public class GameView implements Screen, InputProcessor {
 
     @Override
     public void hide() {
+        // Every way out of a run replaces this screen, so the map can go
+        GameAssetManager.getGameAssetManager().unloadGroup(AssetGroup.GAME);
+        controller.finishRecording(Gdx.files.local(LAST_REPLAY));
     }
 
     @Override
@@ -246,9 +275,6 @@ public class GameView implements Screen, InputProcessor {
         if (gameHUD != null) {
             gameHUD.dispose();
         }
-        if (mapTexture != null) {
-            mapTexture.dispose();
-        }
         if (levelUpWindow != null) {
             levelUpWindow.dispose();
         }
@@ -259,6 +285,15 @@ public class GameView implements Screen, InputProcessor {
 
     @Override
     public boolean keyDown(int keycode) {
+        if (keycode == com.badlogic.gdx.Input.Keys.F3) {
+            profiler.toggle();
+            return true;
+        }
+        if (keycode == com.badlogic.gdx.Input.Keys.F4 && profiler.isEnabled()) {
+            profiler.exportCsv();
+            return true;
+        }
+
         if (!gameIsPaused) {
             if (keycode == com.badlogic.gdx.Input.Keys.ESCAPE) {
                 showPauseMenu();
@@ -295,10 +330,9 @@ public class GameView implements Screen, InputProcessor {
     @Override
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
         if (!gameIsPaused) {
-            Vector3 worldCoords = new Vector3(screenX, screenY, 0);
-            camera.unproject(worldCoords);
+            camera.unproject(worldCoords.set(screenX, screenY, 0));
 
-            controller.getWeaponController().handleWeaponShoot((int) worldCoords.x, (int) worldCoords.y);
+            controller.shoot((int) worldCoords.x, (int) worldCoords.y);
         }
         return false;
     }
@@ -321,8 +355,7 @@ public class GameView implements Screen, InputProcessor {
     @Override
     public boolean mouseMoved(int screenX, int screenY) {
         if (!gameIsPaused) {
-            Vector3 worldCoords = new Vector3(screenX, screenY, 0);
-            camera.unproject(worldCoords);
+            camera.unproject(worldCoords.set(screenX, screenY, 0));
 
             controller.getWeaponController().handleWeaponRotation((int) worldCoords.x, (int) worldCoords.y);
         }
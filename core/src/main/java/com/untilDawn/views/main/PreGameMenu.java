@@ -18,6 +18,7 @@ import com.untilDawn.Main;
 import com.untilDawn.controllers.PreGameMeuController;
 import com.untilDawn.models.enums.Characters;
 import com.untilDawn.models.enums.Weapons;
+import com.untilDawn.models.utils.AssetGroup;
 import com.untilDawn.models.utils.GameAssetManager;
 import com.untilDawn.models.utils.UIHelper;
 
@@ -77,9 +78,13 @@ public class PreGameMenu implements Screen {
         this.controller = new PreGameMeuController();
         controller.setView(this);
 
-        this.selectorTexture = new Texture(Gdx.files.internal("Images/selectorBubble/SelectorBubble1.png"));
-        this.selectorHighlightTexture = new Texture(Gdx.files.internal("Images/selectorBubble/SelectorBubble1.png"));
-        this.panelTexture = new Texture(Gdx.files.internal("Images/SelectScreenPanel.png"));
+        GameAssetManager.getGameAssetManager().finishLoadingGroup(AssetGroup.PRE_GAME);
+        // Start on the game's assets while the player is choosing, so starting the run doesn't stall
+        GameAssetManager.getGameAssetManager().loadGroup(AssetGroup.GAME);
+
+        this.selectorTexture = GameAssetManager.getGameAssetManager().getTexture("Images/selectorBubble/SelectorBubble1.png");
+        this.selectorHighlightTexture = selectorTexture;
+        this.panelTexture = GameAssetManager.getGameAssetManager().getTexture("Images/SelectScreenPanel.png");
 
         createCharacterAnimations();
         createUI();
@@ -530,6 +535,8 @@ public class PreGameMenu implements Screen {
 
     @Override
     public void hide() {
+        GameAssetManager.getGameAssetManager().unloadGroup(AssetGroup.PRE_GAME);
+        GameAssetManager.getGameAssetManager().unloadGroup(AssetGroup.GAME);
     }
 
     @Override
@@ -537,16 +544,6 @@ public class PreGameMenu implements Screen {
         if (stage != null) {
             stage.dispose();
         }
-        if (selectorTexture != null) {
-            selectorTexture.dispose();
-        }
-        if (selectorHighlightTexture != null) {
-            selectorHighlightTexture.dispose();
-        }
-        if (panelTexture != null) {
-            panelTexture.dispose();
-        }
-
         if (characterAnimations != null) {
             for (Animation<TextureRegion> animation : characterAnimations) {
                 if (animation != null) {
@@ -17,9 +17,10 @@ import com.untilDawn.models.App;
 import com.untilDawn.models.User;
 import com.untilDawn.models.enums.Language;
 import com.untilDawn.models.utils.GameAssetManager;
+import com.untilDawn.models.utils.Leaderboard;
 import com.untilDawn.models.utils.UIHelper;
 
-import java.util.ArrayList;
+import java.util.List;
 
 public class ScoreBoardMenu implements Screen {
     // Colors for visual distinction
@@ -43,7 +44,7 @@ public class ScoreBoardMenu implements Screen {
     private TextButton sortBySurvivalTimeButton;
     private TextButton backButton;
     // Current sort state
-    private SortType currentSort = SortType.SCORE;
+    private Leaderboard.Stat currentSort = Leaderboard.Stat.SCORE;
     private boolean ascending = false;
 
     public ScoreBoardMenu(Skin skin) {
@@ -122,7 +123,7 @@ public class ScoreBoardMenu implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 playClick();
-                sortBy(SortType.SCORE);
+                sortBy(Leaderboard.Stat.SCORE);
             }
         });
 
@@ -130,7 +131,7 @@ public class ScoreBoardMenu implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 playClick();
-                sortBy(SortType.USERNAME);
+                sortBy(Leaderboard.Stat.USERNAME);
             }
         });
 
@@ -138,7 +139,7 @@ public class ScoreBoardMenu implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 playClick();
-                sortBy(SortType.KILLS);
+                sortBy(Leaderboard.Stat.KILLS);
             }
         });
 
@@ -146,7 +147,7 @@ public class ScoreBoardMenu implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 playClick();
-                sortBy(SortType.SURVIVAL_TIME);
+                sortBy(Leaderboard.Stat.SURVIVAL_TIME);
             }
         });
 
@@ -186,27 +187,21 @@ public class ScoreBoardMenu implements Screen {
         // Create header
         createLeaderboardHeader();
 
-        // Get all users
-        ArrayList<User> users = new ArrayList<User>(App.getUsers().values());
-
-        // Filter out guest users
-        users.removeIf(User::isGuest);
-
-        // Sort users based on current sort type
-        sortUsers(users);
-
-        // Display top 10 users
+        Leaderboard leaderboard = Leaderboard.getInstance();
         User currentUser = App.getLoggedInUser();
-        int displayCount = Math.min(10, users.size());
 
-        for (int i = 0; i < displayCount; i++) {
-            User user = users.get(i);
-            createUserRow(user, i + 1, user.equals(currentUser));
+        // Display top 10 users
+        List<String> topUsernames = leaderboard.top(currentSort, ascending, 10);
+        for (int i = 0; i < topUsernames.size(); i++) {
+            User user = App.getUser(topUsernames.get(i));
+            if (user != null) {
+                createUserRow(user, i + 1, user.equals(currentUser));
+            }
         }
 
         // If current user is not in top 10, show them separately
         if (currentUser != null && !currentUser.isGuest()) {
-            int currentUserRank = users.indexOf(currentUser) + 1;
+            int currentUserRank = leaderboard.rankOf(currentSort, ascending, currentUser.getUsername());
             if (currentUserRank > 10) {
                 // Add separator
                 leaderboardTable.add(new Label("...", skin)).colspan(6).padTop(20).padBottom(20).row();
@@ -332,32 +327,7 @@ public class ScoreBoardMenu implements Screen {
         }
     }
 
-    private void sortUsers(ArrayList<User> users) {
-        switch (currentSort) {
-            case SCORE:
-                users.sort((a, b) -> ascending ?
-                    Integer.compare(a.getScore(), b.getScore()) :
-                    Integer.compare(b.getScore(), a.getScore()));
-                break;
-            case USERNAME:
-                users.sort((a, b) -> ascending ?
-                    a.getUsername().compareToIgnoreCase(b.getUsername()) :
-                    b.getUsername().compareToIgnoreCase(a.getUsername()));
-                break;
-            case KILLS:
-                users.sort((a, b) -> ascending ?
-                    Integer.compare(a.getKills(), b.getKills()) :
-                    Integer.compare(b.getKills(), a.getKills()));
-                break;
-            case SURVIVAL_TIME:
-                users.sort((a, b) -> ascending ?
-                    Float.compare(a.getSurvivalTime(), b.getSurvivalTime()) :
-                    Float.compare(b.getSurvivalTime(), a.getSurvivalTime()));
-                break;
-        }
-    }
-
-    private void sortBy(SortType sortType) {
+    private void sortBy(Leaderboard.Stat sortType) {
         if (currentSort == sortType) {
             ascending = !ascending;
         } else {
@@ -451,9 +421,4 @@ public class ScoreBoardMenu implements Screen {
             stage.dispose();
         }
     }
-
-    // Enum for sort types
-    private enum SortType {
-        SCORE, USERNAME, KILLS, SURVIVAL_TIME
-    }
 }
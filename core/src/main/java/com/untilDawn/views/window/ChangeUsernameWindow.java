@@ -105,7 +105,7 @@ public class ChangeUsernameWindow extends Window {
         User currentUser = App.getLoggedInUser();
         if (currentUser != null) {
 
-            App.getUser(username).setUsername(newUserTextField.getText());
+            App.renameUser(currentUser, username);
             App.save();
         }
 
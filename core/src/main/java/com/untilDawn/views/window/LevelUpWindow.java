@@ -16,16 +16,16 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.untilDawn.Main;
 import com.untilDawn.models.App;
-import com.untilDawn.models.Player;
 import com.untilDawn.models.enums.Abilities;
 import com.untilDawn.models.utils.GameAssetManager;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class LevelUpWindow extends Window {
-    private final Player player;
+    private final Consumer<Abilities> applyUpgrade;
     private final Stage gameStage;
     private final Runnable onAbilitySelected;
 
@@ -48,9 +48,9 @@ public class LevelUpWindow extends Window {
 
     private float animationTime = 0f;
 
-    public LevelUpWindow(Skin skin, Player player, Stage gameStage, Runnable onAbilitySelected) {
+    public LevelUpWindow(Skin skin, Consumer<Abilities> applyUpgrade, Stage gameStage, Runnable onAbilitySelected) {
         super("", skin);
-        this.player = player;
+        this.applyUpgrade = applyUpgrade;
         this.gameStage = gameStage;
         this.onAbilitySelected = onAbilitySelected;
 
@@ -458,7 +458,7 @@ public class LevelUpWindow extends Window {
         if (currentSelectedIndex >= 0 && currentSelectedIndex < selectedAbilities.size()) {
             Abilities selectedAbility = selectedAbilities.get(currentSelectedIndex);
             playClickSound();
-            applyAbilityToPlayer(selectedAbility);
+            applyUpgrade.accept(selectedAbility);
             closeWindow();
         }
     }
@@ -502,48 +502,6 @@ public class LevelUpWindow extends Window {
         }
     }
 
-    private void applyAbilityToPlayer(Abilities ability) {
-        Gdx.app.log("LevelUpWindow", "Applying ability: " + ability.getName());
-
-        switch (ability) {
-            case VITALITY:
-                player.applyVitality();
-                break;
-
-            case DAMAGER:
-                ability.activate();
-                player.activateDamager();
-                break;
-
-            case PROCREASE:
-                player.applyProcrease();
-                break;
-
-            case AMOCREASE:
-                player.applyAmocrease();
-                break;
-
-            case SPEEDY:
-                ability.activate();
-                player.activateSpeedy();
-                break;
-
-            case REGENERATION:
-                player.enableRegeneration();
-                break;
-
-            case SHIELD:
-                ability.activate();
-                player.activateShield();
-                break;
-
-            case MULTISHOT:
-                ability.activate();
-                player.activateMultishot();
-                break;
-        }
-    }
-
     private void closeWindow() {
         addAction(Actions.sequence(
             Actions.parallel(
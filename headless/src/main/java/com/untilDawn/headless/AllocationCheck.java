@@ -0,0 +1,105 @@
+package com.untilDawn.headless;
+
+import com.untilDawn.models.utils.BulletPool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Runs a headless session and fails, with exit code 1, if the simulation allocates more than a
+ * set number of bytes per step once it has warmed up. Spawning enemies and firing bullets still
+ * allocate, so the budget is an average over the session rather than zero. Bullets, on the
+ * other hand, come from a pool, so the check also fails if the pool creates any new ones after
+ * the warm-up.
+ * <p>
+ * Takes the usual session options plus {@code --warmup <seconds>} and
+ * {@code --budget <bytes per step>}, e.g. {@code --minutes 1 --immortal --budget 256}.
+ */
+public class AllocationCheck {
+    private static final float DEFAULT_WARMUP_SECONDS = 10f;
+    private static final long DEFAULT_BUDGET_BYTES_PER_STEP = 256;
+
+    public static void main(String[] args) {
+        float warmupSeconds = DEFAULT_WARMUP_SECONDS;
+        long budget = DEFAULT_BUDGET_BYTES_PER_STEP;
+
+        String[] sessionArgs = new String[args.length];
+        int sessionArgCount = 0;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--warmup":
+                    warmupSeconds = Float.parseFloat(args[++i]);
+                    break;
+                case "--budget":
+                    budget = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    sessionArgs[sessionArgCount++] = args[i];
+            }
+        }
+        SessionOptions options = SessionOptions.parse(Arrays.copyOf(sessionArgs, sessionArgCount));
+
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+
+        HeadlessGame.initBackend(options.verbose);
+        long bytesPerStep;
+        int bulletsCreated;
+        try {
+            HeadlessGame game = new HeadlessGame(options);
+            while (!game.isFinished() && game.getController().getGameTime() < warmupSeconds) {
+                game.step();
+            }
+
+            BulletPool bulletPool = game.getController().getWeaponController().getBulletPool();
+            int bulletsBefore = bulletPool.getCreatedCount();
+            int warmupSteps = game.getSteps();
+            long allocatedBefore = allocatedBytes(threads);
+            while (!game.isFinished()) {
+                game.step();
+            }
+            long allocated = allocatedBytes(threads) - allocatedBefore;
+            int measuredSteps = game.getSteps() - warmupSteps;
+            bulletsCreated = bulletPool.getCreatedCount() - bulletsBefore;
+            System.out.printf(Locale.ROOT, "Bullet pool: %d created during warm-up, %d after, %d reused%n",
+                bulletsBefore, bulletsCreated, bulletPool.getReusedCount());
+            game.dispose();
+
+            bytesPerStep = measuredSteps == 0 ? 0 : allocated / measuredSteps;
+            System.out.printf(Locale.ROOT, "Allocated %.1f MB over %d steps after %.0fs of warm-up: %d bytes per step, budget %d%n",
+                allocated / (1024.0 * 1024.0), measuredSteps, warmupSeconds, bytesPerStep, budget);
+        } finally {
+            HeadlessGame.shutdownBackend();
+        }
+
+        if (bytesPerStep > budget) {
+            System.err.println("Allocation budget exceeded");
+            System.exit(1);
+        }
+        if (bulletsCreated > 0) {
+            System.err.println("Bullet pool kept growing after warm-up");
+            System.exit(1);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)
+            || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("This JVM can't count allocated bytes per thread");
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    // Summed over every live thread, so enemy updates running on the common pool count too
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads) {
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) total += bytes;
+        }
+        return total;
+    }
+}
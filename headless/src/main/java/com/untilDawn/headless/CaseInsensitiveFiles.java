@@ -0,0 +1,97 @@
+package com.untilDawn.headless;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+
+/**
+ * Resolves internal paths case-insensitively. Asset paths in code don't always match the
+ * case on disk; that goes unnoticed on Windows and macOS but breaks on a Linux CI box.
+ */
+class CaseInsensitiveFiles implements Files {
+    private final Files delegate;
+
+    CaseInsensitiveFiles(Files delegate) {
+        this.delegate = delegate;
+    }
+
+    private String resolve(String path) {
+        File exact = new File(path);
+        if (exact.exists()) return path;
+
+        File current = new File(".");
+        StringBuilder resolved = new StringBuilder();
+        for (String part : path.replace('\\', '/').split("/")) {
+            if (part.isEmpty()) continue;
+
+            String match = null;
+            String[] children = current.list();
+            if (children != null) {
+                for (String child : children) {
+                    if (child.equalsIgnoreCase(part)) {
+                        match = child;
+                        break;
+                    }
+                }
+            }
+            if (match == null) return path;
+
+            if (resolved.length() > 0) resolved.append('/');
+            resolved.append(match);
+            current = new File(current, match);
+        }
+        return resolved.toString();
+    }
+
+    @Override
+    public FileHandle getFileHandle(String path, FileType type) {
+        if (type == FileType.Internal) return internal(path);
+        return delegate.getFileHandle(path, type);
+    }
+
+    @Override
+    public FileHandle classpath(String path) {
+        return delegate.classpath(path);
+    }
+
+    @Override
+    public FileHandle internal(String path) {
+        return delegate.internal(resolve(path));
+    }
+
+    @Override
+    public FileHandle external(String path) {
+        return delegate.external(path);
+    }
+
+    @Override
+    public FileHandle absolute(String path) {
+        return delegate.absolute(path);
+    }
+
+    @Override
+    public FileHandle local(String path) {
+        return delegate.local(path);
+    }
+
+    @Override
+    public String getExternalStoragePath() {
+        return delegate.getExternalStoragePath();
+    }
+
+    @Override
+    public boolean isExternalStorageAvailable() {
+        return delegate.isExternalStorageAvailable();
+    }
+
+    @Override
+    public String getLocalStoragePath() {
+        return delegate.getLocalStoragePath();
+    }
+
+    @Override
+    public boolean isLocalStorageAvailable() {
+        return delegate.isLocalStorageAvailable();
+    }
+}
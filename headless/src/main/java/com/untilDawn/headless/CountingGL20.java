@@ -0,0 +1,63 @@
+package com.untilDawn.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+/**
+ * Wraps another GL20 and counts the calls that create GPU objects: shaders, programs and
+ * buffers. Everything is passed on to the wrapped GL unchanged.
+ */
+final class CountingGL20 {
+    private final GL20 gl;
+    private int shaders;
+    private int programs;
+    private int buffers;
+
+    CountingGL20(GL20 delegate) {
+        this.gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "glCreateShader":
+                        shaders++;
+                        break;
+                    case "glCreateProgram":
+                        programs++;
+                        break;
+                    case "glGenBuffer":
+                        buffers++;
+                        break;
+                    case "glGenBuffers":
+                        buffers += (Integer) args[0];
+                        break;
+                    default:
+                        break;
+                }
+                try {
+                    return method.invoke(delegate, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    GL20 getGL() {
+        return gl;
+    }
+
+    int getCreated() {
+        return shaders + programs + buffers;
+    }
+
+    void reset() {
+        shaders = 0;
+        programs = 0;
+        buffers = 0;
+    }
+
+    @Override
+    public String toString() {
+        return shaders + " shaders, " + programs + " programs, " + buffers + " buffers";
+    }
+}
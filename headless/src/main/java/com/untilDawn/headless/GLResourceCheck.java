@@ -0,0 +1,75 @@
+package com.untilDawn.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.untilDawn.Main;
+import com.untilDawn.controllers.GameController;
+import com.untilDawn.models.ElderBoss;
+import com.untilDawn.views.GameHUD;
+
+/**
+ * Draws the HUD through a GL that counts created shaders, programs and buffers, with the Elder's
+ * barrier up and in view, and fails with exit code 1 if any frame after the first creates one.
+ * Run from the assets directory, e.g. {@code ./gradlew headless:glResourceCheck}.
+ */
+public class GLResourceCheck {
+    private static final int FRAMES = 120;
+
+    public static void main(String[] args) {
+        SessionOptions options = SessionOptions.parse(args);
+
+        HeadlessGame.initBackend(options.verbose);
+        CountingGL20 counter = new CountingGL20(Gdx.gl);
+        GL20 previousGL = Gdx.gl;
+        Gdx.gl = counter.getGL();
+        Gdx.gl20 = Gdx.gl;
+
+        int created;
+        try {
+            HeadlessGame game = new HeadlessGame(options);
+            GameController controller = game.getController();
+            controller.getEnemyController().forceSpawnElderBoss();
+            game.step();
+
+            ElderBoss elder = controller.getEnemyController().getElderBoss();
+            if (elder == null || !elder.isBarrierActive()) {
+                throw new IllegalStateException("The Elder's barrier didn't come up");
+            }
+
+            // Near the map's corner, so the barrier's left and bottom edges are on screen
+            OrthographicCamera camera = new OrthographicCamera(1280, 720);
+            camera.position.set(640, 360, 0);
+            camera.update();
+
+            SpriteBatch batch = new SpriteBatch();
+            Main.setBatch(batch);
+            GameHUD hud = new GameHUD(controller, camera);
+
+            // The first frame may still set things up
+            hud.render();
+            counter.reset();
+            for (int frame = 0; frame < FRAMES && !game.isFinished(); frame++) {
+                game.step();
+                hud.render();
+            }
+            created = counter.getCreated();
+            System.out.println("GL objects created over " + FRAMES + " HUD frames after the first: " + counter);
+
+            hud.dispose();
+            Main.setBatch(null);
+            batch.dispose();
+            game.dispose();
+        } finally {
+            Gdx.gl = previousGL;
+            Gdx.gl20 = previousGL;
+            HeadlessGame.shutdownBackend();
+        }
+
+        if (created > 0) {
+            System.err.println("The HUD creates GL objects every frame");
+            System.exit(1);
+        }
+    }
+}
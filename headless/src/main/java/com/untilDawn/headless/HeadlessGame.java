@@ -0,0 +1,167 @@
+package com.untilDawn.headless;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.untilDawn.controllers.GameController;
+import com.untilDawn.models.App;
+import com.untilDawn.models.Game;
+import com.untilDawn.models.Player;
+import com.untilDawn.models.User;
+import com.untilDawn.models.utils.AssetGroup;
+import com.untilDawn.models.utils.GameAssetManager;
+import com.untilDawn.models.utils.SessionReplay;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * A full game session without a window: the real controllers run one fixed step at a time
+ * on the calling thread, driven by {@link ScriptedPlayer} or a {@link SessionReplay}, and
+ * nothing is ever rendered.
+ */
+public class HeadlessGame {
+    private static HeadlessApplication application;
+
+    private final SessionOptions options;
+    private final GameController controller;
+    private final ScriptedInput input = new ScriptedInput();
+    private final ScriptedPlayer scriptedPlayer;
+    private final SessionReplay replay;
+
+    private int steps = 0;
+    private int peakEnemies = 0;
+
+    /**
+     * Brings up the headless backend (files, audio and input mocks) with a GL that does
+     * nothing, so asset loading in constructors works. Safe to call more than once.
+     */
+    public static synchronized void initBackend(boolean verbose) {
+        if (application != null) return;
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // The backend's own loop only idles; sessions are stepped by the caller
+        configuration.updatesPerSecond = 1;
+        application = new HeadlessApplication(new ApplicationAdapter() {
+        }, configuration);
+
+        Gdx.files = new CaseInsensitiveFiles(Gdx.files);
+        Gdx.gl = NullGL20.create();
+        Gdx.gl20 = Gdx.gl;
+        Gdx.app.setLogLevel(verbose ? Application.LOG_INFO : Application.LOG_ERROR);
+
+        // There is no loading screen to spread this over frames
+        GameAssetManager.getGameAssetManager().finishLoading();
+    }
+
+    public static synchronized void shutdownBackend() {
+        if (application != null) {
+            application.exit();
+            application = null;
+        }
+    }
+
+    public HeadlessGame(SessionOptions options) {
+        this.options = options;
+
+        App.setLoggedInUser(new User());
+
+        Game game;
+        if (options.replayFile != null) {
+            try {
+                replay = SessionReplay.load(file(options.replayFile));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Can't read replay " + options.replayFile + ": " + e.getMessage(), e);
+            }
+            game = replay.createGame();
+            App.setAutoReloadEnabled(replay.isAutoReload());
+        } else {
+            replay = null;
+            game = new Game(options.minutes, options.seed);
+            game.setPlayer(new Player(options.character));
+            game.setSelectedWeapon(options.weapon);
+        }
+        App.setGame(game);
+
+        GameAssetManager.getGameAssetManager().finishLoadingGroup(AssetGroup.GAME);
+        this.controller = new GameController();
+        this.controller.setInput(replay != null ? replay : input);
+        this.scriptedPlayer = new ScriptedPlayer(options.seed);
+
+        if (options.recordFile != null) {
+            controller.startRecording();
+        }
+    }
+
+    private static FileHandle file(String path) {
+        return Gdx.files.absolute(new File(path).getAbsolutePath());
+    }
+
+    public void step() {
+        Player player = controller.getPlayerController().getPlayer();
+        if (options.immortal) {
+            player.setPlayerHealth(player.getMaxHealth());
+        }
+
+        if (replay != null) {
+            try {
+                replay.applyTick(controller);
+            } catch (IOException e) {
+                throw new IllegalStateException("Replay is damaged at step " + steps, e);
+            }
+        } else {
+            scriptedPlayer.apply(steps, controller, input);
+        }
+        controller.simulate(GameController.SIMULATION_STEP);
+        input.endStep();
+
+        steps++;
+        peakEnemies = Math.max(peakEnemies, controller.getEnemyController().getEnemyStore().size);
+    }
+
+    public boolean isFinished() {
+        return controller.isGameOver() || (replay != null && !replay.hasNextTick());
+    }
+
+    public SessionReport run() {
+        long start = System.nanoTime();
+        while (!isFinished()) {
+            step();
+        }
+        long end = System.nanoTime();
+
+        if (options.recordFile != null) {
+            controller.finishRecording(file(options.recordFile));
+        }
+
+        SessionReport report = new SessionReport();
+        report.steps = steps;
+        report.simulatedSeconds = controller.getGameTime();
+        report.wallNanos = end - start;
+        report.kills = controller.getPlayerController().getPlayer().getKills();
+        report.shotsFired = replay != null ? replay.getShotsFired() : scriptedPlayer.getShotsFired();
+        report.peakEnemies = peakEnemies;
+        report.bulletsCreated = controller.getWeaponController().getBulletPool().getCreatedCount();
+        report.bulletsReused = controller.getWeaponController().getBulletPool().getReusedCount();
+        report.playerDied = controller.getPlayerController().getPlayer().getPlayerHealth() <= 0;
+        report.replayEnded = !controller.isGameOver();
+        return report;
+    }
+
+    public GameController getController() {
+        return controller;
+    }
+
+    public int getSteps() {
+        return steps;
+    }
+
+    public void dispose() {
+        controller.dispose();
+        App.setGame(null);
+        GameAssetManager.getGameAssetManager().unloadGroup(AssetGroup.GAME);
+    }
+}
@@ -0,0 +1,22 @@
+package com.untilDawn.headless;
+
+/**
+ * Runs a game session with no window or GPU as fast as the simulation allows and prints
+ * throughput. Run from the assets directory, e.g. {@code ./gradlew headless:run --args="--minutes 20"}.
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        SessionOptions options = SessionOptions.parse(args);
+
+        HeadlessGame.initBackend(options.verbose);
+        try {
+            HeadlessGame game = new HeadlessGame(options);
+            SessionReport report = game.run();
+            game.dispose();
+
+            System.out.println(report);
+        } finally {
+            HeadlessGame.shutdownBackend();
+        }
+    }
+}
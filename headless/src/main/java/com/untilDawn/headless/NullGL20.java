@@ -0,0 +1,78 @@
+package com.untilDawn.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A GL20 that accepts every call and draws nothing. Textures "upload" into the void and
+ * shaders report a successful compile and link, so game code that builds GPU resources in
+ * its constructors runs unchanged without a context.
+ */
+final class NullGL20 {
+    // GL treats 0 as "no object", so every created object gets a fresh non-zero name
+    private static final AtomicInteger nextName = new AtomicInteger(1);
+
+    private NullGL20() {
+    }
+
+    static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "glGetShaderiv":
+                    case "glGetProgramiv":
+                        // GL_COMPILE_STATUS / GL_LINK_STATUS and friends: report success
+                        fill((IntBuffer) args[2], 1);
+                        return null;
+                    case "glGetIntegerv":
+                        fill((IntBuffer) args[1], 0);
+                        return null;
+                    case "glGetShaderInfoLog":
+                    case "glGetProgramInfoLog":
+                    case "glGetString":
+                    case "glGetActiveAttrib":
+                    case "glGetActiveUniform":
+                        return "";
+                    case "glCreateShader":
+                    case "glCreateProgram":
+                    case "glGenBuffer":
+                    case "glGenTexture":
+                    case "glGenFramebuffer":
+                    case "glGenRenderbuffer":
+                        return nextName.getAndIncrement();
+                    case "glGetAttribLocation":
+                    case "glGetUniformLocation":
+                        // Every name exists, so pedantic shader programs accept their uniforms
+                        return 0;
+                    case "glCheckFramebufferStatus":
+                        return GL20.GL_FRAMEBUFFER_COMPLETE;
+                    case "glGetError":
+                        return GL20.GL_NO_ERROR;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+    }
+
+    private static void fill(IntBuffer buffer, int value) {
+        if (buffer != null && buffer.hasRemaining()) {
+            buffer.put(buffer.position(), value);
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == float.class) return 0f;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0d;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return (char) 0;
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.untilDawn.headless;
+
+import com.badlogic.gdx.utils.IntSet;
+import com.untilDawn.models.utils.GameInput;
+
+/**
+ * Keyboard state driven by code. Keys stay down until released; "just pressed" means down
+ * this step but not the previous one, matching what the controllers expect from
+ * {@code Gdx.input}.
+ */
+public class ScriptedInput implements GameInput {
+    private final IntSet pressed = new IntSet();
+    private final IntSet previous = new IntSet();
+
+    public void press(int keycode) {
+        pressed.add(keycode);
+    }
+
+    public void release(int keycode) {
+        pressed.remove(keycode);
+    }
+
+    public void releaseAll() {
+        pressed.clear();
+    }
+
+    /**
+     * Call after each simulation step so the next one can tell new presses from held keys.
+     */
+    public void endStep() {
+        previous.clear();
+        previous.addAll(pressed);
+    }
+
+    @Override
+    public boolean isKeyPressed(int keycode) {
+        return pressed.contains(keycode);
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int keycode) {
+        return pressed.contains(keycode) && !previous.contains(keycode);
+    }
+}
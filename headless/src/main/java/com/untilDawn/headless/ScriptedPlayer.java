@@ -0,0 +1,103 @@
+package com.untilDawn.headless;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.RandomXS128;
+import com.untilDawn.controllers.GameController;
+import com.untilDawn.controllers.WeaponController;
+import com.untilDawn.models.App;
+import com.untilDawn.models.Player;
+import com.untilDawn.models.enums.EnemyType;
+import com.untilDawn.models.utils.EnemyStore;
+
+import java.util.Map;
+
+/**
+ * A simple deterministic bot: wanders in one of eight directions, turning back towards the
+ * middle near the map edges, shoots at the closest enemy on a fixed cadence and reloads
+ * when empty. It exists to exercise the simulation, not to play well.
+ */
+public class ScriptedPlayer {
+    private static final int TURN_INTERVAL = 90;
+    private static final int FIRE_INTERVAL = 12;
+    private static final float EDGE_MARGIN = 250f;
+
+    private final RandomXS128 random;
+    private final int upKey;
+    private final int downKey;
+    private final int leftKey;
+    private final int rightKey;
+    private final int reloadKey;
+
+    private int moveX = 0;
+    private int moveY = 0;
+    private int shotsFired = 0;
+
+    public ScriptedPlayer(long seed) {
+        this.random = new RandomXS128(seed);
+
+        Map<String, String> keyBinds = App.getKeybinds();
+        this.upKey = Input.Keys.valueOf(keyBinds.get("Move Up"));
+        this.downKey = Input.Keys.valueOf(keyBinds.get("Move Down"));
+        this.leftKey = Input.Keys.valueOf(keyBinds.get("Move Left"));
+        this.rightKey = Input.Keys.valueOf(keyBinds.get("Move Right"));
+        this.reloadKey = Input.Keys.valueOf(keyBinds.get("Reload"));
+    }
+
+    public void apply(int step, GameController controller, ScriptedInput input) {
+        Player player = controller.getPlayerController().getPlayer();
+
+        if (step % TURN_INTERVAL == 0) {
+            moveX = random.nextInt(3) - 1;
+            moveY = random.nextInt(3) - 1;
+        }
+        steerAwayFromEdges(player, controller.getMapWidth(), controller.getMapHeight());
+
+        input.releaseAll();
+        if (moveY > 0) input.press(upKey);
+        if (moveY < 0) input.press(downKey);
+        if (moveX < 0) input.press(leftKey);
+        if (moveX > 0) input.press(rightKey);
+
+        WeaponController weaponController = controller.getWeaponController();
+        if (weaponController.getWeapon().getAmmo() <= 0 && !weaponController.isReloading()) {
+            input.press(reloadKey);
+        } else if (step % FIRE_INTERVAL == 0) {
+            fireAtClosestEnemy(controller, player);
+        }
+    }
+
+    private void steerAwayFromEdges(Player player, float mapWidth, float mapHeight) {
+        if (player.getPosX() < EDGE_MARGIN) moveX = 1;
+        if (player.getPosX() > mapWidth - EDGE_MARGIN) moveX = -1;
+        if (player.getPosY() < EDGE_MARGIN) moveY = 1;
+        if (player.getPosY() > mapHeight - EDGE_MARGIN) moveY = -1;
+    }
+
+    private void fireAtClosestEnemy(GameController controller, Player player) {
+        EnemyStore store = controller.getEnemyController().getEnemyStore();
+        int tree = EnemyType.TREE.ordinal();
+
+        int closest = -1;
+        float closestDistance = Float.MAX_VALUE;
+        for (int i = 0; i < store.size; i++) {
+            if (!store.isActive(i) || store.type[i] == tree) continue;
+
+            float dx = store.posX[i] - player.getPosX();
+            float dy = store.posY[i] - player.getPosY();
+            float distance = dx * dx + dy * dy;
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closest = i;
+            }
+        }
+
+        if (closest != -1) {
+            controller.shoot((int) store.posX[closest], (int) store.posY[closest]);
+            shotsFired++;
+        }
+    }
+
+    public int getShotsFired() {
+        return shotsFired;
+    }
+}
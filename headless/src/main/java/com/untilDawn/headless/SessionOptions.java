@@ -0,0 +1,61 @@
+package com.untilDawn.headless;
+
+import com.untilDawn.models.enums.Characters;
+import com.untilDawn.models.enums.Weapons;
+
+/**
+ * Command line options for a headless session, e.g.
+ * {@code --minutes 20 --seed 42 --character Dasher --weapon Shotgun --immortal}.
+ * <p>
+ * {@code --record <file>} writes the session's inputs to a replay file. {@code --replay <file>}
+ * plays one back instead of the scripted player, taking the seed, time limit, character and
+ * weapon from the file; {@code --immortal} isn't recorded and has to match the recording run.
+ */
+public class SessionOptions {
+    public int minutes = 20;
+    public long seed = 1L;
+    public Characters character = Characters.Shana;
+    public Weapons weapon = Weapons.Revolver;
+    // Keeps the player alive so a run always covers the full time limit
+    public boolean immortal = false;
+    public boolean verbose = false;
+    public String recordFile = null;
+    public String replayFile = null;
+
+    public static SessionOptions parse(String[] args) {
+        SessionOptions options = new SessionOptions();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--minutes":
+                    options.minutes = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    options.seed = Long.parseLong(args[++i]);
+                    break;
+                case "--character":
+                    options.character = Characters.valueOf(args[++i]);
+                    break;
+                case "--weapon":
+                    options.weapon = Weapons.valueOf(args[++i]);
+                    break;
+                case "--immortal":
+                    options.immortal = true;
+                    break;
+                case "--verbose":
+                    options.verbose = true;
+                    break;
+                case "--record":
+                    options.recordFile = args[++i];
+                    break;
+                case "--replay":
+                    options.replayFile = args[++i];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        return options;
+    }
+}
@@ -0,0 +1,39 @@
+package com.untilDawn.headless;
+
+import java.util.Locale;
+
+/**
+ * Outcome and throughput of one headless session.
+ */
+public class SessionReport {
+    public int steps;
+    public float simulatedSeconds;
+    public long wallNanos;
+    public int kills;
+    public int shotsFired;
+    public int peakEnemies;
+    public int bulletsCreated;
+    public int bulletsReused;
+    public boolean playerDied;
+    // Set when a replay ran out before the game ended, e.g. one recorded from a game that was quit
+    public boolean replayEnded;
+
+    public double getStepsPerSecond() {
+        return wallNanos == 0 ? 0 : steps / (wallNanos / 1e9);
+    }
+
+    public double getSpeedup() {
+        return wallNanos == 0 ? 0 : simulatedSeconds / (wallNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+            "Simulated %.1fs in %.2fs (%d steps, %.0f steps/s, %.1fx real time)%n" +
+                "Ended by %s - kills: %d, shots: %d, peak enemies: %d%n" +
+                "Bullet pool: %d created, %d reused",
+            simulatedSeconds, wallNanos / 1e9, steps, getStepsPerSecond(), getSpeedup(),
+            playerDied ? "death" : replayEnded ? "end of replay" : "time limit", kills, shotsFired, peakEnemies,
+            bulletsCreated, bulletsReused);
+    }
+}